@@ -0,0 +1,71 @@
+package com.movesync.alert.domain.metadata;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-alert cost of the alerts.metadata column in each MetadataFormat: encode on save, decode on
+ * first access, and a load and save that never touches the metadata (LazyMetadataMap)
+ * The stored row size of each format is printed at setup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetadataCodecBenchmark {
+
+    @Param({"JSON", "SMILE", "SMILE_DICTIONARY"})
+    private MetadataFormat format;
+
+    private Map<String, Object> metadata;
+    private byte[] encoded;
+    private MetadataConverter converter;
+
+    @Setup
+    public void setUp() {
+        metadata = new LinkedHashMap<>();
+        metadata.put("speed", 112);
+        metadata.put("limit", 80);
+        metadata.put("location", "NH-48 km 212");
+        metadata.put("latitude", 12.9716);
+        metadata.put("longitude", 77.5946);
+        metadata.put("heading", 270);
+        metadata.put("tripId", "TRIP-20261015-0042");
+        metadata.put("source", "telematics");
+        metadata.put("gpsAccuracyMeters", 4.5);
+
+        encoded = MetadataCodec.encode(metadata, format);
+        converter = new MetadataConverter(format);
+        System.out.printf("%n%s: %d bytes per row%n", format, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return MetadataCodec.encode(metadata, format);
+    }
+
+    @Benchmark
+    public Map<String, Object> decode() {
+        return MetadataCodec.decode(encoded);
+    }
+
+    @Benchmark
+    public byte[] loadAndSaveUntouched() {
+        return converter.convertToDatabaseColumn(converter.convertToEntityAttribute(encoded));
+    }
+}
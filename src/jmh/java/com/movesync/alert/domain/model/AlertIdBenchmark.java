@@ -0,0 +1,144 @@
+package com.movesync.alert.domain.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Alert id generation, primary key insert and point lookup: random UUIDs stored as VARCHAR(255)
+ * (the previous schema) against time-ordered UUIDv7 stored in a native UUID column
+ * The table is pre-filled so inserts and lookups run against a B-tree several levels deep
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AlertIdBenchmark {
+
+    private static final int PREFILLED_ROWS = 200_000;
+
+    @Param({"RANDOM_VARCHAR", "V7_UUID"})
+    private IdScheme scheme;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private PreparedStatement lookup;
+    private Object[] existingIds;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:alert-ids-" + scheme, "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE alerts (alert_id " + scheme.columnType
+                + " PRIMARY KEY, driver_id VARCHAR(255), timestamp TIMESTAMP(6))");
+        }
+        insert = connection.prepareStatement("INSERT INTO alerts (alert_id, driver_id, timestamp) VALUES (?, ?, ?)");
+        lookup = connection.prepareStatement("SELECT driver_id FROM alerts WHERE alert_id = ?");
+
+        existingIds = new Object[PREFILLED_ROWS];
+        connection.setAutoCommit(false);
+        for (int i = 0; i < PREFILLED_ROWS; i++) {
+            existingIds[i] = scheme.nextKey();
+            bindInsert(existingIds[i]);
+            insert.addBatch();
+            if (i % 1000 == 999) {
+                insert.executeBatch();
+            }
+        }
+        insert.executeBatch();
+        connection.commit();
+        connection.setAutoCommit(true);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE alerts");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public String generate() {
+        return scheme.nextId();
+    }
+
+    @Benchmark
+    public int insert() throws SQLException {
+        bindInsert(scheme.nextKey());
+        return insert.executeUpdate();
+    }
+
+    @Benchmark
+    public String lookup() throws SQLException {
+        lookup.setObject(1, existingIds[ThreadLocalRandom.current().nextInt(PREFILLED_ROWS)]);
+        try (ResultSet rs = lookup.executeQuery()) {
+            return rs.next() ? rs.getString(1) : null;
+        }
+    }
+
+    private void bindInsert(Object key) throws SQLException {
+        insert.setObject(1, key);
+        insert.setString(2, "DRV-BENCH");
+        insert.setTimestamp(3, new Timestamp(System.currentTimeMillis()));
+    }
+
+    public enum IdScheme {
+        RANDOM_VARCHAR("VARCHAR(255)") {
+            @Override
+            String nextId() {
+                return UUID.randomUUID().toString();
+            }
+
+            @Override
+            Object nextKey() {
+                return nextId();
+            }
+        },
+        V7_UUID("UUID") {
+            @Override
+            String nextId() {
+                return UuidV7.nextString();
+            }
+
+            @Override
+            Object nextKey() {
+                return UuidV7.next();
+            }
+        };
+
+        private final String columnType;
+
+        IdScheme(String columnType) {
+            this.columnType = columnType;
+        }
+
+        /** Id in its API (string) form, as generated in Alert.onCreate */
+        abstract String nextId();
+
+        /** Id in the form bound to the key column */
+        abstract Object nextKey();
+    }
+}
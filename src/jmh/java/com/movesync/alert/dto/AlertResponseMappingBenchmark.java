@@ -0,0 +1,66 @@
+package com.movesync.alert.dto;
+
+import com.movesync.alert.domain.enums.AlertSeverity;
+import com.movesync.alert.domain.enums.AlertStatus;
+import com.movesync.alert.domain.enums.AlertType;
+import com.movesync.alert.domain.model.Alert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to response mapping, done once per alert on every read and list endpoint
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AlertResponseMappingBenchmark {
+
+    private Alert alert;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("speed", 112);
+        metadata.put("speedLimit", 80);
+        metadata.put("location", "NH-48 km 212");
+
+        alert = Alert.builder()
+            .alertId(UUID.randomUUID().toString())
+            .alertType(AlertType.OVERSPEEDING)
+            .severity(AlertSeverity.CRITICAL)
+            .status(AlertStatus.ESCALATED)
+            .timestamp(now.minusMinutes(5))
+            .driverId("DRV-BENCH")
+            .vehicleId("VEH-BENCH")
+            .routeId("RT-BENCH")
+            .metadata(metadata)
+            .escalatedAt(now)
+            .escalationReason("3 occurrences of OVERSPEEDING within 10 minutes (threshold: 3 in 60 minutes)")
+            .createdAt(now.minusMinutes(5))
+            .updatedAt(now)
+            .build();
+    }
+
+    @Benchmark
+    public AlertResponse fromEntity() {
+        return AlertResponse.fromEntity(alert);
+    }
+}
@@ -0,0 +1,63 @@
+package com.movesync.alert.engine;
+
+import com.movesync.alert.domain.enums.AlertType;
+import com.movesync.alert.domain.model.Alert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Auto-close evaluation of the oldest alert of a (driver, type) key with n repeats
+ *
+ * - fromAlertList: list-based evaluateAutoClose, O(n) scan for the latest repeat
+ * - fromLastOccurrence: evaluateAutoClose with the latest repeat already known (batch path)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AutoCloseBenchmark {
+
+    private static final AlertType ALERT_TYPE = AlertType.OVERSPEEDING;
+
+    @Param({"10", "1000", "100000"})
+    private int windowSize;
+
+    private RuleEngine ruleEngine;
+    private Alert alert;
+    private List<Alert> recentAlerts;
+    private LocalDateTime lastOccurrence;
+
+    @Setup
+    public void setUp() {
+        ruleEngine = new RuleEngine(RuleFixtures.ruleLoader());
+        int windowMinutes = ruleEngine.getAutoCloseWindowMinutes(ALERT_TYPE).orElseThrow();
+        recentAlerts = RuleFixtures.alertsInWindow(ALERT_TYPE, "DRV-BENCH", windowSize, windowMinutes);
+        alert = recentAlerts.get(0);
+        lastOccurrence = recentAlerts.get(recentAlerts.size() - 1).getTimestamp();
+    }
+
+    @Benchmark
+    public RuleEngine.AutoCloseDecision fromAlertList() {
+        return ruleEngine.evaluateAutoClose(alert, recentAlerts);
+    }
+
+    @Benchmark
+    public RuleEngine.AutoCloseDecision fromLastOccurrence() {
+        return ruleEngine.evaluateAutoClose(alert, lastOccurrence);
+    }
+}
@@ -0,0 +1,68 @@
+package com.movesync.alert.engine;
+
+import com.movesync.alert.domain.enums.AlertType;
+import com.movesync.alert.domain.model.Alert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Escalation evaluation over a window of n alerts of one (driver, type) key
+ *
+ * - fromAlertList: list-based evaluateEscalation, O(n) scan
+ * - fromWindowStore: SlidingWindowCounterStore snapshot plus the O(1) evaluateEscalation
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EscalationBenchmark {
+
+    private static final AlertType ALERT_TYPE = AlertType.OVERSPEEDING;
+    private static final String DRIVER_ID = "DRV-BENCH";
+
+    @Param({"10", "1000", "100000"})
+    private int windowSize;
+
+    private RuleEngine ruleEngine;
+    private SlidingWindowCounterStore windowStore;
+    private List<Alert> alerts;
+    private int windowMinutes;
+
+    @Setup
+    public void setUp() {
+        ruleEngine = new RuleEngine(RuleFixtures.ruleLoader());
+        windowMinutes = ruleEngine.getRuleForAlertType(ALERT_TYPE).orElseThrow().escalationWindowMinutes();
+        alerts = RuleFixtures.alertsInWindow(ALERT_TYPE, DRIVER_ID, windowSize, windowMinutes);
+
+        windowStore = new SlidingWindowCounterStore();
+        ReflectionTestUtils.setField(windowStore, "maxCapacity", windowSize);
+        for (Alert alert : alerts) {
+            windowStore.record(ALERT_TYPE, DRIVER_ID, alert.getAlertId(), alert.getTimestamp());
+        }
+    }
+
+    @Benchmark
+    public RuleEngine.EscalationDecision fromAlertList() {
+        return ruleEngine.evaluateEscalation(ALERT_TYPE, alerts);
+    }
+
+    @Benchmark
+    public RuleEngine.EscalationDecision fromWindowStore() {
+        return ruleEngine.evaluateEscalation(ALERT_TYPE, windowStore.snapshot(ALERT_TYPE, DRIVER_ID, windowMinutes));
+    }
+}
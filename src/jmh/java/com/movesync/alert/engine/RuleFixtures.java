@@ -0,0 +1,80 @@
+package com.movesync.alert.engine;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.movesync.alert.domain.enums.AlertSeverity;
+import com.movesync.alert.domain.enums.AlertStatus;
+import com.movesync.alert.domain.enums.AlertType;
+import com.movesync.alert.domain.model.Alert;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Shared benchmark fixtures: the packaged rules and synthetic alert windows
+ * Built without a Spring context so benchmarks measure the engine alone
+ */
+final class RuleFixtures {
+
+    private static final String RULES_FILE = "rules.json";
+
+    private RuleFixtures() {
+    }
+
+    /**
+     * Rule loader reading the packaged rules.json
+     */
+    static RuleLoader ruleLoader() {
+        RuleLoader loader = new RuleLoader(new DefaultResourceLoader() {
+            @Override
+            public Resource getResource(String location) {
+                return new ClassPathResource(RULES_FILE);
+            }
+        }, new ObjectMapper());
+        loader.loadRules();
+        return loader;
+    }
+
+    /**
+     * Raw rule maps of the packaged rules.json, as RuleLoader sees them before parsing
+     */
+    @SuppressWarnings("unchecked")
+    static List<Map<String, Object>> ruleData() {
+        try (InputStream in = new ClassPathResource(RULES_FILE).getInputStream()) {
+            Map<String, Object> config = new ObjectMapper().readValue(in, Map.class);
+            return (List<Map<String, Object>>) config.get("rules");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Open alerts of one (type, driver) key spread evenly over the last windowMinutes,
+     * oldest first; all stay inside the window for the length of a benchmark run
+     */
+    static List<Alert> alertsInWindow(AlertType alertType, String driverId, int count, int windowMinutes) {
+        LocalDateTime now = LocalDateTime.now();
+        long spanMillis = windowMinutes * 60_000L / 2;
+        List<Alert> alerts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long ageMillis = spanMillis - spanMillis * i / count;
+            alerts.add(Alert.builder()
+                .alertId(UUID.randomUUID().toString())
+                .alertType(alertType)
+                .severity(AlertSeverity.INFO)
+                .status(AlertStatus.OPEN)
+                .driverId(driverId)
+                .timestamp(now.minusNanos(ageMillis * 1_000_000L))
+                .build());
+        }
+        return alerts;
+    }
+}
@@ -0,0 +1,62 @@
+package com.movesync.alert.engine;
+
+import com.movesync.alert.domain.enums.AlertType;
+import com.movesync.alert.domain.model.EscalationRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rule lookup by alert type and the escalation threshold checks
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RuleLookupBenchmark {
+
+    private static final AlertType[] TYPES = AlertType.values();
+
+    private RuleEngine ruleEngine;
+    private CompiledRule compiledRule;
+    private EscalationRule escalationRule;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        RuleLoader loader = RuleFixtures.ruleLoader();
+        ruleEngine = new RuleEngine(loader);
+        compiledRule = loader.getRuleSet().ruleFor(AlertType.OVERSPEEDING).orElseThrow();
+        escalationRule = RuleLoader.parseRule(RuleFixtures.ruleData().get(0));
+    }
+
+    @Benchmark
+    public Optional<CompiledRule> ruleLookup() {
+        next = (next + 1) % TYPES.length;
+        return ruleEngine.getRuleForAlertType(TYPES[next]);
+    }
+
+    @Benchmark
+    public boolean compiledRuleShouldEscalate() {
+        next = (next + 1) & 7;
+        return compiledRule.shouldEscalate(next, next * 10L);
+    }
+
+    @Benchmark
+    public boolean escalationRuleShouldEscalate() {
+        next = (next + 1) & 7;
+        return escalationRule.shouldEscalate(next, next * 10L);
+    }
+}
@@ -0,0 +1,54 @@
+package com.movesync.alert.engine;
+
+import com.movesync.alert.domain.model.EscalationRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing and compiling the packaged rules (the work of a rules reload, minus file I/O)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RuleParseBenchmark {
+
+    private List<Map<String, Object>> ruleData;
+
+    @Setup
+    public void setUp() {
+        ruleData = RuleFixtures.ruleData();
+    }
+
+    @Benchmark
+    public void parseRule(Blackhole blackhole) {
+        for (Map<String, Object> data : ruleData) {
+            blackhole.consume(RuleLoader.parseRule(data));
+        }
+    }
+
+    @Benchmark
+    public CompiledRuleSet parseAndCompile() {
+        List<EscalationRule> rules = new ArrayList<>(ruleData.size());
+        for (Map<String, Object> data : ruleData) {
+            rules.add(RuleLoader.parseRule(data));
+        }
+        return CompiledRuleSet.compile(rules, 1, null);
+    }
+}
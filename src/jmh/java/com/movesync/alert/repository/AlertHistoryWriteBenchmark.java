@@ -0,0 +1,132 @@
+package com.movesync.alert.repository;
+
+import com.movesync.alert.domain.model.UuidV7;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * alert_history writes of one transaction (escalation window, auto-close batch, ingest batch):
+ * one round trip per row, as per-entity saves without JDBC batching issue them, against JDBC
+ * batches of hibernate.jdbc.batch_size rows (Hibernate batching and AlertHistoryJdbcRepository)
+ *
+ * Defaults to in-memory H2, where a round trip is only a method call; pass a networked database
+ * to see the full gain, e.g. -p jdbcUrl=jdbc:postgresql://localhost:5432/bench?user=...&password=...
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AlertHistoryWriteBenchmark {
+
+    private static final int BATCH_SIZE = 50;
+    private static final String INSERT_SQL =
+        "INSERT INTO alert_history_bench (history_id, alert_id, from_status, to_status, timestamp, reason, changed_by, event_type) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Param({"jdbc:h2:mem:history-writes"})
+    private String jdbcUrl;
+
+    @Param({"10", "200"})
+    private int rows;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private UUID[] alertIds;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(jdbcUrl);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS alert_history_bench");
+            statement.execute("CREATE TABLE alert_history_bench (history_id UUID PRIMARY KEY, alert_id UUID NOT NULL, " +
+                "from_status VARCHAR(20), to_status VARCHAR(20) NOT NULL, timestamp TIMESTAMP(6) NOT NULL, " +
+                "reason VARCHAR(1000), changed_by VARCHAR(100), event_type VARCHAR(50))");
+            statement.execute("CREATE INDEX idx_bench_alert_ts ON alert_history_bench (alert_id, timestamp)");
+        }
+        connection.setAutoCommit(false);
+        insert = connection.prepareStatement(INSERT_SQL);
+
+        alertIds = new UUID[rows];
+        for (int i = 0; i < rows; i++) {
+            alertIds[i] = UuidV7.next();
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE TABLE alert_history_bench");
+        }
+        connection.commit();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE alert_history_bench");
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    @Benchmark
+    public int rowByRow() throws SQLException {
+        int written = 0;
+        for (int i = 0; i < rows; i++) {
+            bind(i);
+            written += insert.executeUpdate();
+        }
+        connection.commit();
+        return written;
+    }
+
+    @Benchmark
+    public int batched() throws SQLException {
+        int written = 0;
+        for (int i = 0; i < rows; i++) {
+            bind(i);
+            insert.addBatch();
+            if ((i + 1) % BATCH_SIZE == 0) {
+                written += insert.executeBatch().length;
+            }
+        }
+        if (rows % BATCH_SIZE != 0) {
+            written += insert.executeBatch().length;
+        }
+        connection.commit();
+        return written;
+    }
+
+    private void bind(int row) throws SQLException {
+        insert.setObject(1, UuidV7.next());
+        insert.setObject(2, alertIds[row]);
+        insert.setString(3, "OPEN");
+        insert.setString(4, "ESCALATED");
+        insert.setTimestamp(5, new Timestamp(System.currentTimeMillis()));
+        insert.setString(6, "3 occurrences of OVERSPEEDING within 10 minutes (threshold: 3 in 60 minutes)");
+        insert.setString(7, "SYSTEM");
+        insert.setString(8, "ESCALATED");
+    }
+}
@@ -0,0 +1,121 @@
+package com.movesync.alert.repository;
+
+import com.movesync.alert.domain.enums.AlertSeverity;
+import com.movesync.alert.domain.enums.AlertStatus;
+import com.movesync.alert.domain.enums.AlertType;
+import com.movesync.alert.domain.model.Alert;
+import com.movesync.alert.dto.AlertResponse;
+import com.movesync.alert.repository.projection.AlertSummary;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Active-alert list read (GET /alerts/active): full entity hydration, including the
+ * metadata column, against the AlertSummary constructor-expression projection
+ * Each operation runs in a fresh read-only session, as one request does; run with -prof gc
+ * (the benchmark profile's default) for bytes allocated per list
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AlertListReadBenchmark {
+
+    private static final List<AlertStatus> ACTIVE_STATUSES = List.of(AlertStatus.OPEN, AlertStatus.ESCALATED);
+
+    @Param({"100", "1000"})
+    private int rows;
+
+    private SessionFactory sessionFactory;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+            .addAnnotatedClass(Alert.class)
+            // Same column names as the application (Spring Boot's default naming)
+            .setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy())
+            .setProperty(AvailableSettings.URL, "jdbc:h2:mem:alert-list-" + rows + ";DB_CLOSE_DELAY=-1")
+            .setProperty(AvailableSettings.USER, "sa")
+            .setProperty(AvailableSettings.PASS, "")
+            .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+            .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, "50")
+            .buildSessionFactory();
+
+        LocalDateTime now = LocalDateTime.now();
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < rows; i++) {
+                Map<String, Object> metadata = new HashMap<>();
+                metadata.put("speed", 100 + i % 40);
+                metadata.put("speedLimit", 80);
+                metadata.put("location", "NH-48 km " + i);
+                metadata.put("vehicleModel", "Tata Ultra T.7");
+                metadata.put("gpsAccuracyMeters", 4.5);
+
+                session.persist(Alert.builder()
+                    .alertType(AlertType.OVERSPEEDING)
+                    .severity(i % 3 == 0 ? AlertSeverity.CRITICAL : AlertSeverity.WARNING)
+                    .status(i % 3 == 0 ? AlertStatus.ESCALATED : AlertStatus.OPEN)
+                    .timestamp(now.minusMinutes(i))
+                    .driverId("DRV-" + i % 50)
+                    .vehicleId("VEH-" + i % 50)
+                    .routeId("RT-" + i % 10)
+                    .metadata(metadata)
+                    .escalatedAt(i % 3 == 0 ? now : null)
+                    .escalationReason(i % 3 == 0 ? "3 occurrences of OVERSPEEDING within 10 minutes" : null)
+                    .build());
+            }
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public List<AlertResponse> entities() {
+        try (Session session = sessionFactory.openSession()) {
+            session.setDefaultReadOnly(true);
+            return session.createQuery("SELECT a FROM Alert a WHERE a.status IN :statuses", Alert.class)
+                .setParameter("statuses", ACTIVE_STATUSES)
+                .getResultList().stream()
+                .map(AlertResponse::fromEntity)
+                .toList();
+        }
+    }
+
+    @Benchmark
+    public List<AlertResponse> projections() {
+        try (Session session = sessionFactory.openSession()) {
+            session.setDefaultReadOnly(true);
+            return session.createQuery(AlertRepository.SUMMARY_SELECT + "WHERE a.status IN :statuses", AlertSummary.class)
+                .setParameter("statuses", ACTIVE_STATUSES)
+                .getResultList().stream()
+                .map(AlertResponse::fromSummary)
+                .toList();
+        }
+    }
+}
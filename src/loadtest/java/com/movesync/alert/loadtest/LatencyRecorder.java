@@ -0,0 +1,46 @@
+package com.movesync.alert.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Records request latencies and reports percentiles
+ * Keeps every sample (8 bytes each), which is fine for runs of a few million requests
+ *
+ * Thread Safety: Recording is synchronized; contention is negligible next to an HTTP round trip
+ */
+class LatencyRecorder {
+
+    private long[] samples = new long[1 << 16];
+    private int size;
+
+    synchronized void record(long nanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+    }
+
+    synchronized int count() {
+        return size;
+    }
+
+    /**
+     * Sorted copy of the samples, for percentile lookups
+     */
+    synchronized long[] sorted() {
+        long[] copy = Arrays.copyOf(samples, size);
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    /**
+     * Nearest-rank percentile of sorted samples, in milliseconds
+     */
+    static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(rank, sorted.length) - 1)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,110 @@
+package com.movesync.alert.loadtest;
+
+import com.movesync.alert.domain.enums.AlertType;
+
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Load test settings parsed from --name=value arguments
+ * Unrecognised arguments are passed through to the application (e.g. --spring.datasource.url=...)
+ *
+ * @param drivers Number of distinct drivers alerts are spread over
+ * @param rate Target alerts per second outside bursts
+ * @param durationSeconds Measured run length
+ * @param warmupSeconds Unmeasured run length before the measurement starts
+ * @param concurrency Client threads sending requests
+ * @param mix Relative weight per alert type
+ * @param burstEverySeconds Start a burst every this many seconds (0 = steady rate)
+ * @param burstSeconds Length of each burst
+ * @param burstFactor Rate multiplier during a burst
+ * @param reportDir Directory the JSON report is written to
+ * @param applicationArgs Settings passed to the application, defaults overridden by the caller
+ */
+record LoadTestOptions(int drivers,
+                       double rate,
+                       int durationSeconds,
+                       int warmupSeconds,
+                       int concurrency,
+                       Map<AlertType, Integer> mix,
+                       int burstEverySeconds,
+                       int burstSeconds,
+                       double burstFactor,
+                       Path reportDir,
+                       Map<String, String> applicationArgs) {
+
+    private static final String DEFAULT_MIX = "OVERSPEEDING:40,HARSH_BRAKING:25,ROUTE_DEVIATION:15,"
+        + "FEEDBACK_NEGATIVE:10,COMPLIANCE_DOCUMENT_EXPIRY:5,MAINTENANCE_OVERDUE:5";
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        Map<String, String> applicationArgs = new LinkedHashMap<>();
+        // Embedded in-memory database, ephemeral port, short auto-close windows, quiet per-request logging
+        applicationArgs.put("server.port", "0");
+        applicationArgs.put("spring.datasource.url", "jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1");
+        applicationArgs.put("spring.h2.console.enabled", "false");
+        applicationArgs.put("alert.rules.config-path", "classpath:loadtest-rules.json");
+        applicationArgs.put("logging.level.com.movesync.alert", "WARN");
+
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (isOption(name)) {
+                options.put(name, value);
+            } else {
+                applicationArgs.put(name, value);
+            }
+        }
+
+        return new LoadTestOptions(
+            Integer.parseInt(options.getOrDefault("drivers", "200")),
+            Double.parseDouble(options.getOrDefault("rate", "200")),
+            Integer.parseInt(options.getOrDefault("duration", "120")),
+            Integer.parseInt(options.getOrDefault("warmup", "15")),
+            Integer.parseInt(options.getOrDefault("concurrency", "32")),
+            parseMix(options.getOrDefault("mix", DEFAULT_MIX)),
+            Integer.parseInt(options.getOrDefault("burst-every", "0")),
+            Integer.parseInt(options.getOrDefault("burst-seconds", "5")),
+            Double.parseDouble(options.getOrDefault("burst-factor", "5")),
+            Path.of(options.getOrDefault("report-dir", "benchmarks/results")),
+            applicationArgs);
+    }
+
+    /**
+     * Target rate at a point in the run, accounting for bursts
+     */
+    double rateAt(long elapsedSeconds) {
+        if (burstEverySeconds > 0 && elapsedSeconds % burstEverySeconds < burstSeconds) {
+            return rate * burstFactor;
+        }
+        return rate;
+    }
+
+    private static boolean isOption(String name) {
+        return switch (name) {
+            case "drivers", "rate", "duration", "warmup", "concurrency", "mix",
+                 "burst-every", "burst-seconds", "burst-factor", "report-dir" -> true;
+            default -> false;
+        };
+    }
+
+    private static Map<AlertType, Integer> parseMix(String mix) {
+        Map<AlertType, Integer> weights = new EnumMap<>(AlertType.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            int weight = parts.length > 1 ? Integer.parseInt(parts[1]) : 1;
+            if (weight > 0) {
+                weights.put(AlertType.valueOf(parts[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Alert type mix is empty: " + mix);
+        }
+        return weights;
+    }
+}
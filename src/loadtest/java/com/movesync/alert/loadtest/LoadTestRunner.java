@@ -0,0 +1,303 @@
+package com.movesync.alert.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.movesync.alert.IntelligentAlertSystemApplication;
+import com.movesync.alert.domain.enums.AlertStatus;
+import com.movesync.alert.domain.enums.AlertType;
+import com.movesync.alert.repository.AlertRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * End-to-end load test: boots the application in-process and replays synthetic fleet
+ * traffic through POST /api/v1/alerts, so every alert takes the full
+ * create -> evaluate -> escalate -> auto-close path
+ *
+ * Open-loop: requests are issued on a fixed schedule (with optional bursts) whether or not
+ * earlier ones finished, and latency is measured from the scheduled start, so a server that
+ * falls behind shows up in the percentiles instead of silently lowering the offered load.
+ *
+ * Reports p50/p99/p999 latency, sustained alerts/sec, JDBC executions per alert and retained
+ * heap growth, printed and written as JSON to the report directory.
+ *
+ * Usage: mvn -Ploadtest verify -Dloadtest.args="--drivers=500 --rate=300 --duration=300"
+ * Any other --name=value is passed to the application, e.g. a Postgres datasource URL.
+ */
+public final class LoadTestRunner {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final DateTimeFormatter REPORT_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final LoadTestOptions options;
+    private final URI alertsUri;
+    private final String token;
+    private final HttpClient httpClient;
+    private final AlertType[] typeTable;
+
+    private final LatencyRecorder latencies = new LatencyRecorder();
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private LoadTestRunner(LoadTestOptions options, URI baseUri, String token, HttpClient httpClient) {
+        this.options = options;
+        this.alertsUri = baseUri.resolve("/api/v1/alerts");
+        this.token = token;
+        this.httpClient = httpClient;
+        this.typeTable = weightedTypeTable(options.mix());
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        StatementCounter statementCounter = new StatementCounter();
+
+        SpringApplication application = new SpringApplication(IntelligentAlertSystemApplication.class);
+        application.addInitializers(context -> context.getBeanFactory().addBeanPostProcessor(statementCounter));
+
+        try (ConfigurableApplicationContext context = application.run(toArgs(options.applicationArgs()))) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI baseUri = URI.create("http://localhost:" + port);
+            HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+            LoadTestRunner runner = new LoadTestRunner(options, baseUri, login(httpClient, baseUri), httpClient);
+            Map<String, Object> report = runner.run(statementCounter, context.getBean(MeterRegistry.class),
+                context.getBean(AlertRepository.class));
+
+            ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+            Files.createDirectories(options.reportDir());
+            Path reportFile = options.reportDir()
+                .resolve("loadtest-" + LocalDateTime.now().format(REPORT_TIMESTAMP) + ".json");
+            objectMapper.writeValue(reportFile.toFile(), report);
+
+            System.out.println(objectMapper.writeValueAsString(report));
+            System.out.println("Load test report saved to " + reportFile.toAbsolutePath());
+        }
+    }
+
+    private Map<String, Object> run(StatementCounter statementCounter, MeterRegistry meterRegistry,
+                                    AlertRepository alertRepository) throws InterruptedException {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        memory.gc();
+        long heapBefore = memory.getHeapMemoryUsage().getUsed();
+
+        ExecutorService clients = Executors.newFixedThreadPool(options.concurrency());
+        long start = System.nanoTime();
+        long measureStart = start + options.warmupSeconds() * NANOS_PER_SECOND;
+        long end = measureStart + options.durationSeconds() * NANOS_PER_SECOND;
+        long executionsBefore = -1;
+        long batchedBefore = 0;
+        long offered = 0;
+
+        // Dispatch on schedule; each request carries its intended start time
+        long next = start;
+        while (next < end) {
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            boolean measured = next >= measureStart;
+            if (measured && executionsBefore < 0) {
+                executionsBefore = statementCounter.executions();
+                batchedBefore = statementCounter.batchedStatements();
+            }
+            if (measured) {
+                offered++;
+            }
+            long scheduled = next;
+            clients.execute(() -> send(scheduled, measured));
+            next += (long) (NANOS_PER_SECOND / options.rateAt((next - start) / NANOS_PER_SECOND));
+        }
+
+        clients.shutdown();
+        clients.awaitTermination(5, TimeUnit.MINUTES);
+        long measuredNanos = System.nanoTime() - measureStart;
+
+        // Evaluation and escalation run after the response; count their work too
+        long drainStart = System.nanoTime();
+        awaitPipelineDrain(meterRegistry);
+        double drainSeconds = (System.nanoTime() - drainStart) / (double) NANOS_PER_SECOND;
+        long executions = statementCounter.executions() - Math.max(executionsBefore, 0);
+        long batched = statementCounter.batchedStatements() - batchedBefore;
+
+        memory.gc();
+        long heapAfter = memory.getHeapMemoryUsage().getUsed();
+
+        return report(offered, measuredNanos, drainSeconds, executions, batched, heapBefore, heapAfter,
+            alertRepository);
+    }
+
+    /**
+     * Wait until every ingest pipeline stage queue stays empty across consecutive checks
+     */
+    private static void awaitPipelineDrain(MeterRegistry meterRegistry) throws InterruptedException {
+        long deadline = System.nanoTime() + 5 * 60 * NANOS_PER_SECOND;
+        int emptyChecks = 0;
+        while (emptyChecks < 3 && System.nanoTime() < deadline) {
+            double depth = meterRegistry.find("alerts.pipeline.queue.depth").gauges().stream()
+                .mapToDouble(Gauge::value)
+                .sum();
+            emptyChecks = depth == 0 ? emptyChecks + 1 : 0;
+            Thread.sleep(200);
+        }
+    }
+
+    private void send(long scheduledNanos, boolean measured) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int driver = random.nextInt(options.drivers());
+        AlertType alertType = typeTable[random.nextInt(typeTable.length)];
+        String body = String.format(
+            "{\"alertType\":\"%s\",\"severity\":\"INFO\",\"driverId\":\"DRV-%d\",\"vehicleId\":\"VEH-%d\","
+                + "\"metadata\":{\"source\":\"loadtest\",\"speed\":%d}}",
+            alertType, driver, driver, 60 + random.nextInt(60));
+
+        HttpRequest request = HttpRequest.newBuilder(alertsUri)
+            .header("Authorization", "Bearer " + token)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+        try {
+            int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            if (!measured) {
+                return;
+            }
+            latencies.record(System.nanoTime() - scheduledNanos);
+            if (status == 201) {
+                succeeded.increment();
+            } else if (status == 503) {
+                rejected.increment();
+            } else {
+                failed.increment();
+            }
+        } catch (IOException e) {
+            if (measured) {
+                failed.increment();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Map<String, Object> report(long offered, long measuredNanos, double drainSeconds, long executions,
+                                       long batched, long heapBefore, long heapAfter,
+                                       AlertRepository alertRepository) {
+        double seconds = measuredNanos / (double) NANOS_PER_SECOND;
+        long ok = succeeded.sum();
+        long[] sorted = latencies.sorted();
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("drivers", options.drivers());
+        config.put("rate", options.rate());
+        config.put("durationSeconds", options.durationSeconds());
+        config.put("warmupSeconds", options.warmupSeconds());
+        config.put("concurrency", options.concurrency());
+        config.put("mix", options.mix());
+        config.put("burstEverySeconds", options.burstEverySeconds());
+        config.put("burstSeconds", options.burstSeconds());
+        config.put("burstFactor", options.burstFactor());
+        config.put("datasource", options.applicationArgs().get("spring.datasource.url"));
+
+        Map<String, Object> requests = new LinkedHashMap<>();
+        requests.put("offered", offered);
+        requests.put("succeeded", ok);
+        requests.put("rejected", rejected.sum());
+        requests.put("failed", failed.sum());
+
+        Map<String, Object> throughput = new LinkedHashMap<>();
+        throughput.put("offeredPerSecond", round(offered / (double) options.durationSeconds()));
+        throughput.put("alertsPerSecond", round(ok / seconds));
+        throughput.put("pipelineDrainSeconds", round(drainSeconds));
+
+        Map<String, Object> latency = new LinkedHashMap<>();
+        latency.put("p50", round(LatencyRecorder.percentileMillis(sorted, 50)));
+        latency.put("p99", round(LatencyRecorder.percentileMillis(sorted, 99)));
+        latency.put("p999", round(LatencyRecorder.percentileMillis(sorted, 99.9)));
+        latency.put("max", round(LatencyRecorder.percentileMillis(sorted, 100)));
+
+        Map<String, Object> database = new LinkedHashMap<>();
+        database.put("executions", executions);
+        database.put("batchedStatements", batched);
+        database.put("executionsPerAlert", ok > 0 ? round(executions / (double) ok) : null);
+
+        Map<String, Object> heap = new LinkedHashMap<>();
+        heap.put("usedBeforeMb", round(heapBefore / 1048576.0));
+        heap.put("usedAfterMb", round(heapAfter / 1048576.0));
+        heap.put("growthMb", round((heapAfter - heapBefore) / 1048576.0));
+
+        Map<String, Object> alerts = new LinkedHashMap<>();
+        for (AlertStatus status : AlertStatus.values()) {
+            alerts.put(status.name(), alertRepository.countByStatus(status));
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("finishedAt", LocalDateTime.now().toString());
+        report.put("config", config);
+        report.put("requests", requests);
+        report.put("throughput", throughput);
+        report.put("latencyMs", latency);
+        report.put("database", database);
+        report.put("heap", heap);
+        report.put("alertsByStatus", alerts);
+        return report;
+    }
+
+    private static String login(HttpClient httpClient, URI baseUri) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/api/v1/auth/login"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"admin\",\"password\":\"admin123\"}"))
+            .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed: HTTP " + response.statusCode());
+        }
+        return new ObjectMapper().readTree(response.body()).path("data").path("token").asText();
+    }
+
+    /**
+     * Alert types repeated by weight, so a uniform index picks them with the configured mix
+     */
+    private static AlertType[] weightedTypeTable(Map<AlertType, Integer> mix) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        AlertType[] table = new AlertType[total];
+        int index = 0;
+        for (Map.Entry<AlertType, Integer> entry : mix.entrySet()) {
+            for (int i = 0; i < entry.getValue(); i++) {
+                table[index++] = entry.getKey();
+            }
+        }
+        return table;
+    }
+
+    private static String[] toArgs(Map<String, String> applicationArgs) {
+        return applicationArgs.entrySet().stream()
+            .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+            .toArray(String[]::new);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,284 @@
+package com.movesync.alert.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.movesync.alert.IntelligentAlertSystemApplication;
+import com.movesync.alert.domain.enums.AlertStatus;
+import com.movesync.alert.domain.enums.AlertType;
+import com.movesync.alert.domain.model.UuidV7;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Query plan check: boots the application (Flyway applies the migrations), seeds a realistic
+ * alert population, runs EXPLAIN for each hot repository query shape and fails if a plan scans
+ * a populated table sequentially
+ *
+ * Works on H2 (the default in-memory database) and PostgreSQL. Only scans of tables or partitions
+ * below POPULATED_ROWS are tolerated. The H2 counterpart in the default build is QueryPlanTest,
+ * which runs the repository methods themselves.
+ *
+ * Usage: mvn -Ploadtest verify -Dloadtest.main=com.movesync.alert.loadtest.QueryPlanCheck
+ *            -Dloadtest.args="--alerts=100000 --spring.datasource.url=jdbc:postgresql://..."
+ * Any other --name=value is passed to the application.
+ */
+public final class QueryPlanCheck {
+
+    private static final DateTimeFormatter REPORT_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final DateTimeFormatter SQL_TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final Pattern H2_TABLE_SCAN = Pattern.compile("PUBLIC\\.(\\w+)\\.tableScan");
+    private static final Pattern H2_INDEX = Pattern.compile("PUBLIC\\.(IDX_\\w+|PRIMARY_KEY_\\w+)");
+    private static final int SEED_BATCH = 1000;
+    private static final long POPULATED_ROWS = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean postgres;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private QueryPlanCheck(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.postgres = Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+            "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        Map<String, String> applicationArgs = new LinkedHashMap<>();
+        applicationArgs.put("server.port", "0");
+        applicationArgs.put("spring.datasource.url", "jdbc:h2:mem:plancheck;DB_CLOSE_DELAY=-1");
+        applicationArgs.put("spring.h2.console.enabled", "false");
+        applicationArgs.put("alert.archive.enabled", "false");
+        applicationArgs.put("logging.level.com.movesync.alert", "WARN");
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (List.of("alerts", "drivers", "report-dir").contains(name)) {
+                options.put(name, value);
+            } else {
+                applicationArgs.put(name, value);
+            }
+        }
+        int alerts = Integer.parseInt(options.getOrDefault("alerts", "100000"));
+        int drivers = Integer.parseInt(options.getOrDefault("drivers", "1000"));
+        Path reportDir = Path.of(options.getOrDefault("report-dir", "benchmarks/results"));
+
+        String[] springArgs = applicationArgs.entrySet().stream()
+            .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+            .toArray(String[]::new);
+
+        boolean passed;
+        try (ConfigurableApplicationContext context =
+                 new SpringApplication(IntelligentAlertSystemApplication.class).run(springArgs)) {
+            QueryPlanCheck check = new QueryPlanCheck(context.getBean(JdbcTemplate.class));
+            LocalDateTime now = LocalDateTime.now();
+            String sampleAlertId = check.seed(alerts, drivers, now);
+
+            StringBuilder report = new StringBuilder();
+            passed = true;
+            for (Map.Entry<String, String> probe : probes(now, sampleAlertId).entrySet()) {
+                passed &= check.verify(probe.getKey(), probe.getValue(), report);
+            }
+
+            Files.createDirectories(reportDir);
+            Path reportFile = reportDir.resolve("query-plans-" + now.format(REPORT_TIMESTAMP) + ".txt");
+            Files.writeString(reportFile, report);
+            System.out.println("Query plans saved to " + reportFile.toAbsolutePath());
+        }
+
+        System.out.println(passed ? "Query plan check passed" : "Query plan check FAILED: sequential scans found");
+        System.exit(passed ? 0 : 1);
+    }
+
+    /**
+     * One query per repository access path, as Hibernate renders it, with representative literals
+     */
+    private static Map<String, String> probes(LocalDateTime now, String sampleAlertId) {
+        Map<String, String> probes = new LinkedHashMap<>();
+        probes.put("findRecentAlertsByTypeAndDriver",
+            "SELECT * FROM alerts WHERE alert_type = 'OVERSPEEDING' AND driver_id = 'DRV-42' "
+                + "AND timestamp >= " + ts(now.minusHours(1)) + " ORDER BY timestamp DESC");
+        probes.put("findAlertsEligibleForAutoClosure",
+            "SELECT * FROM alerts WHERE status IN ('OPEN', 'ESCALATED') "
+                + "AND timestamp < " + ts(now.minusHours(24)) + " ORDER BY timestamp ASC");
+        probes.put("findByDriverIdAndStatusIn",
+            "SELECT * FROM alerts WHERE driver_id = 'DRV-42' AND status IN ('OPEN', 'ESCALATED')");
+        probes.put("findRecentlyAutoClosedAlerts",
+            "SELECT * FROM alerts WHERE status = 'AUTO_CLOSED' "
+                + "AND closed_at >= " + ts(now.minusHours(24)) + " ORDER BY closed_at DESC");
+        probes.put("findClosedBefore",
+            "SELECT * FROM alerts WHERE status IN ('AUTO_CLOSED', 'RESOLVED') "
+                + "AND closed_at < " + ts(now.minusDays(29)) + " ORDER BY closed_at FETCH FIRST 1000 ROWS ONLY");
+        probes.put("findFirstPageByStatus",
+            "SELECT * FROM alerts WHERE status = 'OPEN' "
+                + "ORDER BY timestamp DESC, alert_id DESC FETCH FIRST 100 ROWS ONLY");
+        probes.put("findFirstPage",
+            "SELECT * FROM alerts ORDER BY timestamp DESC, alert_id DESC FETCH FIRST 100 ROWS ONLY");
+        probes.put("findOccurrencesSince",
+            "SELECT alert_id, alert_type, driver_id, timestamp FROM alerts "
+                + "WHERE timestamp >= " + ts(now.minusHours(1)) + " AND driver_id IS NOT NULL ORDER BY timestamp ASC");
+        probes.put("countByDriverAndSeverity",
+            "SELECT driver_id, severity, COUNT(*) FROM alerts WHERE status IN ('OPEN', 'ESCALATED') "
+                + "AND driver_id IS NOT NULL GROUP BY driver_id, severity");
+        probes.put("findByAlertIdOrderByTimestampAsc",
+            "SELECT * FROM alert_history WHERE alert_id = '" + sampleAlertId + "' ORDER BY timestamp ASC");
+        probes.put("findRecentEvents",
+            "SELECT * FROM alert_history WHERE timestamp >= " + ts(now.minusHours(1)) + " ORDER BY timestamp DESC");
+        probes.put("findByEventTypeAndTimestampBetween",
+            "SELECT * FROM alert_history WHERE event_type = 'ESCALATED' "
+                + "AND timestamp BETWEEN " + ts(now.minusDays(1)) + " AND " + ts(now));
+        return probes;
+    }
+
+    /**
+     * Insert alerts spread over the last 30 days with their history
+     * Most alerts are closed; only recent ones are still OPEN or ESCALATED, as in production
+     *
+     * @return Id of one seeded alert, used by the history probe
+     */
+    private String seed(int alerts, int drivers, LocalDateTime now) {
+        Random random = new Random(42);
+        AlertType[] types = {AlertType.OVERSPEEDING, AlertType.HARSH_BRAKING, AlertType.ROUTE_DEVIATION,
+            AlertType.FEEDBACK_NEGATIVE, AlertType.COMPLIANCE_DOCUMENT_EXPIRY, AlertType.MAINTENANCE_OVERDUE};
+        String[] severities = {"INFO", "WARNING", "CRITICAL"};
+        List<Object[]> alertRows = new ArrayList<>(SEED_BATCH);
+        List<Object[]> historyRows = new ArrayList<>(SEED_BATCH * 2);
+        String sampleAlertId = null;
+
+        for (int i = 0; i < alerts; i++) {
+            UUID alertId = UuidV7.next();
+            LocalDateTime timestamp = now.minusSeconds(random.nextInt(30 * 24 * 3600));
+            boolean recent = timestamp.isAfter(now.minusDays(2));
+            AlertStatus status = recent && random.nextInt(4) == 0
+                ? (random.nextBoolean() ? AlertStatus.OPEN : AlertStatus.ESCALATED)
+                : (random.nextInt(3) == 0 ? AlertStatus.RESOLVED : AlertStatus.AUTO_CLOSED);
+            boolean closed = status == AlertStatus.RESOLVED || status == AlertStatus.AUTO_CLOSED;
+            LocalDateTime closedAt = closed ? timestamp.plusMinutes(random.nextInt(24 * 60)) : null;
+            if (sampleAlertId == null) {
+                sampleAlertId = alertId.toString();
+            }
+
+            alertRows.add(new Object[]{alertId, types[random.nextInt(types.length)].name(),
+                severities[random.nextInt(severities.length)], Timestamp.valueOf(timestamp), status.name(),
+                "DRV-" + random.nextInt(drivers), closedAt == null ? null : Timestamp.valueOf(closedAt),
+                Timestamp.valueOf(timestamp), 0L});
+            historyRows.add(new Object[]{UuidV7.next(), alertId, null, AlertStatus.OPEN.name(),
+                Timestamp.valueOf(timestamp), "CREATED"});
+            if (status != AlertStatus.OPEN) {
+                historyRows.add(new Object[]{UuidV7.next(), alertId, AlertStatus.OPEN.name(),
+                    status.name(), Timestamp.valueOf(closedAt != null ? closedAt : timestamp.plusMinutes(5)),
+                    status.name()});
+            }
+
+            if (alertRows.size() == SEED_BATCH || i == alerts - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO alerts (alert_id, alert_type, severity, timestamp, status, "
+                    + "driver_id, closed_at, created_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", alertRows);
+                jdbcTemplate.batchUpdate("INSERT INTO alert_history (history_id, alert_id, from_status, to_status, "
+                    + "timestamp, event_type) VALUES (?, ?, ?, ?, ?, ?)", historyRows);
+                alertRows.clear();
+                historyRows.clear();
+            }
+        }
+
+        if (postgres) {
+            jdbcTemplate.execute("ANALYZE alerts");
+            jdbcTemplate.execute("ANALYZE alert_history");
+        } else {
+            jdbcTemplate.execute("ANALYZE");
+        }
+        System.out.printf("Seeded %d alerts over %d drivers%n", alerts, drivers);
+        return sampleAlertId;
+    }
+
+    /**
+     * EXPLAIN one query and check it for sequential scans of populated tables
+     */
+    private boolean verify(String name, String sql, StringBuilder report) throws Exception {
+        List<SeqScan> seqScans = new ArrayList<>();
+        List<String> indexes = new ArrayList<>();
+        String plan;
+        if (postgres) {
+            plan = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + sql, String.class);
+            collectPostgres(objectMapper.readTree(plan).get(0).get("Plan"), seqScans, indexes);
+            indexes.replaceAll(this::parentIndex);
+        } else {
+            plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+            Matcher scan = H2_TABLE_SCAN.matcher(plan);
+            while (scan.find()) {
+                seqScans.add(new SeqScan(scan.group(1).toLowerCase()));
+            }
+            Matcher index = H2_INDEX.matcher(plan);
+            while (index.find()) {
+                indexes.add(index.group(1).toLowerCase());
+            }
+        }
+
+        seqScans.removeIf(scan -> rowEstimate(scan.table()) < POPULATED_ROWS);
+        boolean passed = seqScans.isEmpty();
+        String line = String.format("%-36s %s %s", name, passed ? "OK  " : "FAIL",
+            passed ? indexes.stream().distinct().toList()
+                : "sequential scan of " + seqScans.stream().map(SeqScan::table).distinct().toList());
+        System.out.println(line);
+        report.append(line).append('\n').append(sql).append('\n').append(plan).append("\n\n");
+        return passed;
+    }
+
+    private static void collectPostgres(JsonNode node, List<SeqScan> seqScans, List<String> indexes) {
+        String nodeType = node.path("Node Type").asText();
+        if (nodeType.equals("Seq Scan")) {
+            seqScans.add(new SeqScan(node.path("Relation Name").asText()));
+        }
+        if (node.has("Index Name")) {
+            indexes.add(node.get("Index Name").asText());
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectPostgres(child, seqScans, indexes);
+        }
+    }
+
+    private long rowEstimate(String table) {
+        if (postgres) {
+            Number rows = jdbcTemplate.queryForObject(
+                "SELECT reltuples FROM pg_class WHERE relname = ?", Number.class, table);
+            return rows == null ? 0 : rows.longValue();
+        }
+        Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+        return rows == null ? 0 : rows;
+    }
+
+    // Partition indexes are named after their columns; report the migration's index name instead
+    private String parentIndex(String index) {
+        List<String> parents = jdbcTemplate.queryForList(
+            "SELECT p.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                + "JOIN pg_class p ON p.oid = i.inhparent WHERE c.relname = ?", String.class, index);
+        return parents.isEmpty() ? index : parents.get(0);
+    }
+
+    private static String ts(LocalDateTime value) {
+        return "TIMESTAMP '" + value.format(SQL_TIMESTAMP) + "'";
+    }
+
+    /**
+     * A sequential scan node
+     */
+    private record SeqScan(String table) {
+    }
+}
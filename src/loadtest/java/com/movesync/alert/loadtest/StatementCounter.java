@@ -0,0 +1,88 @@
+package com.movesync.alert.loadtest;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts JDBC statement executions of every DataSource in the application context
+ * Wraps DataSource -> Connection -> Statement in proxies, so Hibernate, Spring Data and
+ * plain JDBC access are all counted
+ *
+ * - executions: execute/executeQuery/executeUpdate/executeBatch calls (database round trips)
+ * - batchedStatements: addBatch calls (statements sent inside JDBC batches)
+ *
+ * Thread Safety: Counters are LongAdders
+ */
+class StatementCounter implements BeanPostProcessor {
+
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder batchedStatements = new LongAdder();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return wrap(dataSource, DataSource.class);
+        }
+        return bean;
+    }
+
+    long executions() {
+        return executions.sum();
+    }
+
+    long batchedStatements() {
+        return batchedStatements.sum();
+    }
+
+    private <T> T wrap(Object target, Class<T> type) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            count(method);
+            return wrapResult(result);
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private void count(Method method) {
+        if (!Statement.class.isAssignableFrom(method.getDeclaringClass())) {
+            return;
+        }
+        String name = method.getName();
+        if (name.equals("addBatch")) {
+            batchedStatements.increment();
+        } else if (name.startsWith("execute")) {
+            executions.increment();
+        }
+    }
+
+    private Object wrapResult(Object result) {
+        if (result instanceof Connection connection) {
+            return wrap(connection, Connection.class);
+        }
+        if (result instanceof CallableStatement statement) {
+            return wrap(statement, CallableStatement.class);
+        }
+        if (result instanceof PreparedStatement statement) {
+            return wrap(statement, PreparedStatement.class);
+        }
+        if (result instanceof Statement statement) {
+            return wrap(statement, Statement.class);
+        }
+        return result;
+    }
+}
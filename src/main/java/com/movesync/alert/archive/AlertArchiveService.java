@@ -0,0 +1,251 @@
+package com.movesync.alert.archive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.movesync.alert.domain.enums.AlertStatus;
+import com.movesync.alert.domain.model.Alert;
+import com.movesync.alert.domain.model.AlertHistory;
+import com.movesync.alert.repository.AlertHistoryRepository;
+import com.movesync.alert.repository.AlertRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+
+/**
+ * Cold tier for closed alerts
+ *
+ * Closed alerts (AUTO_CLOSED, RESOLVED) are moved out of the database once their closure is
+ * older than alert.archive.after-days: each chunk is written with its history to compressed
+ * columnar files on local disk, fsynced, and only then deleted from the database. Files are
+ * bucketed by alert day (alerts-yyyyMMdd-<run>.acf), one per day and archive run.
+ *
+ * Reads: find() checks the in-memory Bloom filter of every file, newest bucket first, and only
+ * opens files that may hold the alert. Alerts archived by a run become visible when the run
+ * finishes and its files are closed.
+ *
+ * Delivery: At-least-once; a crash between fsync and delete archives the chunk again next run,
+ * and lookups return the first copy found.
+ *
+ * Space Complexity: O(f + a) memory, f files plus ~1.25 bytes per archived alert (Bloom filters)
+ * Thread Safety: Lookups are lock-free; archive runs are serialized
+ */
+@Slf4j
+@Service
+public class AlertArchiveService {
+
+    private static final List<AlertStatus> CLOSED_STATUSES = List.of(AlertStatus.AUTO_CLOSED, AlertStatus.RESOLVED);
+    private static final String FILE_PREFIX = "alerts-";
+    private static final String FILE_SUFFIX = ".acf";
+    private static final DateTimeFormatter BUCKET_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final AlertRepository alertRepository;
+    private final AlertHistoryRepository alertHistoryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ArchiveBlockCodec codec;
+
+    // Newest bucket first, so recently closed alerts are found after the fewest file probes
+    private final Map<Path, BloomFilter> files = new ConcurrentSkipListMap<>(Comparator.reverseOrder());
+
+    @Value("${alert.archive.enabled:false}")
+    private boolean enabled;
+
+    @Value("${alert.archive.after-days:30}")
+    private int afterDays;
+
+    @Value("${alert.archive.dir:./data/archive}")
+    private String directory;
+
+    @Value("${alert.archive.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${alert.retention.delete-pause-ms:100}")
+    private long chunkPauseMs;
+
+    public AlertArchiveService(AlertRepository alertRepository,
+                               AlertHistoryRepository alertHistoryRepository,
+                               TransactionTemplate transactionTemplate,
+                               ObjectMapper objectMapper) {
+        this.alertRepository = alertRepository;
+        this.alertHistoryRepository = alertHistoryRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.codec = new ArchiveBlockCodec(objectMapper);
+    }
+
+    /**
+     * Load the Bloom filters of existing archive files, repairing files left open by a crash
+     */
+    @PostConstruct
+    public void loadArchive() throws IOException {
+        Path root = root();
+        if (!Files.isDirectory(root)) {
+            if (!enabled) {
+                return;
+            }
+            Files.createDirectories(root);
+        }
+
+        try (DirectoryStream<Path> paths = Files.newDirectoryStream(root, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+            for (Path path : paths) {
+                try {
+                    files.put(path, readOrRepair(path));
+                } catch (IOException e) {
+                    log.error("Skipping unreadable archive file {}", path, e);
+                }
+            }
+        }
+        log.info("Alert archive at {}: {} files (archiving {})", root, files.size(), enabled ? "enabled" : "disabled");
+    }
+
+    /**
+     * Archive closed alerts older than alert.archive.after-days, then delete them from the database
+     * Does nothing when archiving is disabled
+     *
+     * @return Number of alerts moved to the archive
+     * @throws UncheckedIOException If a file cannot be written; rows of unwritten chunks stay in the database
+     */
+    public synchronized long archiveClosedAlerts() {
+        if (!enabled) {
+            return 0;
+        }
+        LocalDateTime threshold = LocalDateTime.now().minusDays(afterDays);
+        String run = String.valueOf(System.currentTimeMillis());
+        Map<LocalDate, ArchiveFileWriter> writers = new TreeMap<>();
+        long archived = 0;
+
+        try {
+            while (true) {
+                List<Alert> alerts = alertRepository.findClosedBefore(CLOSED_STATUSES, threshold, PageRequest.of(0, chunkSize));
+                if (alerts.isEmpty()) {
+                    break;
+                }
+                archiveChunk(alerts, writers, run);
+                archived += alerts.size();
+                if (alerts.size() < chunkSize) {
+                    break;
+                }
+                Thread.sleep(chunkPauseMs);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write alert archive", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Alert archiving interrupted after {} alerts", archived);
+        } finally {
+            closeAll(writers);
+        }
+
+        if (archived > 0) {
+            log.info("Archived {} alerts closed before {} into {} files", archived, threshold, writers.size());
+        }
+        return archived;
+    }
+
+    /**
+     * Find an archived alert with its history
+     * Time Complexity: O(f) Bloom filter probes, plus one index scan and block read per candidate file
+     */
+    public Optional<ArchivedAlert> find(String alertId) {
+        for (Map.Entry<Path, BloomFilter> file : files.entrySet()) {
+            if (!file.getValue().mightContain(alertId)) {
+                continue;
+            }
+            try {
+                Optional<ArchivedAlert> alert = ArchiveFileReader.findBlock(file.getKey(), alertId)
+                    .flatMap(block -> codec.decode(block).stream()
+                        .filter(archived -> archived.alert().getAlertId().equals(alertId))
+                        .findFirst());
+                if (alert.isPresent()) {
+                    return alert;
+                }
+            } catch (IOException e) {
+                log.error("Failed to read archive file {}", file.getKey(), e);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Write one chunk, grouped by alert day, and delete it from the database once on disk
+     */
+    private void archiveChunk(List<Alert> alerts, Map<LocalDate, ArchiveFileWriter> writers, String run)
+            throws IOException {
+        List<String> alertIds = alerts.stream().map(Alert::getAlertId).toList();
+        Map<String, List<AlertHistory>> historyByAlert = alertHistoryRepository.findByAlertIdIn(alertIds).stream()
+            .collect(Collectors.groupingBy(AlertHistory::getAlertId));
+
+        Map<LocalDate, List<Alert>> byDay = alerts.stream()
+            .collect(Collectors.groupingBy(alert -> alert.getTimestamp().toLocalDate()));
+        for (Map.Entry<LocalDate, List<Alert>> day : byDay.entrySet()) {
+            List<Alert> dayAlerts = day.getValue();
+            List<String> dayIds = new ArrayList<>(dayAlerts.size());
+            List<AlertHistory> dayHistory = new ArrayList<>();
+            for (Alert alert : dayAlerts) {
+                dayIds.add(alert.getAlertId());
+                dayHistory.addAll(historyByAlert.getOrDefault(alert.getAlertId(), List.of()));
+            }
+
+            ArchiveFileWriter writer = writers.get(day.getKey());
+            if (writer == null) {
+                writer = new ArchiveFileWriter(pathFor(day.getKey(), run));
+                writers.put(day.getKey(), writer);
+            }
+            writer.appendBlock(codec.encode(dayAlerts, dayHistory), dayIds);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            alertHistoryRepository.deleteByAlertIdIn(alertIds);
+            alertRepository.deleteByAlertIdIn(alertIds);
+        });
+    }
+
+    private void closeAll(Map<LocalDate, ArchiveFileWriter> writers) {
+        for (ArchiveFileWriter writer : writers.values()) {
+            Path path = writer.path();
+            try {
+                writer.close();
+                files.put(path, ArchiveFileReader.readBloomFilter(path));
+            } catch (IOException e) {
+                // Blocks are already on disk; the footer is rebuilt on the next start
+                log.error("Failed to close archive file {}", path, e);
+            }
+        }
+    }
+
+    private BloomFilter readOrRepair(Path path) throws IOException {
+        try {
+            return ArchiveFileReader.readBloomFilter(path);
+        } catch (IOException e) {
+            int blocks = ArchiveFileReader.repair(path, codec);
+            log.warn("Repaired archive file {} left open by an interrupted run ({} blocks kept)", path, blocks);
+            return ArchiveFileReader.readBloomFilter(path);
+        }
+    }
+
+    private Path pathFor(LocalDate day, String run) {
+        return root().resolve(FILE_PREFIX + BUCKET_FORMAT.format(day) + "-" + run + FILE_SUFFIX);
+    }
+
+    private Path root() {
+        return Paths.get(directory);
+    }
+}
@@ -0,0 +1,373 @@
+package com.movesync.alert.archive;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.movesync.alert.domain.enums.AlertSeverity;
+import com.movesync.alert.domain.enums.AlertStatus;
+import com.movesync.alert.domain.enums.AlertType;
+import com.movesync.alert.domain.model.Alert;
+import com.movesync.alert.domain.model.AlertHistory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Columnar encoding of one archive block: a group of alerts and their history entries
+ *
+ * Each field is written as one column for all rows of the block, then the whole block is
+ * Deflate-compressed. Column encodings:
+ * - Strings: dictionary-encoded when at most half the values are distinct (types, statuses,
+ *   drivers), plain otherwise (ids, reasons, metadata JSON)
+ * - Timestamps and longs: null flag plus zig-zag varint delta from the previous value
+ *
+ * Enums are stored by name, so reordering an enum never corrupts older archives.
+ *
+ * Thread Safety: Stateless apart from the thread-safe ObjectMapper
+ */
+final class ArchiveBlockCodec {
+
+    private static final int PLAIN = 0;
+    private static final int DICTIONARY = 1;
+    private static final TypeReference<Map<String, Object>> METADATA_TYPE = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper;
+
+    ArchiveBlockCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Encode and compress a block
+     *
+     * @param alerts Alerts of the block
+     * @param histories History entries of those alerts, in any order
+     */
+    byte[] encode(List<Alert> alerts, List<AlertHistory> histories) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(
+                new DeflaterOutputStream(bytes, new Deflater(Deflater.BEST_COMPRESSION)))) {
+            writeVarLong(out, alerts.size());
+            writeStrings(out, alerts, Alert::getAlertId);
+            writeStrings(out, alerts, alert -> name(alert.getAlertType()));
+            writeStrings(out, alerts, alert -> name(alert.getSeverity()));
+            writeStrings(out, alerts, alert -> name(alert.getStatus()));
+            writeTimestamps(out, alerts, Alert::getTimestamp);
+            writeStrings(out, alerts, Alert::getDriverId);
+            writeStrings(out, alerts, Alert::getVehicleId);
+            writeStrings(out, alerts, Alert::getRouteId);
+            writeStrings(out, alerts, alert -> toJson(alert.getMetadata()));
+            writeTimestamps(out, alerts, Alert::getEscalatedAt);
+            writeStrings(out, alerts, Alert::getEscalationReason);
+            writeTimestamps(out, alerts, Alert::getClosedAt);
+            writeStrings(out, alerts, Alert::getClosureReason);
+            writeStrings(out, alerts, Alert::getClosedBy);
+            writeTimestamps(out, alerts, Alert::getCreatedAt);
+            writeTimestamps(out, alerts, Alert::getUpdatedAt);
+            writeLongs(out, alerts, Alert::getVersion);
+
+            writeVarLong(out, histories.size());
+            writeStrings(out, histories, AlertHistory::getHistoryId);
+            writeStrings(out, histories, AlertHistory::getAlertId);
+            writeStrings(out, histories, history -> name(history.getFromStatus()));
+            writeStrings(out, histories, history -> name(history.getToStatus()));
+            writeTimestamps(out, histories, AlertHistory::getTimestamp);
+            writeStrings(out, histories, AlertHistory::getReason);
+            writeStrings(out, histories, AlertHistory::getChangedBy);
+            writeStrings(out, histories, AlertHistory::getEventType);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode archive block", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decompress and decode a block
+     *
+     * @return Alerts of the block, each with its history in chronological order
+     */
+    List<ArchivedAlert> decode(byte[] block) {
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(block)))) {
+            int alertCount = (int) readVarLong(in);
+            List<String> alertIds = readStrings(in, alertCount);
+            List<String> alertTypes = readStrings(in, alertCount);
+            List<String> severities = readStrings(in, alertCount);
+            List<String> statuses = readStrings(in, alertCount);
+            List<LocalDateTime> timestamps = readTimestamps(in, alertCount);
+            List<String> driverIds = readStrings(in, alertCount);
+            List<String> vehicleIds = readStrings(in, alertCount);
+            List<String> routeIds = readStrings(in, alertCount);
+            List<String> metadata = readStrings(in, alertCount);
+            List<LocalDateTime> escalatedAt = readTimestamps(in, alertCount);
+            List<String> escalationReasons = readStrings(in, alertCount);
+            List<LocalDateTime> closedAt = readTimestamps(in, alertCount);
+            List<String> closureReasons = readStrings(in, alertCount);
+            List<String> closedBy = readStrings(in, alertCount);
+            List<LocalDateTime> createdAt = readTimestamps(in, alertCount);
+            List<LocalDateTime> updatedAt = readTimestamps(in, alertCount);
+            List<Long> versions = readLongs(in, alertCount);
+
+            int historyCount = (int) readVarLong(in);
+            List<String> historyIds = readStrings(in, historyCount);
+            List<String> historyAlertIds = readStrings(in, historyCount);
+            List<String> fromStatuses = readStrings(in, historyCount);
+            List<String> toStatuses = readStrings(in, historyCount);
+            List<LocalDateTime> historyTimestamps = readTimestamps(in, historyCount);
+            List<String> reasons = readStrings(in, historyCount);
+            List<String> changedBy = readStrings(in, historyCount);
+            List<String> eventTypes = readStrings(in, historyCount);
+
+            Map<String, List<AlertHistory>> historyByAlert = new HashMap<>();
+            for (int i = 0; i < historyCount; i++) {
+                historyByAlert.computeIfAbsent(historyAlertIds.get(i), k -> new ArrayList<>()).add(AlertHistory.builder()
+                    .historyId(historyIds.get(i))
+                    .alertId(historyAlertIds.get(i))
+                    .fromStatus(enumValue(AlertStatus.class, fromStatuses.get(i)))
+                    .toStatus(enumValue(AlertStatus.class, toStatuses.get(i)))
+                    .timestamp(historyTimestamps.get(i))
+                    .reason(reasons.get(i))
+                    .changedBy(changedBy.get(i))
+                    .eventType(eventTypes.get(i))
+                    .build());
+            }
+
+            List<ArchivedAlert> alerts = new ArrayList<>(alertCount);
+            for (int i = 0; i < alertCount; i++) {
+                Alert alert = Alert.builder()
+                    .alertId(alertIds.get(i))
+                    .alertType(enumValue(AlertType.class, alertTypes.get(i)))
+                    .severity(enumValue(AlertSeverity.class, severities.get(i)))
+                    .status(enumValue(AlertStatus.class, statuses.get(i)))
+                    .timestamp(timestamps.get(i))
+                    .driverId(driverIds.get(i))
+                    .vehicleId(vehicleIds.get(i))
+                    .routeId(routeIds.get(i))
+                    .metadata(fromJson(metadata.get(i)))
+                    .escalatedAt(escalatedAt.get(i))
+                    .escalationReason(escalationReasons.get(i))
+                    .closedAt(closedAt.get(i))
+                    .closureReason(closureReasons.get(i))
+                    .closedBy(closedBy.get(i))
+                    .createdAt(createdAt.get(i))
+                    .updatedAt(updatedAt.get(i))
+                    .version(versions.get(i))
+                    .build();
+                List<AlertHistory> history = historyByAlert.getOrDefault(alert.getAlertId(), new ArrayList<>());
+                history.sort((a, b) -> a.getTimestamp().compareTo(b.getTimestamp()));
+                alerts.add(new ArchivedAlert(alert, history));
+            }
+            return alerts;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode archive block", e);
+        }
+    }
+
+    /**
+     * Alert ids of a block, without decoding the other columns
+     * Used to rebuild the index of a file whose footer was never written
+     */
+    List<String> decodeAlertIds(byte[] block) {
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(block)))) {
+            return readStrings(in, (int) readVarLong(in));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode archive block", e);
+        }
+    }
+
+    private static <T> void writeStrings(DataOutputStream out, List<T> rows, Function<T, String> column)
+            throws IOException {
+        List<String> values = new ArrayList<>(rows.size());
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (T row : rows) {
+            String value = column.apply(row);
+            values.add(value);
+            dictionary.putIfAbsent(value, dictionary.size());
+        }
+
+        if (dictionary.size() * 2 <= values.size()) {
+            out.writeByte(DICTIONARY);
+            writeVarLong(out, dictionary.size());
+            for (String value : dictionary.keySet()) {
+                writeString(out, value);
+            }
+            for (String value : values) {
+                writeVarLong(out, dictionary.get(value));
+            }
+        } else {
+            out.writeByte(PLAIN);
+            for (String value : values) {
+                writeString(out, value);
+            }
+        }
+    }
+
+    private static List<String> readStrings(DataInputStream in, int count) throws IOException {
+        List<String> values = new ArrayList<>(count);
+        if (in.readByte() == DICTIONARY) {
+            int size = (int) readVarLong(in);
+            List<String> dictionary = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                dictionary.add(readString(in));
+            }
+            for (int i = 0; i < count; i++) {
+                values.add(dictionary.get((int) readVarLong(in)));
+            }
+        } else {
+            for (int i = 0; i < count; i++) {
+                values.add(readString(in));
+            }
+        }
+        return values;
+    }
+
+    private static <T> void writeTimestamps(DataOutputStream out, List<T> rows, Function<T, LocalDateTime> column)
+            throws IOException {
+        writeLongs(out, rows, row -> {
+            LocalDateTime value = column.apply(row);
+            return value == null ? null : toEpochNanos(value);
+        });
+    }
+
+    private static List<LocalDateTime> readTimestamps(DataInputStream in, int count) throws IOException {
+        List<LocalDateTime> values = new ArrayList<>(count);
+        for (Long nanos : readLongs(in, count)) {
+            values.add(nanos == null ? null : fromEpochNanos(nanos));
+        }
+        return values;
+    }
+
+    private static <T> void writeLongs(DataOutputStream out, List<T> rows, Function<T, Long> column)
+            throws IOException {
+        long previous = 0;
+        for (T row : rows) {
+            Long value = column.apply(row);
+            if (value == null) {
+                out.writeByte(0);
+            } else {
+                out.writeByte(1);
+                writeVarLong(out, zigZag(value - previous));
+                previous = value;
+            }
+        }
+    }
+
+    private static List<Long> readLongs(DataInputStream in, int count) throws IOException {
+        List<Long> values = new ArrayList<>(count);
+        long previous = 0;
+        for (int i = 0; i < count; i++) {
+            if (in.readByte() == 0) {
+                values.add(null);
+            } else {
+                previous += unZigZag(readVarLong(in));
+                values.add(previous);
+            }
+        }
+        return values;
+    }
+
+    // Length + 1 as a varint, 0 for null, then UTF-8 bytes
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            writeVarLong(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length + 1L);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = (int) readVarLong(in);
+        if (length == 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length - 1];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint in archive block");
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    // Nanoseconds since 1970-01-01T00:00 (no zone: columns hold LocalDateTime); fits until year 2262
+    private static long toEpochNanos(LocalDateTime value) {
+        return value.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + value.getNano();
+    }
+
+    private static LocalDateTime fromEpochNanos(long nanos) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(nanos, 1_000_000_000L),
+            (int) Math.floorMod(nanos, 1_000_000_000L), ZoneOffset.UTC);
+    }
+
+    private static String name(Enum<?> value) {
+        return value == null ? null : value.name();
+    }
+
+    private static <E extends Enum<E>> E enumValue(Class<E> type, String name) {
+        return name == null ? null : Enum.valueOf(type, name);
+    }
+
+    private String toJson(Map<String, Object> metadata) {
+        if (metadata == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(metadata);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Alert metadata is not serializable", e);
+        }
+    }
+
+    private Map<String, Object> fromJson(String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, METADATA_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Corrupt metadata in archive block", e);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.movesync.alert.archive;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reads archive files written by ArchiveFileWriter
+ *
+ * Lookups read the trailer, then the sorted id index of the footer, then a single block;
+ * the other blocks of the file are never read or decompressed.
+ *
+ * Thread Safety: Stateless; every call opens its own file handle
+ */
+final class ArchiveFileReader {
+
+    private ArchiveFileReader() {
+    }
+
+    /**
+     * Read the Bloom filter of a complete file
+     *
+     * @throws IOException If the file has no valid trailer (see repair)
+     */
+    static BloomFilter readBloomFilter(Path path) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "r")) {
+            Trailer trailer = readTrailer(file);
+            byte[] bytes = new byte[(int) (file.length() - ArchiveFileWriter.TRAILER_BYTES - trailer.bloomOffset())];
+            file.seek(trailer.bloomOffset());
+            file.readFully(bytes);
+            return BloomFilter.readFrom(new DataInputStream(new ByteArrayInputStream(bytes)));
+        }
+    }
+
+    /**
+     * Find the compressed block holding an alert
+     * Time Complexity: O(n) over the file's sorted id index, stopping at the first larger id
+     */
+    static Optional<byte[]> findBlock(Path path, String alertId) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "r")) {
+            Trailer trailer = readTrailer(file);
+            byte[] footer = new byte[(int) (trailer.bloomOffset() - trailer.footerOffset())];
+            file.seek(trailer.footerOffset());
+            file.readFully(footer);
+
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(footer));
+            if (in.readInt() != ArchiveFileWriter.FOOTER_MARKER) {
+                throw new IOException("Corrupt archive footer: " + path);
+            }
+            long[] blockOffsets = new long[in.readInt()];
+            for (int i = 0; i < blockOffsets.length; i++) {
+                blockOffsets[i] = in.readLong();
+            }
+            int alertCount = in.readInt();
+            for (int i = 0; i < alertCount; i++) {
+                int comparison = in.readUTF().compareTo(alertId);
+                int blockIndex = in.readInt();
+                if (comparison == 0) {
+                    return Optional.of(readBlock(file, blockOffsets[blockIndex]));
+                }
+                if (comparison > 0) {
+                    break;
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Rebuild the footer of a file whose writer never closed it (crash during an archive run)
+     * Complete blocks are copied to a new file, a torn last block is dropped, and the new file
+     * atomically replaces the old one
+     *
+     * @return Number of blocks kept
+     */
+    static int repair(Path path, ArchiveBlockCodec codec) throws IOException {
+        Path repaired = path.resolveSibling(path.getFileName() + ".repair");
+        Files.deleteIfExists(repaired);
+
+        int blocks = 0;
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "r");
+             ArchiveFileWriter writer = new ArchiveFileWriter(repaired)) {
+            if (file.length() < Integer.BYTES || file.readInt() != ArchiveFileWriter.MAGIC) {
+                throw new IOException("Not an archive file: " + path);
+            }
+            while (file.length() - file.getFilePointer() >= Integer.BYTES * 2L) {
+                if (file.readInt() != ArchiveFileWriter.BLOCK_MARKER) {
+                    break;
+                }
+                int length = file.readInt();
+                if (length < 0 || length > file.length() - file.getFilePointer()) {
+                    break;
+                }
+                byte[] block = new byte[length];
+                file.readFully(block);
+
+                List<String> alertIds;
+                try {
+                    alertIds = codec.decodeAlertIds(block);
+                } catch (RuntimeException e) {
+                    break;
+                }
+                writer.appendBlock(block, alertIds);
+                blocks++;
+            }
+        }
+        Files.move(repaired, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return blocks;
+    }
+
+    private static byte[] readBlock(RandomAccessFile file, long offset) throws IOException {
+        file.seek(offset);
+        if (file.readInt() != ArchiveFileWriter.BLOCK_MARKER) {
+            throw new IOException("Corrupt archive block at offset " + offset);
+        }
+        byte[] block = new byte[file.readInt()];
+        file.readFully(block);
+        return block;
+    }
+
+    private static Trailer readTrailer(RandomAccessFile file) throws IOException {
+        long length = file.length();
+        if (length < Integer.BYTES + ArchiveFileWriter.TRAILER_BYTES) {
+            throw new IOException("Archive file has no trailer");
+        }
+        file.seek(length - ArchiveFileWriter.TRAILER_BYTES);
+        long footerOffset = file.readLong();
+        long bloomOffset = file.readLong();
+        if (file.readInt() != ArchiveFileWriter.MAGIC
+                || footerOffset < Integer.BYTES || footerOffset > bloomOffset
+                || bloomOffset > length - ArchiveFileWriter.TRAILER_BYTES) {
+            throw new IOException("Archive file has no valid trailer");
+        }
+        return new Trailer(footerOffset, bloomOffset);
+    }
+
+    private record Trailer(long footerOffset, long bloomOffset) {
+    }
+}
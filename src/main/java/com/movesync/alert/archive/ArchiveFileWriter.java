@@ -0,0 +1,116 @@
+package com.movesync.alert.archive;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Writes one archive file: a header, compressed column blocks, then a footer
+ *
+ * Layout:
+ * - Header: MAGIC
+ * - Block: BLOCK_MARKER, length, Deflate-compressed columns (ArchiveBlockCodec)
+ * - Footer: FOOTER_MARKER, block offsets, alert ids sorted with their block number, Bloom filter
+ * - Trailer: footer offset, Bloom filter offset, MAGIC
+ *
+ * Every block is fsynced before appendBlock returns, so callers may delete the archived rows
+ * from the database as soon as it does. A file left without footer by a crash still holds its
+ * complete blocks and is repaired by ArchiveFileReader.
+ *
+ * Thread Safety: Not thread-safe; one writer per file and archive run
+ */
+final class ArchiveFileWriter implements Closeable {
+
+    static final int MAGIC = 0x41434631; // "ACF1"
+    static final int BLOCK_MARKER = 0x424C4B31; // "BLK1"
+    static final int FOOTER_MARKER = 0x46545231; // "FTR1"
+    static final int TRAILER_BYTES = Long.BYTES * 2 + Integer.BYTES;
+
+    private final Path path;
+    private final FileOutputStream file;
+    private final DataOutputStream out;
+    private final List<Long> blockOffsets = new ArrayList<>();
+    private final Map<String, Integer> blockByAlertId = new TreeMap<>();
+
+    ArchiveFileWriter(Path path) throws IOException {
+        if (Files.exists(path)) {
+            throw new FileAlreadyExistsException(path.toString());
+        }
+        this.path = path;
+        this.file = new FileOutputStream(path.toFile());
+        this.out = new DataOutputStream(new BufferedOutputStream(file, 64 * 1024));
+        out.writeInt(MAGIC);
+    }
+
+    /**
+     * Append one encoded block and force it to disk
+     *
+     * @param block Block produced by ArchiveBlockCodec.encode
+     * @param alertIds Ids of the alerts in the block
+     */
+    void appendBlock(byte[] block, Collection<String> alertIds) throws IOException {
+        int blockIndex = blockOffsets.size();
+        blockOffsets.add(position());
+        out.writeInt(BLOCK_MARKER);
+        out.writeInt(block.length);
+        out.write(block);
+        out.flush();
+        file.getFD().sync();
+
+        for (String alertId : alertIds) {
+            blockByAlertId.put(alertId, blockIndex);
+        }
+    }
+
+    Path path() {
+        return path;
+    }
+
+    /**
+     * Write the footer and trailer, then close the file
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            long footerOffset = position();
+            out.writeInt(FOOTER_MARKER);
+            out.writeInt(blockOffsets.size());
+            for (long offset : blockOffsets) {
+                out.writeLong(offset);
+            }
+            out.writeInt(blockByAlertId.size());
+            for (Map.Entry<String, Integer> entry : blockByAlertId.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeInt(entry.getValue());
+            }
+
+            long bloomOffset = position();
+            BloomFilter bloomFilter = BloomFilter.forCapacity(blockByAlertId.size());
+            blockByAlertId.keySet().forEach(bloomFilter::add);
+            bloomFilter.writeTo(out);
+
+            out.writeLong(footerOffset);
+            out.writeLong(bloomOffset);
+            out.writeInt(MAGIC);
+            out.flush();
+            file.getFD().sync();
+        } finally {
+            out.close();
+        }
+    }
+
+    private long position() throws IOException {
+        out.flush();
+        return file.getChannel().position();
+    }
+}
@@ -0,0 +1,13 @@
+package com.movesync.alert.archive;
+
+import com.movesync.alert.domain.model.Alert;
+import com.movesync.alert.domain.model.AlertHistory;
+
+import java.util.List;
+
+/**
+ * An alert read back from the archive, with its history in chronological order
+ * Both are detached copies and must never be saved
+ */
+public record ArchivedAlert(Alert alert, List<AlertHistory> history) {
+}
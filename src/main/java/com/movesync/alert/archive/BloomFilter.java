@@ -0,0 +1,83 @@
+package com.movesync.alert.archive;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Bloom filter over alert ids, stored in every archive file footer
+ * Lets a lookup skip files that cannot hold the alert without reading their index
+ *
+ * Sized at 10 bits per id with 7 hash functions (~1% false positives)
+ * Space Complexity: ~1.25 bytes per archived alert
+ * Thread Safety: Immutable once written; only the writer thread adds ids
+ */
+final class BloomFilter {
+
+    private static final int BITS_PER_ID = 10;
+    private static final int HASH_FUNCTIONS = 7;
+
+    private final long[] bits;
+    private final int hashFunctions;
+
+    private BloomFilter(long[] bits, int hashFunctions) {
+        this.bits = bits;
+        this.hashFunctions = hashFunctions;
+    }
+
+    static BloomFilter forCapacity(int expectedIds) {
+        long bitCount = Math.max(64L, (long) expectedIds * BITS_PER_ID);
+        return new BloomFilter(new long[(int) ((bitCount + 63) / 64)], HASH_FUNCTIONS);
+    }
+
+    void add(String id) {
+        long bitCount = bits.length * 64L;
+        int h1 = id.hashCode();
+        int h2 = fnv1a(id);
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+            bits[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    boolean mightContain(String id) {
+        long bitCount = bits.length * 64L;
+        int h1 = id.hashCode();
+        int h2 = fnv1a(id);
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+            if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeInt(hashFunctions);
+        out.writeInt(bits.length);
+        for (long word : bits) {
+            out.writeLong(word);
+        }
+    }
+
+    static BloomFilter readFrom(DataInput in) throws IOException {
+        int hashFunctions = in.readInt();
+        long[] bits = new long[in.readInt()];
+        for (int i = 0; i < bits.length; i++) {
+            bits[i] = in.readLong();
+        }
+        return new BloomFilter(bits, hashFunctions);
+    }
+
+    // Second, independent hash for double hashing; forced odd so the probe sequence never collapses
+    private static int fnv1a(String id) {
+        int hash = 0x811C9DC5;
+        for (byte b : id.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x01000193;
+        }
+        return hash | 1;
+    }
+}
@@ -15,10 +15,12 @@ import java.util.concurrent.TimeUnit;
  * 
  * Caching Strategy:
  * - alerts: TTL 10 minutes, max 1000 entries
- * - rules: TTL 5 minutes, max 100 entries
  * - dashboard: TTL 5 minutes, max 50 entries
  * - drivers: TTL 10 minutes, max 500 entries
  * 
+ * Rules are not cached here: RuleLoader publishes an immutable, EnumMap-indexed
+ * CompiledRuleSet, which is already an O(1) lock-free lookup
+ * 
  * Benefits:
  * - Reduces database load
  * - Improves response time
@@ -27,7 +29,7 @@ import java.util.concurrent.TimeUnit;
  * Trade-offs:
  * - May serve slightly stale data (up to TTL)
  * - Memory usage (controlled by max size)
- * - Cache invalidation on updates
+ * - Cache maintenance on updates: targeted per entry, driven by AlertCacheInvalidator
  */
 @Configuration
 @EnableCaching
@@ -41,7 +43,7 @@ public class CacheConfig {
     @SuppressWarnings("null")
     public CacheManager cacheManager() {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager(
-            "alerts", "rules", "dashboard", "drivers"
+            "alerts", "dashboard", "drivers"
         );
         
         cacheManager.setCaffeine(caffeineCacheBuilder());
@@ -60,22 +62,6 @@ public class CacheConfig {
                 .recordStats(); // Enable statistics for monitoring
     }
 
-    /**
-     * Separate cache for rules (shorter TTL)
-     */
-    @Bean("rulesCacheManager")
-    @SuppressWarnings("null")
-    public CacheManager rulesCacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager("rules");
-        
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-                .maximumSize(100)
-                .expireAfterWrite(5, TimeUnit.MINUTES)
-                .recordStats());
-        
-        return cacheManager;
-    }
-
     /**
      * Dashboard cache (shorter TTL for real-time feel)
      */
@@ -0,0 +1,75 @@
+package com.movesync.alert.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+
+/**
+ * Read replica configuration (alert.datasource.replica.enabled)
+ *
+ * Replaces Boot's single pool with:
+ * - primaryDataSource: the spring.datasource pool, used for writes and all other reads
+ * - a read-only replica pool (alert.datasource.replica.*, metrics under pool "replica"), owned by
+ *   ReplicaRoutingDataSource rather than registered as a bean, so a replica outage never turns the
+ *   db health check DOWN
+ * - dataSource: a LazyConnectionDataSourceProxy over ReplicaRoutingDataSource, used by JPA, JDBC
+ *   and Flyway; it defers the connection until the first statement, when the read-only flag of
+ *   the transaction is known
+ *
+ * Reads opt in through ReplicaReads.
+ */
+@Configuration
+@ConditionalOnProperty(name = "alert.datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            MeterRegistry meterRegistry,
+            @Value("${alert.datasource.replica.url:}") String url,
+            @Value("${alert.datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${alert.datasource.replica.password:${spring.datasource.password:}}") String password,
+            @Value("${alert.datasource.replica.pool-size:10}") int poolSize,
+            @Value("${alert.datasource.replica.connection-timeout-ms:1000}") long connectionTimeoutMs,
+            @Value("${alert.datasource.replica.max-lag-ms:5000}") long maxLagMs,
+            @Value("${alert.datasource.replica.check-interval-ms:1000}") long checkIntervalMs) {
+        if (!StringUtils.hasText(url)) {
+            throw new IllegalStateException("alert.datasource.replica.url is required when the replica is enabled");
+        }
+
+        HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName("replica");
+        replica.setJdbcUrl(url);
+        replica.setUsername(username);
+        replica.setPassword(password);
+        replica.setReadOnly(true);
+        replica.setMaximumPoolSize(poolSize);
+        replica.setConnectionTimeout(connectionTimeoutMs);
+        replica.setInitializationFailTimeout(-1); // Start even while the replica is down
+        replica.setMetricRegistry(meterRegistry);
+
+        return new ReplicaRoutingDataSource(primaryDataSource, replica, maxLagMs, checkIntervalMs);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
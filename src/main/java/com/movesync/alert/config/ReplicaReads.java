@@ -0,0 +1,90 @@
+package com.movesync.alert.config;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Opt-in scope for reads that may be served by the read replica
+ *
+ * Work passed to call() runs in a read-only transaction with the replica preferred. With
+ * alert.datasource.replica.enabled, ReplicaRoutingDataSource serves it from the replica while the
+ * replica is reachable and within alert.datasource.replica.max-lag-ms, and from the primary
+ * otherwise. Without a replica, or when joining a transaction that already holds a connection,
+ * the work runs on the primary as before.
+ *
+ * Only opt in reads that tolerate data up to max-lag-ms old: they may not see the caller's own
+ * latest writes. Lookups that must see them use find(), which repeats a miss on the primary.
+ *
+ * Thread Safety: The preference is bound to the calling thread for the duration of call()
+ */
+@Component
+public class ReplicaReads {
+
+    private static final ThreadLocal<Scope> PREFERRED = new ThreadLocal<>();
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ReplicaReads(PlatformTransactionManager transactionManager) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Run read-only work, preferring the replica
+     */
+    public <T> T call(Supplier<T> work) {
+        return run(work, new Scope());
+    }
+
+    /**
+     * Run a read-only lookup preferring the replica, repeating it on the primary when the replica
+     * served it and found nothing (e.g. a row written within the replica's lag)
+     */
+    public <T> Optional<T> find(Supplier<Optional<T>> lookup) {
+        Scope scope = new Scope();
+        Optional<T> result = run(lookup, scope);
+        if (result.isPresent() || !scope.servedByReplica) {
+            return result;
+        }
+        return readOnlyTransaction.execute(status -> lookup.get());
+    }
+
+    private <T> T run(Supplier<T> work, Scope scope) {
+        Scope previous = PREFERRED.get();
+        PREFERRED.set(scope);
+        try {
+            return readOnlyTransaction.execute(status -> work.get());
+        } finally {
+            if (previous == null) {
+                PREFERRED.remove();
+            } else {
+                PREFERRED.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Whether the current thread runs inside call()
+     */
+    public static boolean isReplicaPreferred() {
+        return PREFERRED.get() != null;
+    }
+
+    /**
+     * Record that the current call() got a replica connection; called by ReplicaRoutingDataSource
+     */
+    public static void markServedByReplica() {
+        Scope scope = PREFERRED.get();
+        if (scope != null) {
+            scope.servedByReplica = true;
+        }
+    }
+
+    private static final class Scope {
+        private boolean servedByReplica;
+    }
+}
@@ -0,0 +1,190 @@
+package com.movesync.alert.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Routes opted-in read-only work to a replica pool and everything else to the primary
+ *
+ * A connection comes from the replica when the current thread is inside ReplicaReads.call(),
+ * its transaction is read-only and the last replica check passed; otherwise it comes from the
+ * primary. Wrapped in a LazyConnectionDataSourceProxy (ReplicaDataSourceConfig), so the choice is
+ * made at a transaction's first statement, once its read-only flag is known.
+ *
+ * Replica check, every check-interval-ms: the replica must be reachable, and a PostgreSQL standby
+ * must be within max-lag-ms of the primary. While the standby is behind the primary's WAL
+ * position, its lag is the time since a check last saw it caught up, or since its last replayed
+ * commit if that is shorter (both bound how old its data can be; the latter alone overstates lag
+ * after the primary was idle). Other databases, and PostgreSQL servers not in recovery, are only
+ * checked for reachability. A failed replica connection also takes the replica out until the
+ * next passing check. A replica can exceed the bound by up to one interval.
+ *
+ * Thread Safety: Thread-safe; routing reads volatile state written by the single check thread
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final String PRIMARY_LSN_SQL = "SELECT pg_current_wal_lsn()::text";
+    private static final String REPLICA_LAG_SQL =
+        "SELECT pg_is_in_recovery(), pg_wal_lsn_diff(CAST(? AS pg_lsn), pg_last_wal_replay_lsn()), " +
+        "EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())) * 1000";
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final DataSource primary;
+    private final HikariDataSource replica;
+    private final long maxLagMillis;
+    private final ScheduledExecutorService checker;
+
+    private final LongAdder replicaConnections = new LongAdder();
+    private final LongAdder primaryFallbacks = new LongAdder();
+
+    private volatile boolean replicaUsable;
+    private volatile long replicaLagMillis = -1;
+    private volatile String replicaError = "Not checked yet";
+    private long caughtUpAtMillis = -1; // Check thread only
+
+    public ReplicaRoutingDataSource(DataSource primary, HikariDataSource replica,
+                                    long maxLagMillis, long checkIntervalMillis) {
+        this.primary = primary;
+        this.replica = replica;
+        this.maxLagMillis = maxLagMillis;
+        this.checker = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("replica-check-"));
+        this.checker.scheduleWithFixedDelay(this::checkReplica, 0, checkIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (ReplicaReads.isReplicaPreferred() && TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (replicaUsable) {
+                try {
+                    Connection connection = replica.getConnection();
+                    replicaConnections.increment();
+                    ReplicaReads.markServedByReplica();
+                    return connection;
+                } catch (SQLException e) {
+                    markUnusable("Connection failed: " + e.getMessage());
+                }
+            }
+            primaryFallbacks.increment();
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * Check reachability and lag of the replica, and enable or disable routing to it
+     */
+    void checkReplica() {
+        try {
+            long lag = measureLag();
+            replicaLagMillis = lag;
+            if (lag > maxLagMillis) {
+                markUnusable("Replica " + lag + "ms behind, bound is " + maxLagMillis + "ms");
+            } else if (!replicaUsable) {
+                replicaUsable = true;
+                replicaError = null;
+                log.info("Read replica available ({}ms behind), routing opted-in reads to it", lag);
+            }
+        } catch (Exception e) {
+            markUnusable("Check failed: " + e.getMessage());
+        }
+    }
+
+    private long measureLag() throws SQLException {
+        try (Connection replicaConnection = replica.getConnection()) {
+            if (!"PostgreSQL".equalsIgnoreCase(replicaConnection.getMetaData().getDatabaseProductName())) {
+                if (!replicaConnection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    throw new SQLException("Replica connection is not valid");
+                }
+                return 0;
+            }
+
+            long primaryReadAtMillis = System.currentTimeMillis();
+            String primaryLsn;
+            try (Connection primaryConnection = primary.getConnection();
+                 Statement statement = primaryConnection.createStatement();
+                 ResultSet rs = statement.executeQuery(PRIMARY_LSN_SQL)) {
+                rs.next();
+                primaryLsn = rs.getString(1);
+            }
+
+            try (PreparedStatement statement = replicaConnection.prepareStatement(REPLICA_LAG_SQL)) {
+                statement.setString(1, primaryLsn);
+                try (ResultSet rs = statement.executeQuery()) {
+                    rs.next();
+                    if (!rs.getBoolean(1) || rs.getDouble(2) <= 0) {
+                        // Not a standby (nothing to measure), or has everything committed before primaryReadAtMillis
+                        caughtUpAtMillis = primaryReadAtMillis;
+                        return 0;
+                    }
+                    double replayAgeMillis = rs.getDouble(3);
+                    long replayLag = rs.wasNull() ? Long.MAX_VALUE : Math.max(0, (long) replayAgeMillis);
+                    long caughtUpLag = caughtUpAtMillis < 0 ? Long.MAX_VALUE
+                        : System.currentTimeMillis() - caughtUpAtMillis;
+                    return Math.min(replayLag, caughtUpLag);
+                }
+            }
+        }
+    }
+
+    private void markUnusable(String reason) {
+        if (replicaUsable) {
+            log.warn("Read replica unavailable, routing reads to the primary: {}", reason);
+        }
+        replicaUsable = false;
+        replicaError = reason;
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    /**
+     * Lag measured by the last successful check, -1 before the first one
+     */
+    public long getReplicaLagMillis() {
+        return replicaLagMillis;
+    }
+
+    /**
+     * Why the replica is not used, null while it is
+     */
+    public String getReplicaError() {
+        return replicaError;
+    }
+
+    public long getReplicaConnections() {
+        return replicaConnections.sum();
+    }
+
+    /**
+     * Opted-in reads served by the primary because the replica was not usable
+     */
+    public long getPrimaryFallbacks() {
+        return primaryFallbacks.sum();
+    }
+
+    @Override
+    public void close() {
+        checker.shutdownNow();
+        replica.close();
+    }
+}
@@ -1,11 +1,23 @@
 package com.movesync.alert.controller;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.movesync.alert.domain.enums.AlertSeverity;
+import com.movesync.alert.domain.enums.AlertType;
 import com.movesync.alert.domain.model.AlertHistory;
+import com.movesync.alert.dto.AlertPageResponse;
 import com.movesync.alert.dto.AlertResponse;
 import com.movesync.alert.dto.ApiResponse;
+import com.movesync.alert.dto.BatchAlertResponse;
 import com.movesync.alert.dto.CreateAlertRequest;
 import com.movesync.alert.dto.ResolveAlertRequest;
 import com.movesync.alert.dto.EscalateAlertRequest;
+import com.movesync.alert.exception.InvalidAlertException;
+import com.movesync.alert.pipeline.AlertIngestPipeline;
+import com.movesync.alert.service.AlertEventBroadcaster;
 import com.movesync.alert.service.AlertService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -13,12 +25,25 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 
 /**
@@ -31,6 +56,7 @@ import java.util.List;
  * - JWT authentication required
  * 
  * Rate Limiting: Can be added via Spring Cloud Gateway or custom interceptor
+ * Backpressure: Ingest goes through AlertIngestPipeline; a full queue answers 503 with Retry-After
  */
 @Slf4j
 @RestController
@@ -41,6 +67,12 @@ import java.util.List;
 public class AlertController {
 
     private final AlertService alertService;
+    private final AlertIngestPipeline ingestPipeline;
+    private final AlertEventBroadcaster eventBroadcaster;
+    private final ObjectMapper objectMapper;
+
+    @Value("${alert.ingest.batch.max-size:5000}")
+    private int maxBatchSize;
 
     /**
      * Create a new alert
@@ -58,13 +90,90 @@ public class AlertController {
         log.info("Received request to create alert: type={}, driverId={}", 
                  request.getAlertType(), request.getDriverId());
 
-        AlertResponse response = alertService.createAlert(request);
+        AlertResponse response = ingestPipeline.submit(request);
         
         return ResponseEntity
             .status(HttpStatus.CREATED)
             .body(ApiResponse.success("Alert created successfully", response));
     }
 
+    /**
+     * Create a batch of alerts from a JSON array
+     * POST /api/v1/alerts/batch (Content-Type: application/json)
+     * 
+     * @param body JSON array of CreateAlertRequest
+     * @return Per-item results in submission order
+     */
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Create alerts in batch", 
+               description = "Ingest many alerts in one call; persisted in a single transaction with per-item results")
+    public ResponseEntity<ApiResponse<BatchAlertResponse>> createAlertsBatch(
+            InputStream body) {
+        
+        List<CreateAlertRequest> requests = readBatch(body, true);
+        log.info("Received batch of {} alerts", requests.size());
+        return batchResponse(ingestPipeline.submitBatch(requests));
+    }
+
+    /**
+     * Create a batch of alerts from newline-delimited JSON
+     * POST /api/v1/alerts/batch (Content-Type: application/x-ndjson)
+     * 
+     * @param body NDJSON stream, one CreateAlertRequest per line
+     * @return Per-item results in submission order
+     */
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Create alerts in batch (NDJSON)", 
+               description = "Ingest many alerts as newline-delimited JSON, one alert per line")
+    public ResponseEntity<ApiResponse<BatchAlertResponse>> createAlertsBatchNdjson(
+            InputStream body) {
+        
+        List<CreateAlertRequest> requests = readBatch(body, false);
+        log.info("Received NDJSON batch of {} alerts", requests.size());
+        return batchResponse(ingestPipeline.submitBatch(requests));
+    }
+
+    /**
+     * Read a batch body one alert at a time, either a JSON array or NDJSON
+     * Stops at alert.ingest.batch.max-size + 1, so an oversized body is rejected without being
+     * read, or held, in full
+     */
+    private List<CreateAlertRequest> readBatch(InputStream body, boolean array) {
+        List<CreateAlertRequest> requests = new ArrayList<>();
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            JsonToken end = null; // NDJSON ends with the input
+            if (array) {
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    throw new InvalidAlertException("Batch must be a JSON array of alerts");
+                }
+                end = JsonToken.END_ARRAY;
+            }
+            while (parser.nextToken() != end) {
+                if (requests.size() == maxBatchSize) {
+                    throw new InvalidAlertException(
+                        String.format("Batch size exceeds maximum of %d", maxBatchSize));
+                }
+                requests.add(objectMapper.readValue(parser, CreateAlertRequest.class));
+            }
+        } catch (IOException e) {
+            throw new InvalidAlertException(String.format(
+                array ? "Malformed JSON at alert %d" : "Malformed NDJSON at line %d", requests.size() + 1), e);
+        }
+        return requests;
+    }
+
+        /**
+     * 201 when every item was accepted, 207 when some were rejected
+     */
+    private ResponseEntity<ApiResponse<BatchAlertResponse>> batchResponse(BatchAlertResponse response) {
+        HttpStatus status = response.getRejected() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        String message = String.format("%d alerts created, %d rejected", 
+                                       response.getAccepted(), response.getRejected());
+        return ResponseEntity
+            .status(status)
+            .body(ApiResponse.success(message, response));
+    }
+
     /**
      * Get alert by ID
      * GET /api/v1/alerts/{alertId}
@@ -102,22 +211,92 @@ public class AlertController {
     }
 
     /**
-     * Get all alerts with optional status filter
-     * GET /api/v1/alerts/all?status=OPEN
+     * Get alerts with optional status filter, one keyset page at a time
+     * GET /api/v1/alerts/all?status=OPEN&size=100&cursor=...
      * 
      * @param status Optional status filter (OPEN, ESCALATED, AUTO_CLOSED, RESOLVED)
-     * @return List of alerts filtered by status (or all if no status provided)
+     * @param cursor Cursor from the previous page (omit for the first page)
+     * @param size Page size (capped at alert.api.page.max-size)
+     * @return Page of alerts, newest first, with the cursor of the next page
      */
     @GetMapping("/all")
-    @Operation(summary = "Get all alerts with optional status filter", 
-               description = "Retrieve all alerts, optionally filtered by status")
-    public ResponseEntity<ApiResponse<List<AlertResponse>>> getAllAlerts(
+    @Operation(summary = "Get alerts with optional status filter (paginated)", 
+               description = "Retrieve alerts newest first using cursor pagination, optionally filtered by status")
+    public ResponseEntity<ApiResponse<AlertPageResponse>> getAllAlerts(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        
+        log.debug("Fetching alert page with status filter: {}", status);
+        AlertPageResponse page = alertService.findAlertsPage(status, cursor, size);
+        
+        return ResponseEntity.ok(ApiResponse.success(page));
+    }
+
+    /**
+     * Stream all alerts with optional status filter as NDJSON
+     * GET /api/v1/alerts/stream?status=OPEN
+     * 
+     * @param status Optional status filter (OPEN, ESCALATED, AUTO_CLOSED, RESOLVED)
+     * @return One AlertResponse per line, newest first, written as rows are read
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream alerts (NDJSON)", 
+               description = "Export alerts as newline-delimited JSON without buffering the result set")
+    public ResponseEntity<StreamingResponseBody> streamAlerts(
             @RequestParam(required = false) String status) {
         
-        log.debug("Fetching all alerts with status filter: {}", status);
-        List<AlertResponse> alerts = alertService.findAllAlerts(status);
+        log.debug("Streaming alerts with status filter: {}", status);
+        ObjectWriter writer = objectMapper.writerFor(AlertResponse.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        StreamingResponseBody body = outputStream -> {
+            try (Writer out = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8))) {
+                long count = alertService.streamAlerts(status, alert -> {
+                    try {
+                        out.write(writer.writeValueAsString(alert));
+                        out.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                log.debug("Streamed {} alerts", count);
+            }
+        };
         
-        return ResponseEntity.ok(ApiResponse.success(alerts));
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+
+    /**
+     * Subscribe to live alert lifecycle events (Server-Sent Events)
+     * GET /api/v1/alerts/events?severity=CRITICAL,WARNING&driverId=D1&alertType=OVERSPEEDING
+     * 
+     * Each event is named after its type (CREATED, ESCALATED, AUTO_CLOSED, RESOLVED) and carries
+     * the alert after the change. Slow subscribers are disconnected; reload a snapshot on reconnect.
+     * 
+     * @param severity Optional severities to receive (comma-separated or repeated); matches the
+     *                 severity before or after the change, so alerts leaving the filter are seen
+     * @param driverId Optional driver to receive
+     * @param alertType Optional alert types to receive (comma-separated or repeated)
+     * @return Event stream
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Subscribe to alert events (SSE)", 
+               description = "Push created, escalated, auto-closed and resolved alerts as they are committed")
+    public SseEmitter subscribeToEvents(
+            @RequestParam(required = false) List<String> severity,
+            @RequestParam(required = false) String driverId,
+            @RequestParam(required = false) List<String> alertType) {
+        
+        EnumSet<AlertSeverity> severities = parseEnumFilter(severity, AlertSeverity.class);
+        EnumSet<AlertType> alertTypes = parseEnumFilter(alertType, AlertType.class);
+        log.debug("Alert event subscription: severity={}, driverId={}, alertType={}", 
+            severities, driverId, alertTypes);
+        
+        return eventBroadcaster.subscribe(severities, 
+            driverId != null && !driverId.isBlank() ? driverId : null, alertTypes);
     }
 
     /**
@@ -227,5 +406,22 @@ public class AlertController {
         
         return ResponseEntity.ok(ApiResponse.success("Alert condition updated", response));
     }
-}
 
+    private static <E extends Enum<E>> EnumSet<E> parseEnumFilter(List<String> values, Class<E> type) {
+        EnumSet<E> parsed = EnumSet.noneOf(type);
+        if (values == null) {
+            return parsed;
+        }
+        for (String value : values) {
+            if (value.isBlank()) {
+                continue;
+            }
+            try {
+                parsed.add(Enum.valueOf(type, value.trim().toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidAlertException("Invalid " + type.getSimpleName() + " filter: " + value);
+            }
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,45 @@
+package com.movesync.alert.domain.event;
+
+import com.movesync.alert.domain.enums.AlertSeverity;
+import com.movesync.alert.domain.enums.AlertStatus;
+import com.movesync.alert.domain.model.Alert;
+import com.movesync.alert.domain.model.AlertHistory;
+
+import java.util.List;
+
+/**
+ * Published whenever alerts change state (including creation)
+ * Carries enough of the before/after state for listeners to maintain aggregates incrementally
+ *
+ * @param transitions State changes, in the order they were recorded
+ */
+public record AlertTransitionsEvent(List<Transition> transitions) {
+
+    public static AlertTransitionsEvent of(Transition transition) {
+        return new AlertTransitionsEvent(List.of(transition));
+    }
+
+    /**
+     * One alert state change
+     *
+     * @param alert Alert as seen by the writer; for bulk updates this is the state before the update
+     * @param fromStatus Status before the change, null on creation
+     * @param fromSeverity Severity before the change, null on creation
+     * @param toSeverity Severity after the change
+     * @param history Audit entry recorded for the change; its toStatus is the new status
+     */
+    public record Transition(Alert alert,
+                             AlertStatus fromStatus,
+                             AlertSeverity fromSeverity,
+                             AlertSeverity toSeverity,
+                             AlertHistory history) {
+
+        public static Transition created(Alert alert, AlertHistory history) {
+            return new Transition(alert, null, null, alert.getSeverity(), history);
+        }
+
+        public AlertStatus toStatus() {
+            return history.getToStatus();
+        }
+    }
+}
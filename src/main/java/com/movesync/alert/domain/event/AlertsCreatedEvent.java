@@ -0,0 +1,14 @@
+package com.movesync.alert.domain.event;
+
+import com.movesync.alert.domain.model.Alert;
+
+import java.util.List;
+
+/**
+ * Published when new alerts have been persisted
+ * Listeners bound to AFTER_COMMIT only see alerts that are visible in the database
+ *
+ * @param alerts Newly created alerts, in creation order
+ */
+public record AlertsCreatedEvent(List<Alert> alerts) {
+}
@@ -0,0 +1,112 @@
+package com.movesync.alert.domain.metadata;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Metadata of a loaded alert, decoded from its stored bytes on first access
+ *
+ * Alerts loaded only to change status (escalation, auto-close, resolve) never decode their
+ * metadata: MetadataConverter writes the untouched bytes back as they are, and two untouched
+ * maps compare by bytes, so Hibernate's dirty check does not decode either.
+ *
+ * Thread Safety: Decoding is synchronized, so a map shared through a cached response is decoded
+ * once; mutation is not thread-safe, like the HashMap it replaces
+ */
+final class LazyMetadataMap extends AbstractMap<String, Object> {
+
+    private final byte[] encoded;
+    private volatile Map<String, Object> decoded;
+
+    LazyMetadataMap(byte[] encoded) {
+        this.encoded = encoded;
+    }
+
+    /**
+     * Stored bytes while the map has never been accessed, null once decoded (it may have changed)
+     */
+    byte[] encodedIfUntouched() {
+        return decoded == null ? encoded : null;
+    }
+
+    private Map<String, Object> decoded() {
+        Map<String, Object> map = decoded;
+        if (map == null) {
+            synchronized (this) {
+                map = decoded;
+                if (map == null) {
+                    map = MetadataCodec.decode(encoded);
+                    decoded = map;
+                }
+            }
+        }
+        return map;
+    }
+
+    @Override
+    public int size() {
+        return decoded().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return decoded().isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return decoded().containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return decoded().containsValue(value);
+    }
+
+    @Override
+    public Object get(Object key) {
+        return decoded().get(key);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        return decoded().put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        return decoded().remove(key);
+    }
+
+    @Override
+    public void clear() {
+        decoded().clear();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return decoded().entrySet();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (other instanceof LazyMetadataMap lazy) {
+            byte[] mine = encodedIfUntouched();
+            byte[] theirs = lazy.encodedIfUntouched();
+            if (mine != null && theirs != null && Arrays.equals(mine, theirs)) {
+                return true;
+            }
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return decoded().hashCode();
+    }
+}
@@ -0,0 +1,163 @@
+package com.movesync.alert.domain.metadata;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.smile.SmileParser;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encoding of alert metadata for the alerts.metadata column: one MetadataFormat tag byte, then
+ * the body (JSON text or Smile, without Smile's own 4-byte header)
+ *
+ * Key dictionary (SMILE_DICTIONARY): top-level keys listed in KEY_DICTIONARY are written as a
+ * one-character token (U+0001 for the first entry, ...), so a key costs 2 bytes instead of
+ * its length + 1. Literal keys starting with a control character are escaped with a U+0000
+ * prefix. Nested keys are left to Smile's back-references. The dictionary is persisted:
+ * only append to it.
+ *
+ * Jackson modules on the classpath are registered, as Hibernate's JSON mapping did.
+ *
+ * Time Complexity: O(size of the metadata) per encode / decode
+ * Thread Safety: Stateless apart from the thread-safe ObjectMappers
+ */
+public final class MetadataCodec {
+
+    /** Top-level keys common in alert metadata; append only (the index is the stored token) */
+    static final List<String> KEY_DICTIONARY = List.of(
+        "speed", "limit", "speedLimit", "location", "latitude", "longitude", "heading", "tripId",
+        "vehicleModel", "condition", "source", "odometer", "fuelLevel", "documentType", "expiryDate", "reason");
+
+    private static final char ESCAPE = '\u0000';
+    private static final char FIRST_CONTROL = '\u0001';
+    private static final char LAST_CONTROL = '\u001F';
+    private static final Map<String, String> KEY_TOKENS = new HashMap<>();
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+    private static final ObjectMapper JSON_MAPPER = JsonMapper.builder().findAndAddModules().build();
+    private static final ObjectMapper SMILE_MAPPER = SmileMapper.builder(
+            SmileFactory.builder()
+                .disable(SmileGenerator.Feature.WRITE_HEADER)
+                .disable(SmileParser.Feature.REQUIRE_HEADER)
+                .build())
+        .findAndAddModules()
+        .build();
+
+    static {
+        if (KEY_DICTIONARY.size() > LAST_CONTROL - FIRST_CONTROL + 1) {
+            throw new IllegalStateException("Metadata key dictionary exceeds the one-character tokens");
+        }
+        for (int i = 0; i < KEY_DICTIONARY.size(); i++) {
+            KEY_TOKENS.put(KEY_DICTIONARY.get(i), String.valueOf((char) (FIRST_CONTROL + i)));
+        }
+    }
+
+    private MetadataCodec() {
+    }
+
+    /**
+     * Encode metadata in a format
+     *
+     * @return Tagged bytes, or null for null metadata
+     * @throws IllegalArgumentException If a value is not serializable
+     */
+    public static byte[] encode(Map<String, Object> metadata, MetadataFormat format) {
+        if (metadata == null) {
+            return null;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+        out.write(format.tag());
+        try {
+            switch (format) {
+                case JSON -> JSON_MAPPER.writeValue(out, metadata);
+                case SMILE -> SMILE_MAPPER.writeValue(out, metadata);
+                case SMILE_DICTIONARY -> SMILE_MAPPER.writeValue(out, tokenizeKeys(metadata));
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Alert metadata is not serializable", e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decode tagged bytes of any format
+     *
+     * @return Mutable metadata, or null for null bytes
+     * @throws IllegalStateException If the bytes are corrupt or of an unknown format
+     */
+    public static Map<String, Object> decode(byte[] encoded) {
+        if (encoded == null) {
+            return null;
+        }
+        try {
+            return switch (formatOf(encoded)) {
+                case JSON -> JSON_MAPPER.readValue(encoded, 1, encoded.length - 1, MAP_TYPE);
+                case SMILE -> SMILE_MAPPER.readValue(encoded, 1, encoded.length - 1, MAP_TYPE);
+                case SMILE_DICTIONARY -> resolveKeys(SMILE_MAPPER.readValue(encoded, 1, encoded.length - 1, MAP_TYPE));
+            };
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalStateException("Corrupt alert metadata", e);
+        }
+    }
+
+    /**
+     * Format of tagged bytes
+     *
+     * @throws IllegalArgumentException If the bytes are empty or of an unknown format
+     */
+    public static MetadataFormat formatOf(byte[] encoded) {
+        if (encoded.length == 0) {
+            throw new IllegalArgumentException("Empty alert metadata");
+        }
+        return MetadataFormat.fromTag(encoded[0]);
+    }
+
+    private static Map<String, Object> tokenizeKeys(Map<String, Object> metadata) {
+        Map<String, Object> tokenized = new LinkedHashMap<>(metadata.size() * 2);
+        for (Map.Entry<String, Object> entry : metadata.entrySet()) {
+            String key = entry.getKey();
+            String token = KEY_TOKENS.get(key);
+            if (token == null && !key.isEmpty() && key.charAt(0) <= LAST_CONTROL) {
+                token = ESCAPE + key;
+            }
+            tokenized.put(token != null ? token : key, entry.getValue());
+        }
+        return tokenized;
+    }
+
+    private static Map<String, Object> resolveKeys(Map<String, Object> tokenized) {
+        Map<String, Object> metadata = new LinkedHashMap<>(tokenized.size() * 2);
+        for (Map.Entry<String, Object> entry : tokenized.entrySet()) {
+            metadata.put(resolveKey(entry.getKey()), entry.getValue());
+        }
+        return metadata;
+    }
+
+    private static String resolveKey(String key) {
+        if (key.isEmpty()) {
+            return key;
+        }
+        char first = key.charAt(0);
+        if (first == ESCAPE) {
+            return key.substring(1);
+        }
+        if (first >= FIRST_CONTROL && first <= LAST_CONTROL) {
+            int index = first - FIRST_CONTROL;
+            if (key.length() != 1 || index >= KEY_DICTIONARY.size()) {
+                throw new IllegalArgumentException("Unknown metadata key token: " + (int) first);
+            }
+            return KEY_DICTIONARY.get(index);
+        }
+        return key;
+    }
+}
@@ -0,0 +1,54 @@
+package com.movesync.alert.domain.metadata;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.Map;
+
+/**
+ * Maps Alert.metadata to the binary alerts.metadata column
+ *
+ * Writes use alert.metadata.format (Hibernate obtains the converter from the Spring context);
+ * reads accept every format and return a LazyMetadataMap. Metadata loaded and never accessed
+ * is written back as stored, whatever its format; MetadataReencodeJob converts old rows.
+ *
+ * Usage: @Convert(converter = MetadataConverter.class) on a Map<String, Object> attribute
+ * Thread Safety: Stateless
+ */
+@Converter
+public class MetadataConverter implements AttributeConverter<Map<String, Object>, byte[]> {
+
+    public static final MetadataFormat DEFAULT_FORMAT = MetadataFormat.SMILE_DICTIONARY;
+
+    private final MetadataFormat format;
+
+    /**
+     * Outside a Spring context (plain Hibernate bootstrap): writes DEFAULT_FORMAT
+     */
+    public MetadataConverter() {
+        this(DEFAULT_FORMAT);
+    }
+
+    @Autowired
+    public MetadataConverter(@Value("${alert.metadata.format:SMILE_DICTIONARY}") MetadataFormat format) {
+        this.format = format;
+    }
+
+    @Override
+    public byte[] convertToDatabaseColumn(Map<String, Object> metadata) {
+        if (metadata instanceof LazyMetadataMap lazy) {
+            byte[] untouched = lazy.encodedIfUntouched();
+            if (untouched != null) {
+                return untouched;
+            }
+        }
+        return MetadataCodec.encode(metadata, format);
+    }
+
+    @Override
+    public Map<String, Object> convertToEntityAttribute(byte[] encoded) {
+        return encoded == null ? null : new LazyMetadataMap(encoded);
+    }
+}
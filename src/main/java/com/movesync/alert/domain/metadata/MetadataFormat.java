@@ -0,0 +1,42 @@
+package com.movesync.alert.domain.metadata;
+
+/**
+ * Encoding of a stored alert metadata value
+ *
+ * Every stored value starts with its format's tag byte, so rows written in different formats
+ * coexist and always decode; alert.metadata.format only selects how new values are written.
+ * Tags are persisted: never change or reuse one.
+ */
+public enum MetadataFormat {
+
+    /** UTF-8 JSON text, as the column held before V4 */
+    JSON((byte) 1),
+
+    /** Binary JSON (Smile): typed numbers, length-prefixed strings, repeated keys back-referenced */
+    SMILE((byte) 2),
+
+    /** Smile with well-known top-level keys replaced by one-character tokens, see MetadataCodec */
+    SMILE_DICTIONARY((byte) 3);
+
+    private final byte tag;
+
+    MetadataFormat(byte tag) {
+        this.tag = tag;
+    }
+
+    public byte tag() {
+        return tag;
+    }
+
+    /**
+     * @throws IllegalArgumentException If no format has the tag
+     */
+    public static MetadataFormat fromTag(byte tag) {
+        for (MetadataFormat format : values()) {
+            if (format.tag == tag) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unknown metadata format tag: " + tag);
+    }
+}
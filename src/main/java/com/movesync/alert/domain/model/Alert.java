@@ -3,27 +3,34 @@ package com.movesync.alert.domain.model;
 import com.movesync.alert.domain.enums.AlertSeverity;
 import com.movesync.alert.domain.enums.AlertStatus;
 import com.movesync.alert.domain.enums.AlertType;
+import com.movesync.alert.domain.metadata.MetadataConverter;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.JavaType;
 import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.PartitionKey;
 import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.UUID;
 
 /**
  * Core Alert entity representing a single alert in the system
  * Follows the unified format: {alertId, sourceType, severity, timestamp, status, metadata}
+ *
+ * The schema is owned by the Flyway migrations in db/migration; the indexes declared here
+ * mirror them for reference (partial and covering indexes exist on PostgreSQL only)
  */
 @Entity
 @Table(name = "alerts", indexes = {
-    @Index(name = "idx_alert_status", columnList = "status"),
-    @Index(name = "idx_alert_type", columnList = "alertType"),
-    @Index(name = "idx_alert_driver", columnList = "driverId"),
-    @Index(name = "idx_alert_timestamp", columnList = "timestamp"),
-    @Index(name = "idx_alert_severity", columnList = "severity")
+    @Index(name = "idx_alert_type_driver_ts", columnList = "alertType, driverId, timestamp DESC"),
+    @Index(name = "idx_alert_status_ts", columnList = "status, timestamp DESC, alertId DESC"),
+    @Index(name = "idx_alert_ts_id", columnList = "timestamp DESC, alertId DESC"),
+    @Index(name = "idx_alert_driver_status", columnList = "driverId, status"),
+    @Index(name = "idx_alert_status_severity", columnList = "status, severity, driverId"),
+    @Index(name = "idx_alert_status_closed", columnList = "status, closedAt")
 })
 @Getter
 @Setter
@@ -32,7 +39,10 @@ import java.util.UUID;
 @Builder
 public class Alert {
     
+    // UUIDv7 carrying the alert timestamp (AlertPartitionKey), stored as a native UUID; exposed as its canonical string
     @Id
+    @JavaType(UuidStringJavaType.class)
+    @JdbcTypeCode(SqlTypes.UUID)
     @Column(name = "alert_id", updatable = false, nullable = false)
     private String alertId;
 
@@ -44,7 +54,9 @@ public class Alert {
     @Column(name = "severity", nullable = false, length = 20)
     private AlertSeverity severity;
 
-    @Column(name = "timestamp", nullable = false)
+    // Partition key on PostgreSQL: Hibernate adds it to the WHERE clause of entity UPDATEs and DELETEs
+    @PartitionKey
+    @Column(name = "timestamp", nullable = false, updatable = false)
     private LocalDateTime timestamp;
 
     @Enumerated(EnumType.STRING)
@@ -61,9 +73,9 @@ public class Alert {
     @Column(name = "route_id", length = 100)
     private String routeId;
 
-    // Metadata stored as JSON
-    @JdbcTypeCode(SqlTypes.JSON)
-    @Column(name = "metadata", columnDefinition = "json")
+    // Metadata stored as tagged binary (see MetadataCodec), decoded on first access
+    @Convert(converter = MetadataConverter.class)
+    @Column(name = "metadata")
     @Builder.Default
     private Map<String, Object> metadata = new HashMap<>();
 
@@ -97,13 +109,13 @@ public class Alert {
 
     @PrePersist
     protected void onCreate() {
-        if (alertId == null) {
-            alertId = UUID.randomUUID().toString();
-        }
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
-        if (timestamp == null) {
-            timestamp = LocalDateTime.now();
+        // Stored with microsecond precision: keep the in-memory partition key equal to the stored one,
+        // so UPDATEs of this instance (WHERE alert_id = ? AND timestamp = ?) still match the row
+        timestamp = (timestamp != null ? timestamp : LocalDateTime.now()).truncatedTo(ChronoUnit.MICROS);
+        if (alertId == null) {
+            alertId = AlertPartitionKey.newAlertId(timestamp);
         }
         if (status == null) {
             status = AlertStatus.OPEN;
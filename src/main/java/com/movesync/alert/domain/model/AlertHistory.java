@@ -3,9 +3,13 @@ package com.movesync.alert.domain.model;
 import com.movesync.alert.domain.enums.AlertStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.JavaType;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.PartitionKey;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
-import java.util.UUID;
+import java.time.temporal.ChronoUnit;
 
 /**
  * Entity to track alert state transitions and lifecycle events
@@ -13,8 +17,9 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "alert_history", indexes = {
-    @Index(name = "idx_history_alert", columnList = "alertId"),
-    @Index(name = "idx_history_timestamp", columnList = "timestamp")
+    @Index(name = "idx_history_alert_ts", columnList = "alertId, timestamp"),
+    @Index(name = "idx_history_timestamp", columnList = "timestamp"),
+    @Index(name = "idx_history_event_ts", columnList = "eventType, timestamp")
 })
 @Getter
 @Setter
@@ -24,9 +29,13 @@ import java.util.UUID;
 public class AlertHistory {
     
     @Id
+    @JavaType(UuidStringJavaType.class)
+    @JdbcTypeCode(SqlTypes.UUID)
     @Column(name = "history_id", updatable = false, nullable = false)
     private String historyId;
 
+    @JavaType(UuidStringJavaType.class)
+    @JdbcTypeCode(SqlTypes.UUID)
     @Column(name = "alert_id", nullable = false)
     private String alertId;
 
@@ -38,6 +47,8 @@ public class AlertHistory {
     @Column(name = "to_status", nullable = false, length = 20)
     private AlertStatus toStatus;
 
+    // Partition key on PostgreSQL, see Alert.timestamp
+    @PartitionKey
     @Column(name = "timestamp", nullable = false)
     private LocalDateTime timestamp;
 
@@ -53,11 +64,10 @@ public class AlertHistory {
     @PrePersist
     protected void onCreate() {
         if (historyId == null) {
-            historyId = UUID.randomUUID().toString();
-        }
-        if (timestamp == null) {
-            timestamp = LocalDateTime.now();
+            historyId = UuidV7.nextString();
         }
+        // Microsecond precision as stored, see Alert.onCreate
+        timestamp = (timestamp != null ? timestamp : LocalDateTime.now()).truncatedTo(ChronoUnit.MICROS);
     }
 
     /**
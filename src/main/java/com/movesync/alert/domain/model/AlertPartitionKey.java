@@ -0,0 +1,52 @@
+package com.movesync.alert.domain.model;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+
+/**
+ * Ties alert ids to the partition key (alerts.timestamp), so lookups by id alone can prune
+ * partitions on PostgreSQL
+ *
+ * Partitioned tables cannot enforce uniqueness of alert_id or history_id on their own (the primary
+ * keys include timestamp), and a lookup without a timestamp predicate probes every partition:
+ * retention days + partitions ahead + DEFAULT. Paths that hold the timestamps pass them as bounds;
+ * id-only lookups use the time carried by the id:
+ * - New alert ids are UUIDv7 carrying the alert timestamp, capped at the creation time
+ * - Earlier UUIDv7 ids carry their creation time; random (v4) ids carry nothing
+ *
+ * So an alert's timestamp usually lies within SLACK of its id time (not for backdated or
+ * future-dated alerts with older ids: callers retry without bounds on a miss), and every
+ * history row of an alert is written at or after its id time (minus SLACK for clock steps and
+ * sequence borrowing). Ids stay unique by construction: 74 random bits per millisecond.
+ *
+ * Thread Safety: Stateless
+ */
+public final class AlertPartitionKey {
+
+    /** Tolerance around the id time; at most one extra daily partition is probed */
+    public static final Duration SLACK = Duration.ofHours(1);
+
+    private AlertPartitionKey() {
+    }
+
+    /**
+     * New alert id for an alert timestamp (capped at now, so history never predates the id time)
+     */
+    public static String newAlertId(LocalDateTime timestamp) {
+        long timestampMillis = timestamp.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return UuidV7.at(Math.min(timestampMillis, System.currentTimeMillis())).toString();
+    }
+
+    /**
+     * Local time carried by an alert id
+     *
+     * @return Id time, or empty for ids that carry none (random UUIDs)
+     */
+    public static Optional<LocalDateTime> idTime(String alertId) {
+        return UuidV7.epochMillisOf(alertId)
+            .map(millis -> LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault()));
+    }
+}
@@ -0,0 +1,48 @@
+package com.movesync.alert.domain.model;
+
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.StringJavaType;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
+import org.hibernate.type.descriptor.jdbc.JdbcTypeIndicators;
+
+import java.util.UUID;
+
+/**
+ * String identifier stored in a native UUID column (16 bytes instead of a 36-character varchar)
+ *
+ * Entities, repositories and the API keep handling ids as canonical UUID strings; only the
+ * JDBC binding converts. A string that is not a UUID binds as NULL, so lookups by a malformed
+ * id simply find nothing.
+ *
+ * Usage: @JavaType(UuidStringJavaType.class) @JdbcTypeCode(SqlTypes.UUID) on a String attribute
+ * Thread Safety: Stateless
+ */
+public class UuidStringJavaType extends StringJavaType {
+
+    @Override
+    public JdbcType getRecommendedJdbcType(JdbcTypeIndicators indicators) {
+        return indicators.getTypeConfiguration().getJdbcTypeRegistry().getDescriptor(SqlTypes.UUID);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <X> X unwrap(String value, Class<X> type, WrapperOptions options) {
+        if (value != null && UUID.class.isAssignableFrom(type)) {
+            try {
+                return (X) UUID.fromString(value);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+        return super.unwrap(value, type, options);
+    }
+
+    @Override
+    public <X> String wrap(X value, WrapperOptions options) {
+        if (value instanceof UUID uuid) {
+            return uuid.toString();
+        }
+        return super.wrap(value, options);
+    }
+}
@@ -0,0 +1,83 @@
+package com.movesync.alert.domain.model;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered identifiers (UUID version 7, RFC 9562)
+ *
+ * Layout: 48-bit Unix epoch milliseconds, version, 12-bit sequence, variant, 62 random bits.
+ * Ids sort by creation time, so new rows are appended to the right edge of primary key and
+ * foreign key indexes instead of splitting random pages.
+ *
+ * Monotonic within this JVM: the sequence counts ids generated in the same millisecond and, when
+ * it runs out or the clock steps back, borrows from the next millisecond instead of going backwards.
+ * The random bits make collisions between nodes negligible without any node configuration.
+ *
+ * at() issues ids for a given time instead (alert ids carry their partition key, see
+ * AlertPartitionKey); those fill the sequence with random bits and are not monotonic.
+ *
+ * Time Complexity: O(1), one CAS on the shared clock state
+ * Thread Safety: Thread-safe, lock-free
+ */
+public final class UuidV7 {
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    // Last issued (millis << SEQUENCE_BITS | sequence)
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    /**
+     * Next identifier
+     */
+    public static UUID next() {
+        long now = System.currentTimeMillis() << SEQUENCE_BITS;
+        long stamp = LAST.updateAndGet(last -> Math.max(now, last + 1));
+
+        long millis = stamp >>> SEQUENCE_BITS;
+        long sequence = stamp & ((1L << SEQUENCE_BITS) - 1);
+        long mostSignificant = (millis << 16) | VERSION | sequence;
+        long leastSignificant = VARIANT | (ThreadLocalRandom.current().nextLong() & RANDOM_MASK);
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    /**
+     * Next identifier in canonical string form (the form used by the API)
+     */
+    public static String nextString() {
+        return next().toString();
+    }
+
+    /**
+     * Identifier carrying the given time, with random sequence and random bits
+     */
+    public static UUID at(long epochMillis) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long sequence = random.nextLong() & ((1L << SEQUENCE_BITS) - 1);
+        long mostSignificant = (epochMillis << 16) | VERSION | sequence;
+        long leastSignificant = VARIANT | (random.nextLong() & RANDOM_MASK);
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    /**
+     * Time carried by a version 7 identifier
+     *
+     * @return Epoch milliseconds, or empty for other versions and malformed strings
+     */
+    public static Optional<Long> epochMillisOf(String id) {
+        try {
+            UUID uuid = UUID.fromString(id);
+            return uuid.version() == 7 ? Optional.of(uuid.getMostSignificantBits() >>> 16) : Optional.empty();
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.movesync.alert.dto;
+
+import com.movesync.alert.domain.enums.AlertSeverity;
+import com.movesync.alert.domain.enums.AlertStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for one alert lifecycle event pushed to live stream subscribers
+ * Carries the alert as it is after the change, so clients can apply it as a delta
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlertEventResponse {
+
+    // CREATED, ESCALATED, AUTO_CLOSED, RESOLVED, or RESYNC (reload the snapshot)
+    private String eventType;
+
+    // Null on creation
+    private AlertStatus fromStatus;
+    private AlertSeverity fromSeverity;
+
+    private AlertResponse alert;
+    private String reason;
+    private LocalDateTime timestamp;
+}
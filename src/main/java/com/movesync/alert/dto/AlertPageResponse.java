@@ -0,0 +1,26 @@
+package com.movesync.alert.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for one keyset page of alerts
+ * Pass nextCursor back as the cursor parameter to fetch the following page
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlertPageResponse {
+
+    private List<AlertResponse> items;
+    private int size;
+    private boolean hasMore;
+
+    // Opaque position after the last item, null on the last page
+    private String nextCursor;
+}
@@ -3,8 +3,10 @@ package com.movesync.alert.dto;
 import com.movesync.alert.domain.enums.AlertSeverity;
 import com.movesync.alert.domain.enums.AlertStatus;
 import com.movesync.alert.domain.enums.AlertType;
+import com.movesync.alert.domain.event.AlertTransitionsEvent;
 import com.movesync.alert.domain.model.Alert;
 import com.movesync.alert.domain.model.AlertHistory;
+import com.movesync.alert.repository.projection.AlertSummary;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -16,10 +18,11 @@ import java.util.Map;
 
 /**
  * DTO for alert response
- * Returned by API endpoints
+ * Returned by API endpoints; list endpoints and dashboard tiles omit metadata (null), which
+ * single-alert reads and drill-down include
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class AlertResponse {
@@ -72,5 +75,58 @@ public class AlertResponse {
             .updatedAt(alert.getUpdatedAt())
             .build();
     }
+
+    /**
+     * Factory method to convert a list projection to response DTO (no metadata)
+     */
+    public static AlertResponse fromSummary(AlertSummary alert) {
+        return AlertResponse.builder()
+            .alertId(alert.alertId())
+            .alertType(alert.alertType())
+            .severity(alert.severity())
+            .status(alert.status())
+            .timestamp(alert.timestamp())
+            .driverId(alert.driverId())
+            .vehicleId(alert.vehicleId())
+            .routeId(alert.routeId())
+            .escalatedAt(alert.escalatedAt())
+            .escalationReason(alert.escalationReason())
+            .closedAt(alert.closedAt())
+            .closureReason(alert.closureReason())
+            .closedBy(alert.closedBy())
+            .createdAt(alert.createdAt())
+            .updatedAt(alert.updatedAt())
+            .build();
+    }
+
+    /**
+     * Copy in list form (without metadata), for keeping cached lists consistent with fromSummary
+     */
+    public AlertResponse withoutMetadata() {
+        return metadata == null ? this : toBuilder().metadata(null).build();
+    }
+
+    /**
+     * Response for an alert as it is after a state transition
+     * Bulk updates publish the alert as loaded before the update, so the new status and
+     * closure or escalation details are taken from the transition's history entry
+     */
+    public static AlertResponse fromTransition(AlertTransitionsEvent.Transition transition) {
+        AlertResponse response = fromEntity(transition.alert());
+        if (response.getStatus() != transition.toStatus()) {
+            AlertHistory history = transition.history();
+            response.setStatus(transition.toStatus());
+            if (transition.toStatus().isClosed()) {
+                response.setClosedAt(history.getTimestamp());
+                response.setClosureReason(history.getReason());
+                response.setClosedBy(history.getChangedBy());
+            } else if (transition.toStatus() == AlertStatus.ESCALATED) {
+                response.setEscalatedAt(history.getTimestamp());
+                response.setEscalationReason(history.getReason());
+            }
+        }
+        response.setSeverity(transition.toSeverity());
+        return response;
+    }
 }
 
@@ -0,0 +1,55 @@
+package com.movesync.alert.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for batch alert ingestion response
+ * Carries one result per submitted item, in submission order
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchAlertResponse {
+
+    private int total;
+    private int accepted;
+    private int rejected;
+
+    private List<ItemResult> results;
+
+    /**
+     * Outcome of a single item in the batch
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResult {
+        private int index;
+        private boolean success;
+        private AlertResponse alert;
+        private String error;
+
+        public static ItemResult accepted(int index, AlertResponse alert) {
+            return ItemResult.builder()
+                .index(index)
+                .success(true)
+                .alert(alert)
+                .build();
+        }
+
+        public static ItemResult rejected(int index, String error) {
+            return ItemResult.builder()
+                .index(index)
+                .success(false)
+                .error(error)
+                .build();
+        }
+    }
+}
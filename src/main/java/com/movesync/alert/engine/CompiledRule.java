@@ -0,0 +1,90 @@
+package com.movesync.alert.engine;
+
+import com.movesync.alert.domain.enums.AlertSeverity;
+import com.movesync.alert.domain.enums.AlertType;
+import com.movesync.alert.domain.model.EscalationRule;
+
+/**
+ * Immutable, pre-validated form of an EscalationRule used on the evaluation hot path
+ * Optional fields are resolved to their defaults once at compile time
+ *
+ * Thread Safety: Immutable, safe to share across threads
+ */
+public record CompiledRule(AlertType alertType,
+                           boolean enabled,
+                           boolean escalates,
+                           int escalateIfCount,
+                           int escalationWindowMinutes,
+                           AlertSeverity escalationSeverity,
+                           boolean autoCloseIfNoRepeat,
+                           String autoCloseIf,
+                           int autoCloseWindowMinutes,
+                           int priority) {
+
+    /**
+     * Compile a parsed rule
+     *
+     * @throws IllegalArgumentException if the rule has no alert type or a non-positive threshold/window
+     */
+    public static CompiledRule compile(EscalationRule rule) {
+        if (rule.getAlertType() == null) {
+            throw new IllegalArgumentException("Rule has no valid alertType");
+        }
+        requirePositive(rule, "escalateIfCount", rule.getEscalateIfCount());
+        requirePositive(rule, "windowMinutes", rule.getWindowMinutes());
+        requirePositive(rule, "autoCloseWindowMinutes", rule.getAutoCloseWindowMinutes());
+        boolean escalates = rule.getEscalateIfCount() != null && rule.getWindowMinutes() != null;
+        String autoCloseIf = rule.getAutoCloseIf() != null && !rule.getAutoCloseIf().isEmpty()
+            ? rule.getAutoCloseIf()
+            : null;
+        return new CompiledRule(
+            rule.getAlertType(),
+            !Boolean.FALSE.equals(rule.getEnabled()),
+            escalates,
+            escalates ? rule.getEscalateIfCount() : 0,
+            rule.getEscalationWindowMinutes(),
+            rule.getEscalationSeverity() != null ? rule.getEscalationSeverity() : AlertSeverity.WARNING,
+            Boolean.TRUE.equals(rule.getAutoCloseIfNoRepeat()),
+            autoCloseIf,
+            rule.getAutoCloseWindowMinutes(),
+            rule.getPriority() != null ? rule.getPriority() : 0
+        );
+    }
+
+    private static void requirePositive(EscalationRule rule, String field, Integer value) {
+        if (value != null && value <= 0) {
+            throw new IllegalArgumentException(
+                String.format("Rule %s: %s must be positive, was %d", rule.getAlertType(), field, value));
+        }
+    }
+
+    /**
+     * Check if this rule should trigger escalation
+     */
+    public boolean shouldEscalate(int alertCount, long timeDifferenceMinutes) {
+        return enabled && escalates
+            && alertCount >= escalateIfCount
+            && timeDifferenceMinutes <= escalationWindowMinutes;
+    }
+
+    /**
+     * Check if alerts of this type auto-close once no repeat arrives within the window
+     */
+    public boolean closesByTime() {
+        return enabled && autoCloseIfNoRepeat;
+    }
+
+    /**
+     * Check if alert should auto-close based on time window
+     */
+    public boolean shouldAutoCloseByTime(long minutesSinceLastAlert) {
+        return closesByTime() && minutesSinceLastAlert >= autoCloseWindowMinutes;
+    }
+
+    /**
+     * Check if alert should auto-close based on condition
+     */
+    public boolean shouldAutoCloseByCondition(String condition) {
+        return enabled && autoCloseIf != null && autoCloseIf.equalsIgnoreCase(condition);
+    }
+}
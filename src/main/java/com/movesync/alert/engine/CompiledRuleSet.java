@@ -0,0 +1,91 @@
+package com.movesync.alert.engine;
+
+import com.movesync.alert.domain.enums.AlertType;
+import com.movesync.alert.domain.model.EscalationRule;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Immutable snapshot of the loaded rules, indexed by alert type
+ * Published as a whole by RuleLoader, so readers never observe a half-loaded rule list
+ *
+ * Thread Safety: Immutable after construction, lookups are lock-free
+ * Time Complexity: O(1) lookup by alert type
+ * Space Complexity: O(r) where r = number of rules
+ */
+public final class CompiledRuleSet {
+
+    public static final CompiledRuleSet EMPTY = new CompiledRuleSet(List.of(), 0, null);
+
+    private final EnumMap<AlertType, CompiledRule> rulesByType = new EnumMap<>(AlertType.class);
+    private final List<CompiledRule> rules;
+    private final long version;
+    private final String checksum;
+
+    private CompiledRuleSet(List<CompiledRule> rules, long version, String checksum) {
+        for (CompiledRule rule : rules) {
+            rulesByType.put(rule.alertType(), rule);
+        }
+        this.rules = List.copyOf(rules);
+        this.version = version;
+        this.checksum = checksum;
+    }
+
+    /**
+     * Compile parsed rules into a rule set
+     *
+     * @param version Monotonic rule-set version assigned by the loader
+     * @param checksum Checksum of the source file content
+     * @throws IllegalArgumentException if a rule is invalid or an alert type is configured twice
+     */
+    public static CompiledRuleSet compile(List<EscalationRule> parsedRules, long version, String checksum) {
+        List<CompiledRule> compiled = new ArrayList<>(parsedRules.size());
+        EnumMap<AlertType, Boolean> seen = new EnumMap<>(AlertType.class);
+        for (int i = 0; i < parsedRules.size(); i++) {
+            CompiledRule rule;
+            try {
+                rule = CompiledRule.compile(parsedRules.get(i));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid rule at index " + i + ": " + e.getMessage(), e);
+            }
+            if (seen.put(rule.alertType(), Boolean.TRUE) != null) {
+                throw new IllegalArgumentException("Duplicate rule for alert type " + rule.alertType());
+            }
+            compiled.add(rule);
+        }
+        return new CompiledRuleSet(compiled, version, checksum);
+    }
+
+    /**
+     * Get rule for an alert type
+     */
+    public Optional<CompiledRule> ruleFor(AlertType alertType) {
+        return Optional.ofNullable(rulesByType.get(alertType));
+    }
+
+    /**
+     * All rules, in configuration order
+     */
+    public List<CompiledRule> rules() {
+        return rules;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public String checksum() {
+        return checksum;
+    }
+
+    public int size() {
+        return rules.size();
+    }
+
+    public boolean isEmpty() {
+        return rules.isEmpty();
+    }
+}
@@ -2,9 +2,7 @@ package com.movesync.alert.engine;
 
 import com.movesync.alert.domain.enums.AlertType;
 import com.movesync.alert.domain.model.Alert;
-import com.movesync.alert.domain.model.EscalationRule;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
@@ -21,8 +19,9 @@ import java.util.Optional;
  * - Evaluation is stateless and idempotent
  * - Supports dynamic rule updates without code changes
  * 
- * Time Complexity: O(1) for rule lookup (cached), O(n) for alert evaluation where n = number of matching alerts
- * Space Complexity: O(r) where r = number of rules (cached in memory)
+ * Time Complexity: O(1) for rule lookup (EnumMap), O(1) for windowed escalation evaluation,
+ *                  O(n) for list-based evaluation where n = number of matching alerts
+ * Space Complexity: O(r) where r = number of rules (compiled rule set in memory)
  */
 @Slf4j
 @Component
@@ -45,54 +44,90 @@ public class RuleEngine {
         log.debug("Evaluating escalation for alertType: {} with {} recent alerts", 
                   alertType, recentAlerts.size());
 
-        Optional<EscalationRule> ruleOpt = getRuleForAlertType(alertType);
+        Optional<CompiledRule> ruleOpt = getRuleForAlertType(alertType);
         
         if (ruleOpt.isEmpty()) {
             log.warn("No rule found for alert type: {}", alertType);
             return EscalationDecision.noEscalation("No rule configured");
         }
 
-        EscalationRule rule = ruleOpt.get();
+        // Reduce the list to the same count/bounds view the window store produces
+        // Use !isBefore so alerts exactly at windowStart are included
+        LocalDateTime windowStart = LocalDateTime.now().minusMinutes(ruleOpt.get().escalationWindowMinutes());
+        int alertCount = 0;
+        LocalDateTime oldest = null;
+        LocalDateTime newest = null;
+        for (Alert alert : recentAlerts) {
+            LocalDateTime timestamp = alert.getTimestamp();
+            if (timestamp.isBefore(windowStart)) {
+                continue;
+            }
+            alertCount++;
+            if (oldest == null || timestamp.isBefore(oldest)) {
+                oldest = timestamp;
+            }
+            if (newest == null || timestamp.isAfter(newest)) {
+                newest = timestamp;
+            }
+        }
+
+        return evaluateEscalation(alertType, new SlidingWindowCounterStore.WindowSnapshot(alertCount, oldest, newest));
+    }
+
+    /**
+     * Evaluate escalation from a pre-aggregated window (count and time bounds)
+     * Hot path used with SlidingWindowCounterStore: no alert list is materialised
+     * 
+     * Time Complexity: O(1)
+     * 
+     * @param alertType The type of alert to evaluate
+     * @param window Count and oldest/newest timestamps of alerts inside the rule window
+     * @return EscalationDecision containing whether to escalate and details
+     */
+    public EscalationDecision evaluateEscalation(AlertType alertType, SlidingWindowCounterStore.WindowSnapshot window) {
+        Optional<CompiledRule> ruleOpt = getRuleForAlertType(alertType);
+        
+        if (ruleOpt.isEmpty()) {
+            log.warn("No rule found for alert type: {}", alertType);
+            return EscalationDecision.noEscalation("No rule configured");
+        }
+
+        CompiledRule rule = ruleOpt.get();
         
-        if (!rule.getEnabled()) {
+        if (!rule.enabled()) {
             return EscalationDecision.noEscalation("Rule is disabled");
         }
 
-        // Filter alerts within the time window
-        // Use isAfter with a small buffer to ensure newly created alerts are included
-        LocalDateTime windowStart = LocalDateTime.now().minusMinutes(rule.getWindowMinutes());
-        List<Alert> alertsInWindow = recentAlerts.stream()
-            .filter(a -> !a.getTimestamp().isBefore(windowStart)) // Include alerts at or after windowStart
-            .toList();
+        if (!rule.escalates()) {
+            return EscalationDecision.noEscalation("No escalation criteria configured");
+        }
 
-        int alertCount = alertsInWindow.size();
+        int alertCount = window.count();
         
-        if (alertCount < rule.getEscalateIfCount()) {
+        if (alertCount < rule.escalateIfCount()) {
             log.debug("Alert count {} is below threshold {} for {}", 
-                      alertCount, rule.getEscalateIfCount(), alertType);
+                      alertCount, rule.escalateIfCount(), alertType);
             return EscalationDecision.noEscalation(
-                String.format("Count %d below threshold %d", alertCount, rule.getEscalateIfCount())
+                String.format("Count %d below threshold %d", alertCount, rule.escalateIfCount())
             );
         }
 
-        // Calculate time difference
-        if (alertsInWindow.isEmpty()) {
+        if (window.isEmpty()) {
             return EscalationDecision.noEscalation("No alerts in window");
         }
 
-        LocalDateTime firstAlertTime = alertsInWindow.get(alertsInWindow.size() - 1).getTimestamp();
-        LocalDateTime lastAlertTime = alertsInWindow.get(0).getTimestamp();
-        long timeDifferenceMinutes = ChronoUnit.MINUTES.between(firstAlertTime, lastAlertTime);
+        // Calculate time difference
+        long timeDifferenceMinutes = ChronoUnit.MINUTES.between(window.oldest(), window.newest());
 
         if (rule.shouldEscalate(alertCount, timeDifferenceMinutes)) {
             String reason = String.format(
                 "%d occurrences of %s within %d minutes (threshold: %d in %d minutes)",
                 alertCount, alertType, timeDifferenceMinutes, 
-                rule.getEscalateIfCount(), rule.getWindowMinutes()
+                rule.escalateIfCount(), rule.escalationWindowMinutes()
             );
             
             log.info("Escalation triggered: {}", reason);
-            return EscalationDecision.escalate(rule.getEscalationSeverity(), reason);
+            return EscalationDecision.escalate(rule.escalationSeverity(), reason);
         }
 
         return EscalationDecision.noEscalation("Conditions not met");
@@ -106,63 +141,81 @@ public class RuleEngine {
      * @return AutoCloseDecision containing whether to close and reason
      */
     public AutoCloseDecision evaluateAutoClose(Alert alert, List<Alert> recentAlerts) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime lastOccurrence = alert.getTimestamp();
+        for (Alert recent : recentAlerts) {
+            if (recent.getTimestamp().isAfter(lastOccurrence) && recent.getTimestamp().isBefore(now)) {
+                lastOccurrence = recent.getTimestamp();
+            }
+        }
+        return evaluateAutoClose(alert, lastOccurrence);
+    }
+
+    /**
+     * Evaluate if an alert should be auto-closed given the latest occurrence of its
+     * (driverId, alertType) key; a repeat restarts the no-repeat window
+     * 
+     * @param alert The alert to evaluate
+     * @param lastOccurrence Timestamp of the newest alert of same type for same entity
+     * @return AutoCloseDecision containing whether to close and reason
+     */
+    public AutoCloseDecision evaluateAutoClose(Alert alert, LocalDateTime lastOccurrence) {
         log.debug("Evaluating auto-close for alert: {}", alert.getAlertId());
 
-        Optional<EscalationRule> ruleOpt = getRuleForAlertType(alert.getAlertType());
+        Optional<CompiledRule> ruleOpt = getRuleForAlertType(alert.getAlertType());
         
         if (ruleOpt.isEmpty()) {
             return AutoCloseDecision.noClose("No rule configured");
         }
 
-        EscalationRule rule = ruleOpt.get();
+        CompiledRule rule = ruleOpt.get();
 
         // Check condition-based auto-close (e.g., DOCUMENT_RENEWED)
-        if (rule.getAutoCloseIf() != null && !rule.getAutoCloseIf().isEmpty()) {
+        if (rule.autoCloseIf() != null) {
             // Check if condition is met in metadata
             Object conditionValue = alert.getMetadata().get("condition");
             if (conditionValue != null && rule.shouldAutoCloseByCondition(conditionValue.toString())) {
-                String reason = String.format("Condition met: %s", rule.getAutoCloseIf());
+                String reason = String.format("Condition met: %s", rule.autoCloseIf());
                 log.info("Auto-close triggered by condition: {}", reason);
                 return AutoCloseDecision.close(reason);
             }
         }
 
         // Check time-based auto-close (no repeat within window)
-        if (rule.getAutoCloseIfNoRepeat() != null && rule.getAutoCloseIfNoRepeat()) {
-            long minutesSinceAlert = ChronoUnit.MINUTES.between(alert.getTimestamp(), LocalDateTime.now());
-            
-            if (minutesSinceAlert >= rule.getAutoCloseWindowMinutes()) {
-                // Check if there are no new alerts in the auto-close window
-                boolean hasRecentAlerts = recentAlerts.stream()
-                    .anyMatch(a -> a.getTimestamp().isAfter(alert.getTimestamp()) 
-                                && a.getTimestamp().isBefore(LocalDateTime.now()));
-
-                if (!hasRecentAlerts) {
-                    String reason = String.format(
-                        "No repeat within %d minutes (window expired)",
-                        rule.getAutoCloseWindowMinutes()
-                    );
-                    log.info("Auto-close triggered by time window: {}", reason);
-                    return AutoCloseDecision.close(reason);
-                }
-            }
+        long minutesSinceLastOccurrence = ChronoUnit.MINUTES.between(lastOccurrence, LocalDateTime.now());
+        if (rule.shouldAutoCloseByTime(minutesSinceLastOccurrence)) {
+            String reason = String.format(
+                "No repeat within %d minutes (window expired)",
+                rule.autoCloseWindowMinutes()
+            );
+            log.info("Auto-close triggered by time window: {}", reason);
+            return AutoCloseDecision.close(reason);
         }
 
         return AutoCloseDecision.noClose("Conditions not met");
     }
 
     /**
-     * Get rule for specific alert type (cached for performance)
+     * Get the time-based auto-close window for an alert type
+     * 
+     * @return Window in minutes, or empty if alerts of this type never close by time
+     */
+    public Optional<Integer> getAutoCloseWindowMinutes(AlertType alertType) {
+        return getRuleForAlertType(alertType)
+            .filter(CompiledRule::closesByTime)
+            .map(CompiledRule::autoCloseWindowMinutes);
+    }
+
+    /**
+     * Get rule for specific alert type
+     * Lock-free EnumMap lookup on the current rule-set snapshot, no proxy or cache involved
      */
-    @Cacheable(value = "rules", key = "#alertType")
-    public Optional<EscalationRule> getRuleForAlertType(AlertType alertType) {
-        return ruleLoader.getRules().stream()
-            .filter(rule -> rule.getAlertType() == alertType)
-            .findFirst();
+    public Optional<CompiledRule> getRuleForAlertType(AlertType alertType) {
+        return ruleLoader.getRuleSet().ruleFor(alertType);
     }
 
     /**
-     * Reload rules from configuration (cache eviction handled by RuleLoader)
+     * Reload rules from configuration (the new rule set is swapped in atomically by RuleLoader)
      */
     public void reloadRules() {
         ruleLoader.loadRules();
@@ -172,7 +225,7 @@ public class RuleEngine {
     /**
      * Get all active rules
      */
-    public List<EscalationRule> getAllRules() {
+    public List<CompiledRule> getAllRules() {
         return ruleLoader.getRules();
     }
 
@@ -2,10 +2,8 @@ package com.movesync.alert.engine;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.movesync.alert.domain.model.EscalationRule;
-import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.stereotype.Component;
@@ -13,16 +11,23 @@ import org.springframework.stereotype.Component;
 import jakarta.annotation.PostConstruct;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Loads and manages escalation rules from JSON configuration file
  * Supports hot-reload of rules without system restart
  * 
  * Design Pattern: Strategy Pattern - Rules are loaded and can be swapped dynamically
- * Thread Safety: Synchronized loading to prevent concurrent modification
+ * Thread Safety: Loading is synchronized; the compiled rule set is published through an
+ * AtomicReference, so readers are lock-free and always see a complete rule set
  * 
  * Space Complexity: O(r) where r = number of rules
  */
@@ -36,8 +41,8 @@ public class RuleLoader {
     @Value("${alert.rules.config-path:classpath:rules.json}")
     private String rulesConfigPath;
 
-    @Getter
-    private List<EscalationRule> rules = new ArrayList<>();
+    private final AtomicReference<CompiledRuleSet> ruleSet = new AtomicReference<>(CompiledRuleSet.EMPTY);
+    private volatile String lastLoadError;
 
     public RuleLoader(ResourceLoader resourceLoader, ObjectMapper objectMapper) {
         this.resourceLoader = resourceLoader;
@@ -55,59 +60,106 @@ public class RuleLoader {
     /**
      * Load rules from configuration file
      * Synchronized to prevent concurrent loading
-     * Cache is evicted to ensure fresh data
+     * The new rule set is compiled completely before it replaces the current one
      * 
      * Time Complexity: O(r) where r = number of rules
+     * 
+     * @throws IllegalStateException if the file is missing or invalid (current rules stay active)
      */
-    @CacheEvict(value = "rules", allEntries = true)
     public synchronized void loadRules() {
+        load(true);
+    }
+
+    /**
+     * Reload rules only if the file content changed since the last successful load
+     * Changes are detected by SHA-256 checksum, so touching or re-saving the file is a no-op
+     * 
+     * @return true if a new rule set was swapped in
+     * @throws IllegalStateException if the file is missing or invalid (current rules stay active)
+     */
+    public synchronized boolean reloadIfChanged() {
+        return load(false);
+    }
+
+    private boolean load(boolean force) {
         try {
-            Resource resource = resourceLoader.getResource(rulesConfigPath);
-            
-            if (!resource.exists()) {
-                log.error("Rules configuration file not found: {}", rulesConfigPath);
-                throw new IllegalStateException("Rules configuration file not found: " + rulesConfigPath);
+            byte[] content = readContent();
+            String checksum = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+
+            CompiledRuleSet current = ruleSet.get();
+            if (!force && checksum.equals(current.checksum())) {
+                // File matches the active rules again, so an earlier rejected edit no longer applies
+                lastLoadError = null;
+                log.debug("Rules configuration unchanged (checksum {}), skipping reload", checksum);
+                return false;
             }
 
-            try (InputStream inputStream = resource.getInputStream()) {
-                @SuppressWarnings("unchecked")
-                Map<String, Object> config = objectMapper.readValue(inputStream, Map.class);
-                
-                @SuppressWarnings("unchecked")
-                List<Map<String, Object>> rulesData = (List<Map<String, Object>>) config.get("rules");
-                
-                if (rulesData == null || rulesData.isEmpty()) {
-                    log.warn("No rules found in configuration file");
-                    this.rules = new ArrayList<>();
-                    return;
-                }
-
-                List<EscalationRule> loadedRules = new ArrayList<>();
-                
-                for (Map<String, Object> ruleData : rulesData) {
-                    EscalationRule rule = parseRule(ruleData);
-                    loadedRules.add(rule);
-                }
-
-                this.rules = loadedRules;
-                log.info("Successfully loaded {} rules from {}", rules.size(), rulesConfigPath);
-                
-                // Log loaded rules for debugging
-                rules.forEach(rule -> log.debug("Loaded rule: {} - escalate if {} occurrences in {} minutes",
-                    rule.getAlertType(), rule.getEscalateIfCount(), rule.getWindowMinutes()));
+            // Parse, validate and compile before swapping; any failure leaves the current rules active
+            CompiledRuleSet compiled = CompiledRuleSet.compile(parseRules(content), current.version() + 1, checksum);
+            ruleSet.set(compiled);
+            lastLoadError = null;
+            log.info("Successfully loaded {} rules from {} (version {})",
+                compiled.size(), rulesConfigPath, compiled.version());
+
+            // Log loaded rules for debugging
+            compiled.rules().forEach(rule -> log.debug("Loaded rule: {} - escalate if {} occurrences in {} minutes",
+                rule.alertType(), rule.escalateIfCount(), rule.escalationWindowMinutes()));
+            return true;
 
-            }
         } catch (IOException e) {
+            lastLoadError = "Failed to read rules: " + e.getMessage();
             log.error("Failed to load rules from configuration file: {}", rulesConfigPath, e);
             throw new IllegalStateException("Failed to load rules configuration", e);
+        } catch (IllegalArgumentException | ClassCastException e) {
+            lastLoadError = "Invalid rules: " + e.getMessage();
+            log.error("Invalid rules in configuration file: {}", rulesConfigPath, e);
+            throw new IllegalStateException("Invalid rules configuration: " + e.getMessage(), e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
         }
     }
 
+    private byte[] readContent() throws IOException {
+        Resource resource = resourceLoader.getResource(rulesConfigPath);
+
+        if (!resource.exists()) {
+            lastLoadError = "Rules configuration file not found";
+            log.error("Rules configuration file not found: {}", rulesConfigPath);
+            throw new IllegalStateException("Rules configuration file not found: " + rulesConfigPath);
+        }
+
+        try (InputStream inputStream = resource.getInputStream()) {
+            return inputStream.readAllBytes();
+        }
+    }
+
+    private List<EscalationRule> parseRules(byte[] content) throws IOException {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> config = objectMapper.readValue(content, Map.class);
+
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> rulesData = (List<Map<String, Object>>) config.get("rules");
+
+        if (rulesData == null || rulesData.isEmpty()) {
+            log.warn("No rules found in configuration file");
+            return List.of();
+        }
+
+        List<EscalationRule> loadedRules = new ArrayList<>();
+
+        for (Map<String, Object> ruleData : rulesData) {
+            EscalationRule rule = parseRule(ruleData);
+            loadedRules.add(rule);
+        }
+        return loadedRules;
+    }
+
     /**
      * Parse a single rule from JSON data
      * Handles DSL-like syntax from configuration
+     * Package-private for the rule parsing benchmark
      */
-    private EscalationRule parseRule(Map<String, Object> ruleData) {
+    static EscalationRule parseRule(Map<String, Object> ruleData) {
         EscalationRule.EscalationRuleBuilder builder = EscalationRule.builder();
 
         // Parse alert type
@@ -116,7 +168,7 @@ public class RuleLoader {
             try {
                 builder.alertType(com.movesync.alert.domain.enums.AlertType.valueOf(alertTypeStr));
             } catch (IllegalArgumentException e) {
-                log.warn("Invalid alert type: {}", alertTypeStr);
+                throw new IllegalArgumentException("Invalid alert type: " + alertTypeStr, e);
             }
         }
 
@@ -137,8 +189,7 @@ public class RuleLoader {
                     com.movesync.alert.domain.enums.AlertSeverity.valueOf(severityStr)
                 );
             } catch (IllegalArgumentException e) {
-                log.warn("Invalid severity: {}", severityStr);
-                builder.escalationSeverity(com.movesync.alert.domain.enums.AlertSeverity.WARNING);
+                throw new IllegalArgumentException("Invalid severity: " + severityStr, e);
             }
         }
 
@@ -165,18 +216,53 @@ public class RuleLoader {
         return builder.build();
     }
 
+    /**
+     * Get the current compiled rule set (lock-free)
+     */
+    public CompiledRuleSet getRuleSet() {
+        return ruleSet.get();
+    }
+
+    /**
+     * Get all loaded rules, in configuration order
+     */
+    public List<CompiledRule> getRules() {
+        return ruleSet.get().rules();
+    }
+
     /**
      * Get number of loaded rules
      */
     public int getRuleCount() {
-        return rules.size();
+        return ruleSet.get().size();
     }
 
     /**
      * Check if rules are loaded
      */
     public boolean isLoaded() {
-        return rules != null && !rules.isEmpty();
+        return !ruleSet.get().isEmpty();
+    }
+
+    /**
+     * Error of the most recent failed load, or null if the last load succeeded
+     */
+    public String getLastLoadError() {
+        return lastLoadError;
+    }
+
+    /**
+     * Resolve the configuration path to a file on the filesystem
+     * 
+     * @return The file, or empty if the rules are not file-backed (e.g. packaged in a jar)
+     */
+    public Optional<Path> getConfigFile() {
+        Resource resource = resourceLoader.getResource(rulesConfigPath);
+        try {
+            return resource.isFile() ? Optional.of(resource.getFile().toPath()) : Optional.empty();
+        } catch (IOException e) {
+            return Optional.empty();
+        }
     }
 }
 
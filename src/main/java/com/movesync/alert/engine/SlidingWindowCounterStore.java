@@ -0,0 +1,226 @@
+package com.movesync.alert.engine;
+
+import com.movesync.alert.domain.enums.AlertType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory sliding-window counters used for escalation evaluation
+ * Replaces the per-alert repeat-occurrence query with a lookup keyed by (driverId, AlertType)
+ *
+ * Each key owns a ring buffer of alert timestamps (and their IDs) kept in timestamp order.
+ * Entries older than the rule window are evicted from the head on access, so the buffer
+ * only ever holds what the current window needs, bounded by the configured capacity.
+ *
+ * Thread Safety: Map is concurrent, each window is guarded by its own monitor
+ * Time Complexity: O(1) amortised for record and snapshot (in-order arrivals)
+ * Space Complexity: O(k * c) where k = active (driver, type) keys, c = ring capacity
+ */
+@Component
+public class SlidingWindowCounterStore {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final ConcurrentMap<WindowKey, AlertWindow> windows = new ConcurrentHashMap<>();
+
+    @Value("${alert.escalation.window-capacity:1024}")
+    private int maxCapacity;
+
+    /**
+     * Record an alert occurrence in the window for its (driverId, alertType) key
+     * Alerts without a driver are not tracked (they never match a repeat-occurrence query)
+     */
+    public void record(AlertType alertType, String driverId, String alertId, LocalDateTime timestamp) {
+        if (driverId == null || alertType == null || timestamp == null) {
+            return;
+        }
+        windows.computeIfAbsent(new WindowKey(driverId, alertType), k -> new AlertWindow())
+            .add(toEpochMillis(timestamp), alertId, maxCapacity);
+    }
+
+    /**
+     * Get count and time bounds of alerts within the last windowMinutes for a key
+     * Expired entries are evicted as a side effect
+     */
+    public WindowSnapshot snapshot(AlertType alertType, String driverId, int windowMinutes) {
+        AlertWindow window = driverId != null ? windows.get(new WindowKey(driverId, alertType)) : null;
+        if (window == null) {
+            return WindowSnapshot.EMPTY;
+        }
+        return window.snapshot(windowStartMillis(windowMinutes));
+    }
+
+    /**
+     * Get IDs of alerts within the last windowMinutes for a key (oldest first)
+     * Only needed once an escalation has been triggered
+     */
+    public List<String> alertIdsInWindow(AlertType alertType, String driverId, int windowMinutes) {
+        AlertWindow window = driverId != null ? windows.get(new WindowKey(driverId, alertType)) : null;
+        if (window == null) {
+            return List.of();
+        }
+        return window.alertIds(windowStartMillis(windowMinutes));
+    }
+
+    /**
+     * Drop every tracked window (used before a rebuild from the database)
+     */
+    public void clear() {
+        windows.clear();
+    }
+
+    /**
+     * Remove keys whose newest entry is older than the given window
+     * Keeps memory proportional to drivers that are actually active
+     *
+     * @param windowMinutesByType Current window per alert type
+     * @return Number of keys removed
+     */
+    public int purgeExpired(Map<AlertType, Integer> windowMinutesByType) {
+        int removed = 0;
+        for (WindowKey key : windows.keySet()) {
+            Integer windowMinutes = windowMinutesByType.get(key.alertType());
+            long windowStart = windowMinutes != null ? windowStartMillis(windowMinutes) : Long.MAX_VALUE;
+            // computeIfPresent is atomic with computeIfAbsent in record(), so no occurrence is lost
+            if (windows.computeIfPresent(key, (k, w) -> w.isExpired(windowStart) ? null : w) == null) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Number of (driverId, alertType) keys currently tracked
+     */
+    public int size() {
+        return windows.size();
+    }
+
+    private static long windowStartMillis(int windowMinutes) {
+        return toEpochMillis(LocalDateTime.now().minusMinutes(windowMinutes));
+    }
+
+    private static long toEpochMillis(LocalDateTime timestamp) {
+        // Only differences between timestamps matter, so a fixed offset is sufficient
+        return timestamp.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static LocalDateTime fromEpochMillis(long epochMillis) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochMillis, 1000L),
+            (int) Math.floorMod(epochMillis, 1000L) * 1_000_000, ZoneOffset.UTC);
+    }
+
+    /**
+     * Composite key for a window
+     */
+    private record WindowKey(String driverId, AlertType alertType) {
+        WindowKey {
+            Objects.requireNonNull(driverId);
+            Objects.requireNonNull(alertType);
+        }
+    }
+
+    /**
+     * Immutable view of a window at evaluation time
+     */
+    public record WindowSnapshot(int count, LocalDateTime oldest, LocalDateTime newest) {
+
+        public static final WindowSnapshot EMPTY = new WindowSnapshot(0, null, null);
+
+        public boolean isEmpty() {
+            return count == 0;
+        }
+    }
+
+    /**
+     * Growable ring buffer of (timestamp, alertId) pairs ordered by timestamp
+     * Grows by doubling up to maxCapacity, after which the oldest entry is overwritten
+     */
+    private static final class AlertWindow {
+
+        private long[] timestamps = new long[INITIAL_CAPACITY];
+        private String[] alertIds = new String[INITIAL_CAPACITY];
+        private int head;
+        private int size;
+
+        synchronized void add(long timestamp, String alertId, int maxCapacity) {
+            if (size == timestamps.length) {
+                if (timestamps.length < maxCapacity) {
+                    grow(Math.min(timestamps.length * 2, maxCapacity));
+                } else {
+                    // Full at capacity: overwrite the oldest occurrence
+                    head = (head + 1) % timestamps.length;
+                    size--;
+                }
+            }
+
+            // Insert keeping timestamp order; in-order arrivals touch only the tail
+            int pos = size;
+            while (pos > 0 && timestamps[index(pos - 1)] > timestamp) {
+                timestamps[index(pos)] = timestamps[index(pos - 1)];
+                alertIds[index(pos)] = alertIds[index(pos - 1)];
+                pos--;
+            }
+            timestamps[index(pos)] = timestamp;
+            alertIds[index(pos)] = alertId;
+            size++;
+        }
+
+        synchronized WindowSnapshot snapshot(long windowStart) {
+            evictBefore(windowStart);
+            if (size == 0) {
+                return WindowSnapshot.EMPTY;
+            }
+            return new WindowSnapshot(size,
+                fromEpochMillis(timestamps[head]),
+                fromEpochMillis(timestamps[index(size - 1)]));
+        }
+
+        synchronized List<String> alertIds(long windowStart) {
+            evictBefore(windowStart);
+            List<String> ids = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                ids.add(alertIds[index(i)]);
+            }
+            return ids;
+        }
+
+        synchronized boolean isExpired(long windowStart) {
+            evictBefore(windowStart);
+            return size == 0;
+        }
+
+        private void evictBefore(long windowStart) {
+            while (size > 0 && timestamps[head] < windowStart) {
+                alertIds[head] = null;
+                head = (head + 1) % timestamps.length;
+                size--;
+            }
+        }
+
+        private void grow(int newCapacity) {
+            long[] newTimestamps = new long[newCapacity];
+            String[] newAlertIds = new String[newCapacity];
+            for (int i = 0; i < size; i++) {
+                newTimestamps[i] = timestamps[index(i)];
+                newAlertIds[i] = alertIds[index(i)];
+            }
+            timestamps = newTimestamps;
+            alertIds = newAlertIds;
+            head = 0;
+        }
+
+        private int index(int offset) {
+            return (head + offset) % timestamps.length;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.movesync.alert.exception;
 
 import com.movesync.alert.dto.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -71,6 +72,21 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(ex.getMessage()));
     }
 
+    /**
+     * Handle ingest backpressure (pipeline queue full)
+     */
+    @ExceptionHandler(IngestQueueFullException.class)
+    public ResponseEntity<ApiResponse<Object>> handleIngestQueueFullException(
+            IngestQueueFullException ex, WebRequest request) {
+        
+        log.warn("Ingest rejected: {}", ex.getMessage());
+        
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ApiResponse.error(ex.getMessage()));
+    }
+
     /**
      * Handle validation errors
      */
@@ -0,0 +1,19 @@
+package com.movesync.alert.exception;
+
+/**
+ * Exception thrown when the ingest pipeline cannot accept more work
+ * Mapped to 503 Service Unavailable with a Retry-After header
+ */
+public class IngestQueueFullException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public IngestQueueFullException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
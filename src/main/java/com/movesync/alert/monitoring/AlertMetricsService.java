@@ -1,12 +1,24 @@
 package com.movesync.alert.monitoring;
 
+import com.movesync.alert.domain.event.AlertTransitionsEvent;
+import com.movesync.alert.domain.event.AlertTransitionsEvent.Transition;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 /**
  * Service for recording custom application metrics
@@ -16,12 +28,28 @@ import java.util.concurrent.TimeUnit;
  * - Alert operations (create, escalate, close, resolve)
  * - Rule evaluations
  * - Background job executions
- * - API performance
+ * - Ingest pipeline queues and stages
+ * - Hot-path steps (validate, persist, history write, rule query, evaluation, escalation write)
+ * - API performance (SQL statements per request)
+ *
+ * Latency timers publish p50/p99/p99.9 and a percentile histogram (for Prometheus
+ * histogram_quantile across instances). Alert counters are incremented from committed
+ * transitions, so rolled-back writes are never counted.
  */
 @Slf4j
 @Service
 public class AlertMetricsService {
 
+    // Hot-path steps timed by alerts.step.time
+    public static final String STEP_VALIDATE = "validate";
+    public static final String STEP_PERSIST = "persist";
+    public static final String STEP_HISTORY_WRITE = "history_write";
+    public static final String STEP_RULE_QUERY = "rule_query";
+    public static final String STEP_EVALUATION = "evaluation";
+    public static final String STEP_ESCALATION_WRITE = "escalation_write";
+
+    private static final double[] PERCENTILES = {0.5, 0.99, 0.999};
+
     private final MeterRegistry meterRegistry;
     
     // Counters
@@ -34,6 +62,18 @@ public class AlertMetricsService {
     // Timers
     private final Timer alertCreationTimer;
     private final Timer ruleEvaluationTimer;
+    private final Timer autoCloseJobTimer;
+
+    // Auto-close job results of the last run, held here so the gauges are never collected
+    private final AtomicLong autoCloseLastProcessed = new AtomicLong();
+    private final AtomicLong autoCloseLastClosed = new AtomicLong();
+
+    // Meters created per tag value on first use
+    private final Map<String, Timer> pipelineTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> pipelineDropCounters = new ConcurrentHashMap<>();
+    private final Map<String, Timer> stepTimers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> requestStatementSummaries = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> customGauges = new ConcurrentHashMap<>();
 
     public AlertMetricsService(MeterRegistry meterRegistry) {
         this.meterRegistry = meterRegistry;
@@ -61,12 +101,50 @@ public class AlertMetricsService {
         
         // Initialize timers
         this.alertCreationTimer = Timer.builder("alerts.creation.time")
-                .description("Time taken to create an alert")
+                .description("Time from accepting an alert until it is persisted")
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
                 .register(meterRegistry);
         
         this.ruleEvaluationTimer = Timer.builder("rules.evaluation.time")
                 .description("Time taken to evaluate rules")
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
                 .register(meterRegistry);
+
+        this.autoCloseJobTimer = Timer.builder("alerts.autoclose.job.time")
+                .description("Time taken by an auto-close run that had due alerts")
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+
+        Gauge.builder("alerts.autoclose.job.last.processed", autoCloseLastProcessed, AtomicLong::get)
+                .description("Alerts evaluated by the last auto-close run")
+                .register(meterRegistry);
+
+        Gauge.builder("alerts.autoclose.job.last.closed", autoCloseLastClosed, AtomicLong::get)
+                .description("Alerts closed by the last auto-close run")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Count committed alert transitions (creation, escalation, auto-closure, resolution)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTransitions(AlertTransitionsEvent event) {
+        for (Transition transition : event.transitions()) {
+            if (transition.fromStatus() == null) {
+                alertsCreatedCounter.increment();
+                continue;
+            }
+            switch (transition.toStatus()) {
+                case ESCALATED -> alertsEscalatedCounter.increment();
+                case AUTO_CLOSED -> alertsAutoClosedCounter.increment();
+                case RESOLVED -> alertsResolvedCounter.increment();
+                default -> {
+                }
+            }
+        }
     }
 
     /**
@@ -104,25 +182,149 @@ public class AlertMetricsService {
         ruleEvaluationsCounter.increment();
     }
 
+    /**
+     * Record rule evaluations of several alerts at once
+     */
+    public void recordRuleEvaluations(int count) {
+        ruleEvaluationsCounter.increment(count);
+    }
+
     /**
      * Record alert creation time
      */
-    public void recordAlertCreationTime(long milliseconds) {
-        alertCreationTimer.record(milliseconds, TimeUnit.MILLISECONDS);
+    public void recordAlertCreationTime(Duration duration) {
+        alertCreationTimer.record(duration);
     }
 
     /**
      * Record rule evaluation time
      */
-    public void recordRuleEvaluationTime(long milliseconds) {
-        ruleEvaluationTimer.record(milliseconds, TimeUnit.MILLISECONDS);
+    public void recordRuleEvaluationTime(Duration duration) {
+        ruleEvaluationTimer.record(duration);
+    }
+
+    /**
+     * Run one hot-path step and record its duration under alerts.step.time{step}
+     * The duration is recorded even if the step throws
+     */
+    public <T> T timeStep(String step, Supplier<T> action) {
+        long startedAt = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            recordStep(step, System.nanoTime() - startedAt);
+        }
+    }
+
+    /**
+     * Run one hot-path step without a result and record its duration
+     */
+    public void timeStep(String step, Runnable action) {
+        long startedAt = System.nanoTime();
+        try {
+            action.run();
+        } finally {
+            recordStep(step, System.nanoTime() - startedAt);
+        }
+    }
+
+    /**
+     * Record the duration of one hot-path step
+     */
+    public void recordStep(String step, long nanos) {
+        stepTimers.computeIfAbsent(step, k -> Timer.builder("alerts.step.time")
+                .description("Time taken by one step of alert ingestion or rule evaluation")
+                .tag("step", step)
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
+                .register(meterRegistry))
+            .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Record the number of SQL statements an API request issued
+     *
+     * @param uri Matched route pattern (e.g. /api/v1/alerts/{alertId}), never the raw path
+     */
+    public void recordRequestStatements(String method, String uri, long statements) {
+        requestStatementSummaries.computeIfAbsent(method + " " + uri, k -> DistributionSummary
+                .builder("http.server.requests.db.statements")
+                .description("SQL statements issued while serving an API request")
+                .baseUnit("statements")
+                .tag("method", method)
+                .tag("uri", uri)
+                .publishPercentiles(PERCENTILES)
+                .register(meterRegistry))
+            .record(statements);
+    }
+
+    /**
+     * Record the outcome of an auto-close run that had due alerts
+     */
+    public void recordAutoCloseJob(int processed, int closed, Duration duration) {
+        autoCloseJobTimer.record(duration);
+        autoCloseLastProcessed.set(processed);
+        autoCloseLastClosed.set(closed);
+    }
+
+    /**
+     * Register a gauge exporting the depth of an ingest pipeline queue
+     * The queue is strongly referenced so the gauge is never collected
+     */
+    public void registerPipelineQueue(String stage, BlockingQueue<?> queue) {
+        Gauge.builder("alerts.pipeline.queue.depth", queue, BlockingQueue::size)
+                .description("Number of tasks waiting in an ingest pipeline stage")
+                .tag("stage", stage)
+                .strongReference(true)
+                .register(meterRegistry);
+        Gauge.builder("alerts.pipeline.queue.remaining", queue, BlockingQueue::remainingCapacity)
+                .description("Free capacity of an ingest pipeline stage queue")
+                .tag("stage", stage)
+                .strongReference(true)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Record time a pipeline task spent queued and executing in a stage
+     */
+    public void recordPipelineStage(String stage, long queuedNanos, long executionNanos) {
+        pipelineTimers.computeIfAbsent("wait." + stage, k -> Timer.builder("alerts.pipeline.queue.wait")
+                .description("Time tasks spend queued before a pipeline stage runs them")
+                .tag("stage", stage)
+                .register(meterRegistry))
+            .record(queuedNanos, TimeUnit.NANOSECONDS);
+        pipelineTimers.computeIfAbsent("exec." + stage, k -> Timer.builder("alerts.pipeline.stage.time")
+                .description("Time taken to execute a pipeline stage")
+                .tag("stage", stage)
+                .register(meterRegistry))
+            .record(executionNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Record a task rejected by a pipeline stage (queue full or timed out)
+     */
+    public void recordPipelineDrop(String stage, String reason) {
+        pipelineDropCounters.computeIfAbsent(stage + "." + reason, k -> Counter.builder("alerts.pipeline.dropped")
+                .description("Tasks rejected by the ingest pipeline")
+                .tag("stage", stage)
+                .tag("reason", reason)
+                .register(meterRegistry))
+            .increment();
     }
 
     /**
      * Record custom metric
+     * The gauge is registered once per name and reads a value held by this service;
+     * later calls only update the value
      */
     public void recordCustomMetric(String metricName, double value) {
-        meterRegistry.gauge(metricName, value);
+        customGauges.computeIfAbsent(metricName, name -> {
+            AtomicLong bits = new AtomicLong();
+            Gauge.builder(name, bits, held -> Double.longBitsToDouble(held.get()))
+                    .strongReference(true)
+                    .register(meterRegistry);
+            return bits;
+        }).set(Double.doubleToLongBits(value));
     }
 }
 
@@ -1,10 +1,16 @@
 package com.movesync.alert.monitoring;
 
+import com.movesync.alert.config.ReplicaRoutingDataSource;
+import com.movesync.alert.engine.CompiledRuleSet;
 import com.movesync.alert.engine.RuleLoader;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Custom health indicator for the alert system
  * Provides health status for monitoring
@@ -14,6 +20,7 @@ import org.springframework.stereotype.Component;
 public class AlertSystemHealthIndicator implements org.springframework.boot.actuate.health.HealthIndicator {
 
     private final RuleLoader ruleLoader;
+    private final ObjectProvider<ReplicaRoutingDataSource> replicaRouting;
 
     @Override
     public Health health() {
@@ -25,12 +32,21 @@ public class AlertSystemHealthIndicator implements org.springframework.boot.actu
                         .build();
             }
 
-            int ruleCount = ruleLoader.getRuleCount();
+            CompiledRuleSet ruleSet = ruleLoader.getRuleSet();
             
-            return Health.up()
-                    .withDetail("rulesLoaded", ruleCount)
-                    .withDetail("status", "Operational")
-                    .build();
+            Health.Builder health = Health.up()
+                    .withDetail("rulesLoaded", ruleSet.size())
+                    .withDetail("ruleSetVersion", ruleSet.version())
+                    .withDetail("rulesChecksum", ruleSet.checksum())
+                    .withDetail("status", "Operational");
+
+            // A rejected reload keeps the previous rules active, so it is reported but not DOWN
+            if (ruleLoader.getLastLoadError() != null) {
+                health.withDetail("lastReloadError", ruleLoader.getLastLoadError());
+            }
+            // Reads fall back to the primary while the replica is unusable, so it is reported but not DOWN
+            replicaRouting.ifAvailable(routing -> health.withDetail("readReplica", replicaDetails(routing)));
+            return health.build();
 
         } catch (Exception e) {
             return Health.down()
@@ -38,5 +54,17 @@ public class AlertSystemHealthIndicator implements org.springframework.boot.actu
                     .build();
         }
     }
+
+    private Map<String, Object> replicaDetails(ReplicaRoutingDataSource routing) {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("usable", routing.isReplicaUsable());
+        details.put("lagMs", routing.getReplicaLagMillis());
+        details.put("replicaConnections", routing.getReplicaConnections());
+        details.put("primaryFallbacks", routing.getPrimaryFallbacks());
+        if (routing.getReplicaError() != null) {
+            details.put("error", routing.getReplicaError());
+        }
+        return details;
+    }
 }
 
@@ -0,0 +1,135 @@
+package com.movesync.alert.monitoring;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts SQL statements Hibernate prepares within a scope (one API request)
+ * Registered as Hibernate's statement inspector, so JPQL, native and Spring Data derived
+ * queries are all counted; a JDBC batch counts once per statement prepared, not per row
+ *
+ * A scope is bound to the thread serving the request. Work the request waits on in another
+ * thread (the ingest pipeline's persist stage) joins the scope via propagate(). A recording
+ * scope also keeps the statements' SQL (used by the query plan tests).
+ *
+ * Thread Safety: Scopes are thread-confined; the count is atomic so propagated work can add to it
+ * Time Complexity: O(1) per statement
+ */
+@Component
+public class SqlStatementCounter implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.add(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * Start counting statements on the current thread
+     */
+    public static Scope open() {
+        return bind(new Scope(null));
+    }
+
+    /**
+     * Start counting statements on the current thread, keeping their SQL
+     */
+    public static Scope record() {
+        return bind(new Scope(Collections.synchronizedList(new ArrayList<>())));
+    }
+
+    /**
+     * Bind a task to the caller's scope, so statements it runs on another thread are counted
+     * Returns the task unchanged when the caller has no scope
+     */
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        Scope scope = CURRENT.get();
+        if (scope == null) {
+            return task;
+        }
+        return () -> {
+            Scope previous = CURRENT.get();
+            CURRENT.set(scope);
+            try {
+                return task.call();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    private static Scope bind(Scope scope) {
+        scope.previous = CURRENT.get();
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    private static void restore(Scope previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Statement count of one request; closing it restores the enclosing scope
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final AtomicLong count = new AtomicLong();
+        private final List<String> sql;
+        private Scope previous;
+
+        private Scope(List<String> sql) {
+            this.sql = sql;
+        }
+
+        private void add(String statement) {
+            count.incrementAndGet();
+            if (sql != null) {
+                sql.add(statement);
+            }
+        }
+
+        public long statements() {
+            return count.get();
+        }
+
+        /**
+         * SQL of the statements so far, in order; empty unless opened by record()
+         */
+        public List<String> sql() {
+            if (sql == null) {
+                return List.of();
+            }
+            synchronized (sql) {
+                return List.copyOf(sql);
+            }
+        }
+
+        @Override
+        public void close() {
+            restore(previous);
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.movesync.alert.pipeline;
+
+import com.movesync.alert.domain.event.AlertsCreatedEvent;
+import com.movesync.alert.domain.model.Alert;
+import com.movesync.alert.dto.AlertResponse;
+import com.movesync.alert.dto.BatchAlertResponse;
+import com.movesync.alert.dto.CreateAlertRequest;
+import com.movesync.alert.exception.IngestQueueFullException;
+import com.movesync.alert.monitoring.AlertMetricsService;
+import com.movesync.alert.monitoring.SqlStatementCounter;
+import com.movesync.alert.service.AlertService;
+import com.movesync.alert.service.RuleEvaluationService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Staged ingest pipeline: accept → persist → evaluate → escalate
+ * Each stage runs on its own executor behind a bounded queue
+ *
+ * Backpressure:
+ * - accept: request threads hand work to the persist queue; when it is full the request
+ *   is rejected with IngestQueueFullException (503 + Retry-After) and counted as dropped
+ * - accept timeout: a request that times out while its task is still queued withdraws the task
+ *   and gets the same 503; once the task has started it waits for the outcome instead, so a
+ *   retry never duplicates a persisted alert
+ * - evaluate/escalate: a full queue makes the submitting thread run the task itself,
+ *   which slows the stage upstream instead of dropping a persisted alert; for the persist
+ *   worker that is the after-commit callback, so applyEscalation starts a new transaction
+ *
+ * The persist → evaluate hand-off happens AFTER_COMMIT, so evaluation only ever sees
+ * alerts that are visible in the database.
+ *
+ * Metrics: queue depth, per-stage wait/execution time and drop counters via AlertMetricsService;
+ * persist tasks count their SQL statements towards the request that submitted them
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AlertIngestPipeline {
+
+    private static final String STAGE_PERSIST = "persist";
+    private static final String STAGE_EVALUATE = "evaluate";
+    private static final String STAGE_ESCALATE = "escalate";
+
+    private final AlertService alertService;
+    private final RuleEvaluationService ruleEvaluationService;
+    private final AlertMetricsService metricsService;
+
+    @Value("${alert.ingest.pipeline.persist-threads:4}")
+    private int persistThreads;
+
+    @Value("${alert.ingest.pipeline.persist-queue-capacity:1000}")
+    private int persistQueueCapacity;
+
+    @Value("${alert.ingest.pipeline.evaluate-threads:2}")
+    private int evaluateThreads;
+
+    @Value("${alert.ingest.pipeline.evaluate-queue-capacity:10000}")
+    private int evaluateQueueCapacity;
+
+    @Value("${alert.ingest.pipeline.escalate-threads:2}")
+    private int escalateThreads;
+
+    @Value("${alert.ingest.pipeline.escalate-queue-capacity:1000}")
+    private int escalateQueueCapacity;
+
+    @Value("${alert.ingest.pipeline.accept-timeout-ms:10000}")
+    private long acceptTimeoutMs;
+
+    @Value("${alert.ingest.pipeline.retry-after-seconds:1}")
+    private long retryAfterSeconds;
+
+    private ThreadPoolExecutor persistExecutor;
+    private ThreadPoolExecutor evaluateExecutor;
+    private ThreadPoolExecutor escalateExecutor;
+
+    @PostConstruct
+    public void start() {
+        persistExecutor = newStage(STAGE_PERSIST, persistThreads, persistQueueCapacity,
+            new ThreadPoolExecutor.AbortPolicy());
+        evaluateExecutor = newStage(STAGE_EVALUATE, evaluateThreads, evaluateQueueCapacity,
+            new ThreadPoolExecutor.CallerRunsPolicy());
+        escalateExecutor = newStage(STAGE_ESCALATE, escalateThreads, escalateQueueCapacity,
+            new ThreadPoolExecutor.CallerRunsPolicy());
+
+        log.info("Ingest pipeline started: persist={}x{}, evaluate={}x{}, escalate={}x{} (threads x queue)",
+                persistThreads, persistQueueCapacity, evaluateThreads, evaluateQueueCapacity,
+                escalateThreads, escalateQueueCapacity);
+    }
+
+    /**
+     * Drain stages in pipeline order so in-flight alerts still get evaluated
+     */
+    @PreDestroy
+    public void stop() {
+        shutdown(STAGE_PERSIST, persistExecutor);
+        shutdown(STAGE_EVALUATE, evaluateExecutor);
+        shutdown(STAGE_ESCALATE, escalateExecutor);
+    }
+
+    /**
+     * Accept a single alert and wait until it is persisted
+     * Escalation happens asynchronously after the response
+     *
+     * @throws IngestQueueFullException if the persist queue is full, or the wait times out before persisting started
+     */
+    public AlertResponse submit(CreateAlertRequest request) {
+        long acceptedAt = System.nanoTime();
+        AlertResponse response = await(accept(() -> alertService.createAlert(request)));
+        metricsService.recordAlertCreationTime(Duration.ofNanos(System.nanoTime() - acceptedAt));
+        return response;
+    }
+
+    /**
+     * Accept a batch of alerts and wait until it is persisted
+     *
+     * @throws IngestQueueFullException if the persist queue is full, or the wait times out before persisting started
+     */
+    public BatchAlertResponse submitBatch(List<CreateAlertRequest> requests) {
+        return await(accept(() -> alertService.createAlerts(requests)));
+    }
+
+    /**
+     * Persist → evaluate hand-off, once the creating transaction has committed
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAlertsCreated(AlertsCreatedEvent event) {
+        for (List<Alert> group : ruleEvaluationService.groupByWindow(event.alerts())) {
+            evaluateExecutor.execute(timed(STAGE_EVALUATE, () -> evaluate(group)));
+        }
+    }
+
+    /**
+     * Evaluate stage: in-memory window check, hands fired escalations to the escalate stage
+     */
+    private void evaluate(List<Alert> group) {
+        try {
+            ruleEvaluationService.planEscalation(group).ifPresent(plan ->
+                escalateExecutor.execute(timed(STAGE_ESCALATE, () -> escalate(plan))));
+        } catch (Exception e) {
+            log.error("Error evaluating escalation for driver {} and type {}",
+                    group.get(0).getDriverId(), group.get(0).getAlertType(), e);
+            // Don't propagate exception - escalation failure shouldn't affect other alerts
+        }
+    }
+
+    /**
+     * Escalate stage: writes escalations for one window in its own transaction
+     * Timed around the transactional call, so the escalation write step includes the commit
+     */
+    private void escalate(RuleEvaluationService.EscalationPlan plan) {
+        try {
+            metricsService.timeStep(AlertMetricsService.STEP_ESCALATION_WRITE,
+                () -> ruleEvaluationService.applyEscalation(plan));
+        } catch (Exception e) {
+            log.error("Error escalating alerts for driver {} and type {}",
+                    plan.driverId(), plan.alertType(), e);
+        }
+    }
+
+    private <T> PersistTicket<T> accept(Callable<T> task) {
+        // Claimed by whichever comes first: the worker starting the task, or the request giving up on it
+        AtomicBoolean claimed = new AtomicBoolean();
+        Callable<T> claimedTask = () -> claimed.compareAndSet(false, true) ? task.call() : null;
+        try {
+            Future<T> future = persistExecutor.submit(timed(STAGE_PERSIST, SqlStatementCounter.propagate(claimedTask)));
+            return new PersistTicket<>(future, claimed);
+        } catch (RejectedExecutionException e) {
+            metricsService.recordPipelineDrop(STAGE_PERSIST, "queue_full");
+            throw new IngestQueueFullException("Alert ingest queue is full, retry later", retryAfterSeconds);
+        }
+    }
+
+    private <T> T await(PersistTicket<T> ticket) {
+        try {
+            try {
+                return ticket.future().get(acceptTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (ticket.claimed().compareAndSet(false, true)) {
+                    // Still queued: the task will not run, so retrying cannot duplicate the alert
+                    ticket.future().cancel(false);
+                    metricsService.recordPipelineDrop(STAGE_PERSIST, "timeout");
+                    throw new IngestQueueFullException("Timed out waiting for alert ingest, retry later", retryAfterSeconds);
+                }
+                // Already persisting: it commits or fails on its own (bounded by the database timeouts)
+                log.warn("Alert ingest exceeded {}ms after persisting started, waiting for the outcome", acceptTimeoutMs);
+                return ticket.future().get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Alert ingest failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for alert ingest", e);
+        }
+    }
+
+    /**
+     * Submitted persist task and the flag deciding whether it still runs
+     */
+    private record PersistTicket<T>(Future<T> future, AtomicBoolean claimed) {
+    }
+
+    private ThreadPoolExecutor newStage(String stage, int threads, int queueCapacity,
+                                        RejectedExecutionHandler rejectionPolicy) {
+        ArrayBlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(queueCapacity);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            queue, new CustomizableThreadFactory("ingest-" + stage + "-"), rejectionPolicy);
+        metricsService.registerPipelineQueue(stage, queue);
+        return executor;
+    }
+
+    private void shutdown(String stage, ThreadPoolExecutor executor) {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("Pipeline stage {} did not drain in time, {} tasks abandoned",
+                        stage, executor.shutdownNow().size());
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Runnable timed(String stage, Runnable task) {
+        long enqueuedAt = System.nanoTime();
+        return () -> {
+            long startedAt = System.nanoTime();
+            try {
+                task.run();
+            } finally {
+                metricsService.recordPipelineStage(stage, startedAt - enqueuedAt, System.nanoTime() - startedAt);
+            }
+        };
+    }
+
+    private <T> Callable<T> timed(String stage, Callable<T> task) {
+        long enqueuedAt = System.nanoTime();
+        return () -> {
+            long startedAt = System.nanoTime();
+            try {
+                return task.call();
+            } finally {
+                metricsService.recordPipelineStage(stage, startedAt - enqueuedAt, System.nanoTime() - startedAt);
+            }
+        };
+    }
+}
@@ -0,0 +1,77 @@
+package com.movesync.alert.repository;
+
+import com.movesync.alert.domain.model.AlertHistory;
+import com.movesync.alert.domain.model.UuidV7;
+import com.movesync.alert.monitoring.SqlStatementCounter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Bulk alert_history inserts through plain JDBC batches
+ *
+ * History rows are append-only and never read back by the transaction that writes them, so
+ * bulk writers (batch ingestion, escalation, batch auto-close) skip the persistence context:
+ * no entity snapshots, no flush-time dirty checking, one prepared statement and one round trip
+ * per batch-size rows. Statements run on the caller's transaction; JpaTransactionManager
+ * exposes its connection to JdbcTemplate.
+ *
+ * Missing ids and timestamps are assigned here, as AlertHistory.onCreate does for JPA saves.
+ *
+ * Time Complexity: O(n), ceil(n / b) round trips where b = hibernate.jdbc.batch_size
+ * Thread Safety: Stateless
+ */
+@Repository
+public class AlertHistoryJdbcRepository {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO alert_history (history_id, alert_id, from_status, to_status, timestamp, reason, changed_by, event_type) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SqlStatementCounter statementCounter;
+    private final int batchSize;
+
+    public AlertHistoryJdbcRepository(JdbcTemplate jdbcTemplate,
+                                      SqlStatementCounter statementCounter,
+                                      @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.statementCounter = statementCounter;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Insert history rows in JDBC batches, in list order
+     */
+    public void insertAll(List<AlertHistory> histories) {
+        if (histories.isEmpty()) {
+            return;
+        }
+        for (AlertHistory history : histories) {
+            if (history.getHistoryId() == null) {
+                history.setHistoryId(UuidV7.nextString());
+            }
+            if (history.getTimestamp() == null) {
+                history.setTimestamp(LocalDateTime.now());
+            }
+        }
+
+        // Bypasses Hibernate's statement inspector, so count the statement for per-request SQL metrics
+        statementCounter.inspect(INSERT_SQL);
+        jdbcTemplate.batchUpdate(INSERT_SQL, histories, batchSize, (ps, history) -> {
+            ps.setObject(1, UUID.fromString(history.getHistoryId()));
+            ps.setObject(2, UUID.fromString(history.getAlertId()));
+            ps.setString(3, history.getFromStatus() != null ? history.getFromStatus().name() : null);
+            ps.setString(4, history.getToStatus().name());
+            ps.setTimestamp(5, Timestamp.valueOf(history.getTimestamp()));
+            ps.setString(6, history.getReason());
+            ps.setString(7, history.getChangedBy());
+            ps.setString(8, history.getEventType());
+        });
+    }
+}
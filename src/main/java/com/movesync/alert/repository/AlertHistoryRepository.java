@@ -1,6 +1,8 @@
 package com.movesync.alert.repository;
 
 import com.movesync.alert.domain.model.AlertHistory;
+import com.movesync.alert.domain.model.AlertPartitionKey;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -9,6 +11,7 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -24,6 +27,31 @@ public interface AlertHistoryRepository extends JpaRepository<AlertHistory, Stri
      */
     List<AlertHistory> findByAlertIdOrderByTimestampAsc(String alertId);
 
+    /**
+     * Find all history entries for a specific alert, oldest first, pruning partitions
+     * History is written between the time carried by the alert id (AlertPartitionKey) and now,
+     * so the bounds never hide an entry; ids carrying no time probe every partition
+     */
+    default List<AlertHistory> findByAlertIdPruned(String alertId) {
+        return AlertPartitionKey.idTime(alertId)
+            .map(idTime -> findByAlertIdWithin(alertId, idTime.minus(AlertPartitionKey.SLACK),
+                LocalDateTime.now().plus(AlertPartitionKey.SLACK)))
+            .orElseGet(() -> findByAlertIdOrderByTimestampAsc(alertId));
+    }
+
+    /**
+     * Find history entries for a specific alert within a time range, oldest first
+     */
+    @Query("SELECT h FROM AlertHistory h " +
+           "WHERE h.alertId = :alertId " +
+           "AND h.timestamp BETWEEN :fromTime AND :toTime " +
+           "ORDER BY h.timestamp ASC")
+    List<AlertHistory> findByAlertIdWithin(
+        @Param("alertId") String alertId,
+        @Param("fromTime") LocalDateTime fromTime,
+        @Param("toTime") LocalDateTime toTime
+    );
+
     /**
      * Find recent history entries
      * Used for dashboard activity stream
@@ -56,11 +84,34 @@ public interface AlertHistoryRepository extends JpaRepository<AlertHistory, Stri
     List<AlertHistory> findRecentEvents(@Param("fromTime") LocalDateTime fromTime);
 
     /**
-     * Delete old history entries (for data retention)
+     * History of several alerts at once (for archiving)
+     */
+    List<AlertHistory> findByAlertIdIn(Collection<String> alertIds);
+
+    /**
+     * IDs of history entries older than the retention threshold, one delete chunk at a time
+     */
+    @Query("SELECT h.historyId FROM AlertHistory h WHERE h.timestamp < :threshold")
+    List<String> findIdsOlderThan(@Param("threshold") LocalDateTime threshold, Pageable pageable);
+
+    /**
+     * Delete one chunk of history entries (for data retention)
+     * Runs in its own short transaction, so locks are held for one chunk only
+     *
+     * @return Number of history entries deleted
      */
     @Modifying
     @Transactional
-    @Query("DELETE FROM AlertHistory h WHERE h.timestamp < :threshold")
-    void deleteOldHistory(@Param("threshold") LocalDateTime threshold);
-}
+    @Query("DELETE FROM AlertHistory h WHERE h.historyId IN :historyIds")
+    int deleteByHistoryIdIn(@Param("historyIds") Collection<String> historyIds);
 
+    /**
+     * Delete the whole history of a chunk of alerts (after archiving them)
+     *
+     * @return Number of history entries deleted
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM AlertHistory h WHERE h.alertId IN :alertIds")
+    int deleteByAlertIdIn(@Param("alertIds") Collection<String> alertIds);
+}
@@ -0,0 +1,76 @@
+package com.movesync.alert.repository;
+
+import com.movesync.alert.domain.metadata.MetadataFormat;
+import com.movesync.alert.monitoring.SqlStatementCounter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Raw access to the encoded alerts.metadata column, for MetadataReencodeJob
+ *
+ * Rows are walked in primary key order (alert_id leads the key, also on partitioned tables);
+ * the format filter compares the tag byte in the database, so rows already in the target
+ * format are never transferred.
+ *
+ * Thread Safety: Stateless
+ */
+@Repository
+public class AlertMetadataJdbcRepository {
+
+    private static final String FIND_SQL =
+        "SELECT alert_id, timestamp, metadata FROM alerts " +
+        "WHERE alert_id > ? AND SUBSTRING(metadata FROM 1 FOR 1) <> ? " +
+        "ORDER BY alert_id LIMIT ?";
+    private static final String UPDATE_SQL =
+        "UPDATE alerts SET metadata = ? WHERE alert_id = ? AND timestamp = ? AND metadata = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SqlStatementCounter statementCounter;
+
+    public AlertMetadataJdbcRepository(JdbcTemplate jdbcTemplate, SqlStatementCounter statementCounter) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.statementCounter = statementCounter;
+    }
+
+    /**
+     * Encoded metadata of one alert row
+     */
+    public record EncodedMetadata(UUID alertId, LocalDateTime timestamp, byte[] metadata) {
+    }
+
+    /**
+     * Next rows after an alert id whose metadata is not in a format, in alert id order
+     * Time Complexity: O(log n + scanned rows)
+     */
+    public List<EncodedMetadata> findNotInFormat(MetadataFormat format, UUID afterAlertId, int limit) {
+        // Bypasses Hibernate's statement inspector, so report the statement to the counter
+        statementCounter.inspect(FIND_SQL);
+        return jdbcTemplate.query(FIND_SQL,
+            (rs, rowNum) -> new EncodedMetadata(rs.getObject(1, UUID.class),
+                rs.getTimestamp(2).toLocalDateTime(), rs.getBytes(3)),
+            afterAlertId, new byte[]{format.tag()}, limit);
+    }
+
+    /**
+     * Replace metadata of rows whose stored bytes are still the ones read, in one JDBC batch
+     *
+     * @param rows Rows as read by findNotInFormat
+     * @param reencoded New bytes for each row, in the same order
+     * @return Number of rows updated; rows changed in the meantime are left alone
+     */
+    public int updateIfUnchanged(List<EncodedMetadata> rows, List<byte[]> reencoded) {
+        statementCounter.inspect(UPDATE_SQL);
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, IntStream.range(0, rows.size())
+            .mapToObj(i -> new Object[]{reencoded.get(i), rows.get(i).alertId(),
+                Timestamp.valueOf(rows.get(i).timestamp()), rows.get(i).metadata()})
+            .toList());
+        return Arrays.stream(counts).map(count -> Math.max(count, 0)).sum();
+    }
+}
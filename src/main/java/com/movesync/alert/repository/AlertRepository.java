@@ -4,47 +4,119 @@ import com.movesync.alert.domain.enums.AlertSeverity;
 import com.movesync.alert.domain.enums.AlertStatus;
 import com.movesync.alert.domain.enums.AlertType;
 import com.movesync.alert.domain.model.Alert;
+import com.movesync.alert.domain.model.AlertPartitionKey;
+import com.movesync.alert.repository.projection.AlertSummary;
+import com.movesync.alert.repository.projection.DriverSeverityCount;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository for Alert entity
  * Provides data access methods with optimal indexing for performance
+ *
+ * Lookups by id bound the partition key (timestamp) so PostgreSQL prunes partitions: callers
+ * pass the timestamps they hold, findByIdPruned derives them from the id (AlertPartitionKey).
+ * Plain findById / findAllById probe every partition.
  */
 @Repository
 public interface AlertRepository extends JpaRepository<Alert, String> {
 
     /**
-     * Find all active (OPEN or ESCALATED) alerts
+     * Find an alert by id, bounding the partition key by the time carried by the id
+     * Retries without the bound when the id carries no time or the alert lies outside it
+     * (backdated alerts with ids issued before their timestamp became the id time)
+     */
+    default Optional<Alert> findByIdPruned(String alertId) {
+        return AlertPartitionKey.idTime(alertId)
+            .flatMap(idTime -> findByIdWithin(alertId,
+                idTime.minus(AlertPartitionKey.SLACK), idTime.plus(AlertPartitionKey.SLACK)))
+            .or(() -> findById(alertId));
+    }
+
+    /**
+     * Find an alert by id whose timestamp lies in [fromTimestamp, toTimestamp]
+     */
+    @Query("SELECT a FROM Alert a " +
+           "WHERE a.alertId = :alertId " +
+           "AND a.timestamp BETWEEN :fromTimestamp AND :toTimestamp")
+    Optional<Alert> findByIdWithin(
+        @Param("alertId") String alertId,
+        @Param("fromTimestamp") LocalDateTime fromTimestamp,
+        @Param("toTimestamp") LocalDateTime toTimestamp
+    );
+
+    /**
+     * Find alerts by id whose timestamps lie in [fromTimestamp, toTimestamp]
+     */
+    @Query("SELECT a FROM Alert a " +
+           "WHERE a.alertId IN :alertIds " +
+           "AND a.timestamp BETWEEN :fromTimestamp AND :toTimestamp")
+    List<Alert> findAllByIdWithin(
+        @Param("alertIds") Collection<String> alertIds,
+        @Param("fromTimestamp") LocalDateTime fromTimestamp,
+        @Param("toTimestamp") LocalDateTime toTimestamp
+    );
+
+    /**
+     * Find alerts by id whose timestamps are at or after fromTimestamp
+     */
+    @Query("SELECT a FROM Alert a " +
+           "WHERE a.alertId IN :alertIds " +
+           "AND a.timestamp >= :fromTimestamp")
+    List<Alert> findAllByIdSince(
+        @Param("alertIds") Collection<String> alertIds,
+        @Param("fromTimestamp") LocalDateTime fromTimestamp
+    );
+
+    /**
+     * Constructor expression shared by the list queries: all columns but metadata, see AlertSummary
+     */
+    String SUMMARY_SELECT = "SELECT new com.movesync.alert.repository.projection.AlertSummary(" +
+        "a.alertId, a.alertType, a.severity, a.status, a.timestamp, a.driverId, a.vehicleId, a.routeId, " +
+        "a.escalatedAt, a.escalationReason, a.closedAt, a.closureReason, a.closedBy, a.createdAt, a.updatedAt) " +
+        "FROM Alert a ";
+
+    /**
+     * Find all active (OPEN or ESCALATED) alerts, without metadata
      * Time Complexity: O(n) where n = number of active alerts
-     * Uses index on status column
+     * Uses index idx_alert_status_ts
      */
-    List<Alert> findByStatusIn(List<AlertStatus> statuses);
+    @Query(SUMMARY_SELECT + "WHERE a.status IN :statuses")
+    List<AlertSummary> findByStatusIn(@Param("statuses") List<AlertStatus> statuses);
 
     /**
      * Find alerts by status
      * Time Complexity: O(n) where n = number of alerts with that status
-     * Uses index on status column
+     * Uses index idx_alert_status_ts
      */
     List<Alert> findByStatus(AlertStatus status);
 
     /**
-     * Find alerts by driver ID and status
-     * Time Complexity: O(log n) due to composite index
+     * Find alerts by driver ID and status, without metadata
+     * Time Complexity: O(log n) due to composite index idx_alert_driver_status
      */
-    List<Alert> findByDriverIdAndStatusIn(String driverId, List<AlertStatus> statuses);
+    @Query(SUMMARY_SELECT + "WHERE a.driverId = :driverId AND a.status IN :statuses")
+    List<AlertSummary> findByDriverIdAndStatusIn(@Param("driverId") String driverId,
+                                                 @Param("statuses") List<AlertStatus> statuses);
 
     /**
      * Find alerts by type, driver, and time window
      * Used for rule evaluation to check repeat occurrences
-     * Time Complexity: O(log n) with proper indexes
+     * Time Complexity: O(log n + k) via idx_alert_type_driver_ts (no sort: index order matches)
      */
     @Query("SELECT a FROM Alert a WHERE a.alertType = :alertType " +
            "AND a.driverId = :driverId " +
@@ -57,34 +129,266 @@ public interface AlertRepository extends JpaRepository<Alert, String> {
     );
 
     /**
-     * Count alerts by severity and status
-     * Used for dashboard statistics
+     * Find occurrence keys (id, type, driver, timestamp) of alerts since a point in time
+     * Used to rebuild the in-memory escalation windows on startup without hydrating entities
+     */
+    @Query("SELECT a.alertId, a.alertType, a.driverId, a.timestamp FROM Alert a " +
+           "WHERE a.timestamp >= :fromTime " +
+           "AND a.driverId IS NOT NULL " +
+           "ORDER BY a.timestamp ASC")
+    List<Object[]> findOccurrencesSince(@Param("fromTime") LocalDateTime fromTime);
+
+    /**
+     * Find occurrence keys (id, type, driver, timestamp) of alerts in the given statuses
+     * Used to rebuild the auto-close timing wheel on startup without hydrating entities
+     */
+    @Query("SELECT a.alertId, a.alertType, a.driverId, a.timestamp FROM Alert a " +
+           "WHERE a.status IN :statuses")
+    List<Object[]> findOccurrencesByStatusIn(@Param("statuses") List<AlertStatus> statuses);
+
+    /**
+     * Find the latest occurrence (type, driver, max timestamp) per driver and type since a point in time
+     * A repeat restarts the auto-close window of every active alert of the same key
+     */
+    @Query("SELECT a.alertType, a.driverId, MAX(a.timestamp) FROM Alert a " +
+           "WHERE a.timestamp >= :fromTime " +
+           "AND a.driverId IS NOT NULL " +
+           "GROUP BY a.alertType, a.driverId")
+    List<Object[]> findLatestOccurrencesSince(@Param("fromTime") LocalDateTime fromTime);
+
+    /**
+     * Find the latest occurrence (type, driver, max timestamp) per key for a set of types and drivers
+     * Used by batch auto-close to fetch repeat data for a whole batch in one grouped query
+     */
+    @Query("SELECT a.alertType, a.driverId, MAX(a.timestamp) FROM Alert a " +
+           "WHERE a.alertType IN :alertTypes " +
+           "AND a.driverId IN :driverIds " +
+           "AND a.timestamp <= :toTime " +
+           "GROUP BY a.alertType, a.driverId")
+    List<Object[]> findLatestOccurrencesByTypeAndDriver(
+        @Param("alertTypes") Collection<AlertType> alertTypes,
+        @Param("driverIds") Collection<String> driverIds,
+        @Param("toTime") LocalDateTime toTime
+    );
+
+    /**
+     * Auto-close a set of alerts in one statement
+     * Only alerts still in fromStatus are touched; the version is bumped so concurrent
+     * entity updates still fail optimistic locking. The timestamp range of the alerts bounds
+     * the partitions touched
+     *
+     * @return Number of alerts closed
+     */
+    @Modifying
+    @Query("UPDATE Alert a SET a.status = :closedStatus, " +
+           "a.closedAt = :closedAt, " +
+           "a.closureReason = :reason, " +
+           "a.closedBy = 'SYSTEM', " +
+           "a.updatedAt = :closedAt, " +
+           "a.version = a.version + 1 " +
+           "WHERE a.alertId IN :alertIds " +
+           "AND a.timestamp BETWEEN :fromTimestamp AND :toTimestamp " +
+           "AND a.status = :fromStatus")
+    int bulkAutoClose(
+        @Param("alertIds") Collection<String> alertIds,
+        @Param("fromTimestamp") LocalDateTime fromTimestamp,
+        @Param("toTimestamp") LocalDateTime toTimestamp,
+        @Param("fromStatus") AlertStatus fromStatus,
+        @Param("closedStatus") AlertStatus closedStatus,
+        @Param("reason") String reason,
+        @Param("closedAt") LocalDateTime closedAt
+    );
+
+    /**
+     * Find which of the given alerts were closed at an exact instant
+     * Resolves the winners of a bulk auto-close that raced with another writer
+     */
+    @Query("SELECT a.alertId FROM Alert a " +
+           "WHERE a.alertId IN :alertIds " +
+           "AND a.timestamp BETWEEN :fromTimestamp AND :toTimestamp " +
+           "AND a.status = :status " +
+           "AND a.closedAt = :closedAt")
+    List<String> findIdsClosedAt(
+        @Param("alertIds") Collection<String> alertIds,
+        @Param("fromTimestamp") LocalDateTime fromTimestamp,
+        @Param("toTimestamp") LocalDateTime toTimestamp,
+        @Param("status") AlertStatus status,
+        @Param("closedAt") LocalDateTime closedAt
+    );
+
+    /**
+     * Escalate a set of alerts in one statement
+     * Same transition as Alert.escalate: only alerts still in fromStatus are touched, and the
+     * version is bumped so concurrent entity updates still fail optimistic locking. The
+     * timestamp range of the alerts bounds the partitions touched
+     *
+     * @return Number of alerts escalated
+     */
+    @Modifying
+    @Query("UPDATE Alert a SET a.status = :escalatedStatus, " +
+           "a.severity = :severity, " +
+           "a.escalatedAt = :escalatedAt, " +
+           "a.escalationReason = :reason, " +
+           "a.updatedAt = :escalatedAt, " +
+           "a.version = a.version + 1 " +
+           "WHERE a.alertId IN :alertIds " +
+           "AND a.timestamp BETWEEN :fromTimestamp AND :toTimestamp " +
+           "AND a.status = :fromStatus")
+    int bulkEscalate(
+        @Param("alertIds") Collection<String> alertIds,
+        @Param("fromTimestamp") LocalDateTime fromTimestamp,
+        @Param("toTimestamp") LocalDateTime toTimestamp,
+        @Param("fromStatus") AlertStatus fromStatus,
+        @Param("escalatedStatus") AlertStatus escalatedStatus,
+        @Param("severity") AlertSeverity severity,
+        @Param("reason") String reason,
+        @Param("escalatedAt") LocalDateTime escalatedAt
+    );
+
+    /**
+     * Find which of the given alerts were escalated at an exact instant
+     * Resolves the winners of a bulk escalation that raced with another writer
+     */
+    @Query("SELECT a.alertId FROM Alert a " +
+           "WHERE a.alertId IN :alertIds " +
+           "AND a.timestamp BETWEEN :fromTimestamp AND :toTimestamp " +
+           "AND a.status = :status " +
+           "AND a.escalatedAt = :escalatedAt")
+    List<String> findIdsEscalatedAt(
+        @Param("alertIds") Collection<String> alertIds,
+        @Param("fromTimestamp") LocalDateTime fromTimestamp,
+        @Param("toTimestamp") LocalDateTime toTimestamp,
+        @Param("status") AlertStatus status,
+        @Param("escalatedAt") LocalDateTime escalatedAt
+    );
+
+    /**
+     * Keyset page of alerts, newest first, ordered by (timestamp, alertId)
+     * Pass a null cursor for the first page; the Pageable only carries the limit (no count query)
+     * Dispatches to one query per shape, so each reads a single index range
+     * (idx_alert_status_ts with a status, idx_alert_ts_id without)
+     * Time Complexity: O(log n + p) where p = page size
+     */
+    default List<AlertSummary> findPageAfter(AlertStatus status, LocalDateTime cursorTimestamp,
+                                             String cursorAlertId, Pageable pageable) {
+        if (cursorTimestamp == null) {
+            return status == null ? findFirstPage(pageable) : findFirstPageByStatus(status, pageable);
+        }
+        return status == null
+            ? findPageAfterCursor(cursorTimestamp, cursorAlertId, pageable)
+            : findPageAfterCursorByStatus(status, cursorTimestamp, cursorAlertId, pageable);
+    }
+
+    @Query(SUMMARY_SELECT + "ORDER BY a.timestamp DESC, a.alertId DESC")
+    List<AlertSummary> findFirstPage(Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE a.status = :status " +
+           "ORDER BY a.timestamp DESC, a.alertId DESC")
+    List<AlertSummary> findFirstPageByStatus(@Param("status") AlertStatus status, Pageable pageable);
+
+    // timestamp <= cursor bounds the index range; the OR only breaks ties at the cursor timestamp
+    @Query(SUMMARY_SELECT + "WHERE a.timestamp <= :cursorTimestamp " +
+           "AND (a.timestamp < :cursorTimestamp OR a.alertId < :cursorAlertId) " +
+           "ORDER BY a.timestamp DESC, a.alertId DESC")
+    List<AlertSummary> findPageAfterCursor(
+        @Param("cursorTimestamp") LocalDateTime cursorTimestamp,
+        @Param("cursorAlertId") String cursorAlertId,
+        Pageable pageable
+    );
+
+    @Query(SUMMARY_SELECT + "WHERE a.status = :status " +
+           "AND a.timestamp <= :cursorTimestamp " +
+           "AND (a.timestamp < :cursorTimestamp OR a.alertId < :cursorAlertId) " +
+           "ORDER BY a.timestamp DESC, a.alertId DESC")
+    List<AlertSummary> findPageAfterCursorByStatus(
+        @Param("status") AlertStatus status,
+        @Param("cursorTimestamp") LocalDateTime cursorTimestamp,
+        @Param("cursorAlertId") String cursorAlertId,
+        Pageable pageable
+    );
+
+    /**
+     * Stream alerts, newest first, without materialising the result set
+     * Must be consumed inside a transaction and closed after use
+     *
+     * @param status Status filter, or null for every alert
+     */
+    default Stream<AlertSummary> streamByStatus(AlertStatus status) {
+        return status == null ? streamAll() : streamWithStatus(status);
+    }
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SUMMARY_SELECT + "ORDER BY a.timestamp DESC, a.alertId DESC")
+    Stream<AlertSummary> streamAll();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SUMMARY_SELECT + "WHERE a.status = :status " +
+           "ORDER BY a.timestamp DESC, a.alertId DESC")
+    Stream<AlertSummary> streamWithStatus(@Param("status") AlertStatus status);
+
+    /**
+     * Count all alerts per (status, severity)
+     * Used to reconcile in-memory dashboard aggregates
+     */
+    @Query("SELECT a.status, a.severity, COUNT(a) FROM Alert a " +
+           "GROUP BY a.status, a.severity")
+    List<Object[]> countByStatusAndSeverity();
+
+    /**
+     * Count alerts per (driver, severity) within the given statuses
+     * Used to reconcile in-memory dashboard aggregates
      */
-    @Query("SELECT a.severity, COUNT(a) FROM Alert a " +
+    @Query("SELECT new com.movesync.alert.repository.projection.DriverSeverityCount(a.driverId, a.severity, COUNT(a)) " +
+           "FROM Alert a " +
            "WHERE a.status IN :statuses " +
-           "GROUP BY a.severity")
-    List<Object[]> countBySeverityAndStatus(@Param("statuses") List<AlertStatus> statuses);
+           "AND a.driverId IS NOT NULL " +
+           "GROUP BY a.driverId, a.severity")
+    List<DriverSeverityCount> countByDriverAndSeverity(@Param("statuses") List<AlertStatus> statuses);
 
     /**
-     * Find top N drivers with most open alerts
+     * Find per-severity alert counts of the top N drivers
+     * with the most alerts in the given statuses
      * Used for dashboard "Top Offenders"
+     * 
+     * One grouped query: the limited subquery picks the drivers, the outer query breaks
+     * their counts down by severity
      */
-    @Query("SELECT a.driverId, COUNT(a) as alertCount FROM Alert a " +
+    @Query("SELECT new com.movesync.alert.repository.projection.DriverSeverityCount(a.driverId, a.severity, COUNT(a)) " +
+           "FROM Alert a " +
            "WHERE a.status IN :statuses " +
-           "AND a.driverId IS NOT NULL " +
-           "GROUP BY a.driverId " +
-           "ORDER BY alertCount DESC")
-    List<Object[]> findTopDriversByAlertCount(@Param("statuses") List<AlertStatus> statuses);
+           "AND a.driverId IN (" +
+           "  SELECT t.driverId FROM Alert t " +
+           "  WHERE t.status IN :statuses " +
+           "  AND t.driverId IS NOT NULL " +
+           "  GROUP BY t.driverId " +
+           "  ORDER BY COUNT(t) DESC, t.driverId " +
+           "  LIMIT :limit) " +
+           "GROUP BY a.driverId, a.severity")
+    List<DriverSeverityCount> findTopDriverSeverityCounts(
+        @Param("statuses") List<AlertStatus> statuses,
+        @Param("limit") int limit
+    );
 
     /**
-     * Find recently auto-closed alerts
+     * Find recently auto-closed alerts, without metadata
      * Used for dashboard transparency
      */
-    @Query("SELECT a FROM Alert a " +
+    @Query(SUMMARY_SELECT +
            "WHERE a.status = 'AUTO_CLOSED' " +
            "AND a.closedAt >= :fromTime " +
            "ORDER BY a.closedAt DESC")
-    List<Alert> findRecentlyAutoClosedAlerts(@Param("fromTime") LocalDateTime fromTime);
+    List<AlertSummary> findRecentlyAutoClosedAlerts(@Param("fromTime") LocalDateTime fromTime);
+
+    /**
+     * Find the latest closed alerts with a status, newest first, without metadata
+     * Used to reconcile in-memory dashboard aggregates
+     */
+    @Query(SUMMARY_SELECT +
+           "WHERE a.status = :status " +
+           "AND a.closedAt IS NOT NULL " +
+           "ORDER BY a.closedAt DESC " +
+           "LIMIT 100")
+    List<AlertSummary> findLatestClosed(@Param("status") AlertStatus status);
 
     /**
      * Find alerts eligible for auto-closure
@@ -112,32 +416,31 @@ public interface AlertRepository extends JpaRepository<Alert, String> {
     long countByAlertTypeAndTimestampAfter(AlertType alertType, LocalDateTime after);
 
     /**
-     * Delete old alerts (for data retention)
-     * Space Optimization: Remove alerts older than retention period
+     * IDs of alerts older than the retention threshold, one delete chunk at a time
+     * Uses index idx_alert_ts_id
      */
-    @Modifying
-    @Transactional
-    @Query("DELETE FROM Alert a WHERE a.timestamp < :threshold")
-    void deleteOldAlerts(@Param("threshold") LocalDateTime threshold);
+    @Query("SELECT a.alertId FROM Alert a WHERE a.timestamp < :threshold")
+    List<String> findIdsOlderThan(@Param("threshold") LocalDateTime threshold, Pageable pageable);
 
     /**
-     * Find alerts by multiple criteria (for advanced filtering)
+     * Closed alerts whose closure is older than the archive threshold, one archive chunk at a time
      */
-    @Query("SELECT a FROM Alert a WHERE " +
-           "(:alertType IS NULL OR a.alertType = :alertType) AND " +
-           "(:severity IS NULL OR a.severity = :severity) AND " +
-           "(:status IS NULL OR a.status = :status) AND " +
-           "(:driverId IS NULL OR a.driverId = :driverId) AND " +
-           "(:fromDate IS NULL OR a.timestamp >= :fromDate) AND " +
-           "(:toDate IS NULL OR a.timestamp <= :toDate) " +
-           "ORDER BY a.timestamp DESC")
-    List<Alert> findAlertsByFilters(
-        @Param("alertType") AlertType alertType,
-        @Param("severity") AlertSeverity severity,
-        @Param("status") AlertStatus status,
-        @Param("driverId") String driverId,
-        @Param("fromDate") LocalDateTime fromDate,
-        @Param("toDate") LocalDateTime toDate
+    @Query("SELECT a FROM Alert a WHERE a.status IN :statuses AND a.closedAt < :threshold " +
+           "ORDER BY a.closedAt")
+    List<Alert> findClosedBefore(
+        @Param("statuses") List<AlertStatus> statuses,
+        @Param("threshold") LocalDateTime threshold,
+        Pageable pageable
     );
-}
 
+    /**
+     * Delete one chunk of alerts (for data retention)
+     * Runs in its own short transaction, so locks are held for one chunk only
+     * 
+     * @return Number of alerts deleted
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM Alert a WHERE a.alertId IN :alertIds")
+    int deleteByAlertIdIn(@Param("alertIds") Collection<String> alertIds);
+}
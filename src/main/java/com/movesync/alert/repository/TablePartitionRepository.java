@@ -0,0 +1,111 @@
+package com.movesync.alert.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Range partitions of time-partitioned tables (PostgreSQL declarative partitioning)
+ * On any other database, or for a table that is not partitioned, no partitions are reported
+ * and callers fall back to row deletes
+ *
+ * Partition bounds are read from the catalog rather than derived from partition names,
+ * so changing the partition interval never misjudges existing partitions
+ *
+ * Thread Safety: Stateless apart from the lazily detected database product
+ */
+@Repository
+@RequiredArgsConstructor
+public class TablePartitionRepository {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final Pattern UPPER_BOUND = Pattern.compile("TO \\('([^']+)'\\)");
+    private static final DateTimeFormatter BOUND_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean postgres;
+
+    /**
+     * Whether the table is range-partitioned
+     */
+    public boolean isPartitioned(String table) {
+        if (!isPostgres()) {
+            return false;
+        }
+        Integer count = jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM pg_partitioned_table WHERE partrelid = to_regclass(?)", Integer.class, table);
+        return count != null && count > 0;
+    }
+
+    /**
+     * Partitions attached to a table with their exclusive upper bound
+     * The DEFAULT partition (and any partition open-ended above) is reported with a null upper bound
+     */
+    public List<Partition> findPartitions(String table) {
+        return jdbcTemplate.query(
+            "SELECT c.relname, pg_get_expr(c.relpartbound, c.oid) FROM pg_inherits i " +
+            "JOIN pg_class c ON c.oid = i.inhrelid WHERE i.inhparent = to_regclass(?) ORDER BY c.relname",
+            (rs, rowNum) -> new Partition(rs.getString(1), parseUpperBound(rs.getString(2))),
+            table);
+    }
+
+    /**
+     * Create a partition covering [from, to) unless it already exists
+     */
+    public void createPartition(String table, String partition, LocalDateTime from, LocalDateTime to) {
+        jdbcTemplate.execute(String.format(
+            "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+            identifier(partition), identifier(table), BOUND_FORMAT.format(from), BOUND_FORMAT.format(to)));
+    }
+
+    /**
+     * Detach a partition and drop it with all its rows
+     * Detaching first keeps the parent's lock short; the drop then only touches the detached table
+     */
+    public void dropPartition(String table, String partition) {
+        jdbcTemplate.execute(String.format("ALTER TABLE %s DETACH PARTITION %s", identifier(table), identifier(partition)));
+        jdbcTemplate.execute(String.format("DROP TABLE %s", identifier(partition)));
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName()));
+        }
+        return postgres;
+    }
+
+    private static LocalDateTime parseUpperBound(String boundExpression) {
+        if (boundExpression == null) {
+            return null;
+        }
+        Matcher matcher = UPPER_BOUND.matcher(boundExpression);
+        // MINVALUE/MAXVALUE bounds do not match and are treated like the DEFAULT partition
+        return matcher.find() ? LocalDateTime.parse(matcher.group(1).replace(' ', 'T')) : null;
+    }
+
+    // DDL cannot bind identifiers, so only plain lower-case names are accepted
+    private static String identifier(String name) {
+        if (!IDENTIFIER.matcher(name).matches()) {
+            throw new IllegalArgumentException("Invalid table name: " + name);
+        }
+        return name;
+    }
+
+    /**
+     * One partition of a range-partitioned table
+     *
+     * @param name Partition table name
+     * @param upperBound Exclusive upper bound of the partition's range, null for the DEFAULT partition
+     */
+    public record Partition(String name, LocalDateTime upperBound) {
+    }
+}
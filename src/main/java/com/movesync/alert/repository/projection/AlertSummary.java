@@ -0,0 +1,30 @@
+package com.movesync.alert.repository.projection;
+
+import com.movesync.alert.domain.enums.AlertSeverity;
+import com.movesync.alert.domain.enums.AlertStatus;
+import com.movesync.alert.domain.enums.AlertType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only view of an alert for list endpoints and dashboard tiles
+ * Selected with a JPQL constructor expression (AlertRepository.SUMMARY_SELECT): every column
+ * except the metadata, which is only loaded by single-alert reads. No entity is hydrated,
+ * so rows are never added to the persistence context or dirty-checked.
+ */
+public record AlertSummary(String alertId,
+                           AlertType alertType,
+                           AlertSeverity severity,
+                           AlertStatus status,
+                           LocalDateTime timestamp,
+                           String driverId,
+                           String vehicleId,
+                           String routeId,
+                           LocalDateTime escalatedAt,
+                           String escalationReason,
+                           LocalDateTime closedAt,
+                           String closureReason,
+                           String closedBy,
+                           LocalDateTime createdAt,
+                           LocalDateTime updatedAt) {
+}
@@ -0,0 +1,9 @@
+package com.movesync.alert.repository.projection;
+
+import com.movesync.alert.domain.enums.AlertSeverity;
+
+/**
+ * Alert count of one driver at one severity, from a grouped constructor-expression query
+ */
+public record DriverSeverityCount(String driverId, AlertSeverity severity, long count) {
+}
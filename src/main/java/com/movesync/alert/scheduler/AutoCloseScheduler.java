@@ -1,32 +1,65 @@
 package com.movesync.alert.scheduler;
 
 import com.movesync.alert.domain.enums.AlertStatus;
+import com.movesync.alert.domain.enums.AlertType;
+import com.movesync.alert.domain.event.AlertsCreatedEvent;
 import com.movesync.alert.domain.model.Alert;
+import com.movesync.alert.engine.CompiledRule;
+import com.movesync.alert.engine.RuleEngine;
+import com.movesync.alert.engine.RuleLoader;
 import com.movesync.alert.monitoring.AlertMetricsService;
 import com.movesync.alert.repository.AlertRepository;
 import com.movesync.alert.service.RuleEvaluationService;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Background scheduler for auto-closing alerts
- * Runs periodically to evaluate and close eligible alerts
- * 
+ * Driven by a hierarchical timing wheel instead of a periodic scan of every active alert
+ *
  * Design Principles:
- * - Idempotent: Safe to run multiple times
- * - Fault-tolerant: Continues on individual failures
- * - Batched: Processes alerts in configurable batches
- * 
- * Concurrency Control: Uses AtomicBoolean to prevent overlapping executions
- * Time Complexity: O(n) where n = number of eligible alerts
- * Space Complexity: O(b) where b = batch size
+ * - Deadline-driven: Each active alert is registered under its (driverId, alertType) key at
+ *   lastOccurrence + autoCloseWindowMinutes; a repeat for the key reschedules the deadline
+ * - Only due keys are touched: A tick advances the wheel and evaluates the alerts it returns
+ * - Released only when closed: Alerts that were closed or left the active statuses leave their
+ *   key; the rest are rescheduled at lastOccurrence + current window, or after
+ *   alert.auto-close.retry-backoff-ms when evaluation failed or refused a passed deadline
+ *   (e.g. a repeat recorded by another instance)
+ * - Rebuilt on startup and on rule changes: The wheel is repopulated from the database once the
+ *   app is ready, and again when a rule reload changes the rule-set version
+ * - Safety net: A low-frequency sweep registers active alerts past the shortest window that the
+ *   wheel does not track (e.g. created on another instance)
+ * - Idempotent: Alerts closed in the meantime are skipped at evaluation time
+ *
+ * Concurrency Control: Uses AtomicBoolean to prevent overlapping ticks; wheel and key state
+ * are guarded by a single monitor
+ * Time Complexity: O(1) per registration, O(d) per tick where d = number of due alerts
+ * Space Complexity: O(n) where n = number of active alerts with a time-based rule
  */
 @Slf4j
 @Component
@@ -38,23 +71,93 @@ import java.util.concurrent.atomic.AtomicBoolean;
 )
 public class AutoCloseScheduler {
 
+    private static final List<AlertStatus> ACTIVE_STATUSES = List.of(AlertStatus.OPEN, AlertStatus.ESCALATED);
+
     private final AlertRepository alertRepository;
     private final RuleEvaluationService ruleEvaluationService;
+    private final RuleEngine ruleEngine;
+    private final RuleLoader ruleLoader;
     private final AlertMetricsService metricsService;
-    
+
     @Value("${alert.auto-close.batch-size:100}")
     private int batchSize;
-    
+
+    @Value("${alert.auto-close.tick-ms:1000}")
+    private long tickMillis;
+
+    @Value("${alert.auto-close.retry-backoff-ms:60000}")
+    private long retryBackoffMillis;
+
     private final AtomicBoolean isRunning = new AtomicBoolean(false);
 
+    private final Object lock = new Object();
+    private final Map<AutoCloseKey, KeyState> keys = new HashMap<>();
+    private HierarchicalTimingWheel<AutoCloseKey> wheel;
+    private volatile long wheelRuleSetVersion = -1; // Rule set the wheel was built with, -1 before the first build
+
+    @PostConstruct
+    public void init() {
+        wheel = new HierarchicalTimingWheel<>(tickMillis, System.currentTimeMillis());
+    }
+
     /**
-     * Scheduled job to evaluate and auto-close alerts
-     * Runs based on cron expression from configuration
-     * Default: Every 5 minutes
-     * 
+     * Rebuild the wheel from active alerts on startup
+     * Repeats newer than an active alert (in any status) push its deadline out
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuildWheel() {
+        long startTime = System.currentTimeMillis();
+        // Read first, so a reload during the rebuild triggers another one
+        long ruleSetVersion = ruleLoader.getRuleSet().version();
+
+        for (Object[] row : alertRepository.findOccurrencesByStatusIn(ACTIVE_STATUSES)) {
+            register((String) row[0], (AlertType) row[1], (String) row[2], (LocalDateTime) row[3]);
+        }
+
+        int maxWindowMinutes = ruleEngine.getAllRules().stream()
+            .mapToInt(CompiledRule::autoCloseWindowMinutes)
+            .max()
+            .orElse(0);
+        LocalDateTime fromTime = LocalDateTime.now().minusMinutes(maxWindowMinutes);
+        for (Object[] row : alertRepository.findLatestOccurrencesSince(fromTime)) {
+            extend((AlertType) row[0], (String) row[1], (LocalDateTime) row[2]);
+        }
+
+        wheelRuleSetVersion = ruleSetVersion;
+        log.info("Auto-close timing wheel rebuilt: {} keys scheduled in {}ms",
+                wheel.size(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * Drop all keys and rebuild the wheel under the current rules
+     * Windows may have changed, and types may have gained or lost a time-based rule
+     */
+    private void rescheduleForNewRules() {
+        synchronized (lock) {
+            keys.keySet().forEach(wheel::cancel);
+            keys.clear();
+        }
+        rebuildWheel();
+    }
+
+    /**
+     * Register newly persisted alerts once their transaction has committed
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAlertsCreated(AlertsCreatedEvent event) {
+        for (Alert alert : event.alerts()) {
+            register(alert.getAlertId(), alert.getAlertType(), alert.getDriverId(), alert.getTimestamp());
+        }
+    }
+
+    /**
+     * Advance the wheel and auto-close alerts whose no-repeat window has expired
+     * Runs every tick (default: 1 second)
+     *
      * Idempotent: Safe to re-run without side effects
      */
-    @Scheduled(cron = "${alert.auto-close.cron:0 */5 * * * *}")
+    @Scheduled(fixedDelayString = "${alert.auto-close.tick-ms:1000}")
     public void evaluateAndAutoCloseAlerts() {
         // Prevent overlapping executions
         if (!isRunning.compareAndSet(false, true)) {
@@ -63,43 +166,70 @@ public class AutoCloseScheduler {
         }
 
         try {
-            log.info("Starting auto-close evaluation job");
-            long startTime = System.currentTimeMillis();
-
-            // Find active alerts (OPEN or ESCALATED)
-            List<AlertStatus> activeStatuses = List.of(AlertStatus.OPEN, AlertStatus.ESCALATED);
-            List<Alert> activeAlerts = alertRepository.findByStatusIn(activeStatuses);
+            long ruleSetVersion = ruleLoader.getRuleSet().version();
+            if (wheelRuleSetVersion >= 0 && ruleSetVersion != wheelRuleSetVersion) {
+                log.info("Rules changed (version {} -> {}), rescheduling auto-close keys",
+                        wheelRuleSetVersion, ruleSetVersion);
+                rescheduleForNewRules();
+            }
 
-            log.info("Found {} active alerts to evaluate", activeAlerts.size());
+            Map<AutoCloseKey, KeyState> dueKeys = new HashMap<>();
+            Map<String, LocalDateTime> dueAlerts = new LinkedHashMap<>();
+            synchronized (lock) {
+                for (AutoCloseKey key : wheel.advance(System.currentTimeMillis())) {
+                    KeyState state = keys.get(key);
+                    if (state != null) {
+                        dueKeys.put(key, state.copy());
+                        dueAlerts.putAll(state.alertIds);
+                    }
+                }
+            }
+            List<String> dueAlertIds = new ArrayList<>(dueAlerts.keySet());
 
-            if (activeAlerts.isEmpty()) {
-                log.debug("No active alerts to process");
+            if (dueAlertIds.isEmpty()) {
                 return;
             }
 
+            long startTime = System.nanoTime();
+            log.info("Found {} due alerts across {} keys to evaluate", dueAlertIds.size(), dueKeys.size());
+
             // Process in batches to control memory usage
             int totalProcessed = 0;
-            int totalClosed = 0;
+            Set<String> activeIds = new HashSet<>();
+            Set<String> closedIds = new HashSet<>();
+            Set<String> failedIds = new HashSet<>();
 
-            for (int i = 0; i < activeAlerts.size(); i += batchSize) {
-                int endIndex = Math.min(i + batchSize, activeAlerts.size());
-                List<Alert> batch = activeAlerts.subList(i, endIndex);
+            for (int i = 0; i < dueAlertIds.size(); i += batchSize) {
+                int endIndex = Math.min(i + batchSize, dueAlertIds.size());
+                List<String> batchIds = dueAlertIds.subList(i, endIndex);
 
-                log.debug("Processing batch {}-{} of {}", i + 1, endIndex, activeAlerts.size());
+                log.debug("Processing batch {}-{} of {}", i + 1, endIndex, dueAlertIds.size());
 
                 try {
-                    int closedInBatch = ruleEvaluationService.batchEvaluateAutoClose(batch);
-                    totalClosed += closedInBatch;
+                    // Bounded by the batch's timestamps so PostgreSQL prunes partitions
+                    LocalDateTime fromTimestamp = batchIds.stream().map(dueAlerts::get)
+                        .min(Comparator.naturalOrder()).orElseThrow();
+                    LocalDateTime toTimestamp = batchIds.stream().map(dueAlerts::get)
+                        .max(Comparator.naturalOrder()).orElseThrow();
+                    List<Alert> batch = alertRepository.findAllByIdWithin(batchIds, fromTimestamp, toTimestamp).stream()
+                        .filter(alert -> alert.getStatus().isActive())
+                        .toList();
+                    batch.forEach(alert -> activeIds.add(alert.getAlertId()));
+                    closedIds.addAll(ruleEvaluationService.batchEvaluateAutoClose(batch));
                     totalProcessed += batch.size();
                 } catch (Exception e) {
                     log.error("Error processing batch {}-{}", i + 1, endIndex, e);
-                    // Continue with next batch
+                    failedIds.addAll(batchIds);
+                    // Continue with next batch; these alerts are retried after the backoff
                 }
             }
 
-            long duration = System.currentTimeMillis() - startTime;
+            settle(dueKeys, activeIds, closedIds, failedIds);
+            int totalClosed = closedIds.size();
+
+            Duration duration = Duration.ofNanos(System.nanoTime() - startTime);
             log.info("Auto-close job completed: processed={}, closed={}, duration={}ms",
-                    totalProcessed, totalClosed, duration);
+                    totalProcessed, totalClosed, duration.toMillis());
 
             // Record metrics
             recordMetrics(totalProcessed, totalClosed, duration);
@@ -111,18 +241,133 @@ public class AutoCloseScheduler {
         }
     }
 
+    /**
+     * Register an alert under its key and (re)schedule the key at lastOccurrence + window
+     * Alerts whose rule never closes by time are not tracked
+     */
+    private void register(String alertId, AlertType alertType, String driverId, LocalDateTime timestamp) {
+        Optional<Integer> windowMinutes = ruleEngine.getAutoCloseWindowMinutes(alertType);
+        if (windowMinutes.isEmpty() || timestamp == null) {
+            return;
+        }
+
+        // Alerts without a driver have no repeats, so each one is its own key
+        AutoCloseKey key = driverId != null
+            ? new AutoCloseKey(alertType, driverId, null)
+            : new AutoCloseKey(alertType, null, alertId);
+
+        synchronized (lock) {
+            KeyState state = keys.computeIfAbsent(key, k -> new KeyState());
+            state.alertIds.put(alertId, timestamp);
+            if (state.lastOccurrence == null || timestamp.isAfter(state.lastOccurrence)) {
+                state.lastOccurrence = timestamp;
+            }
+            wheel.schedule(key, toEpochMillis(state.lastOccurrence.plusMinutes(windowMinutes.get())));
+        }
+    }
+
+    /**
+     * Push the deadline of a tracked key out to a later occurrence
+     */
+    private void extend(AlertType alertType, String driverId, LocalDateTime lastOccurrence) {
+        AutoCloseKey key = new AutoCloseKey(alertType, driverId, null);
+        synchronized (lock) {
+            KeyState state = keys.get(key);
+            if (state == null || !lastOccurrence.isAfter(state.lastOccurrence)) {
+                return;
+            }
+            state.lastOccurrence = lastOccurrence;
+            ruleEngine.getAutoCloseWindowMinutes(alertType).ifPresent(windowMinutes ->
+                wheel.schedule(key, toEpochMillis(lastOccurrence.plusMinutes(windowMinutes))));
+        }
+    }
+
+    /**
+     * Settle keys that fired: alerts closed here or no longer active leave their key, a key
+     * without alerts is forgotten, and any other key is rescheduled
+     *
+     * Reschedule: lastOccurrence + current window; now + retry backoff when evaluation failed or
+     * the deadline has passed without a close. Keys a repeat rescheduled meanwhile keep that
+     * deadline; keys whose type no longer closes by time are dropped
+     */
+    private void settle(Map<AutoCloseKey, KeyState> dueKeys, Set<String> activeIds,
+                        Set<String> closedIds, Set<String> failedIds) {
+        long now = System.currentTimeMillis();
+        synchronized (lock) {
+            dueKeys.forEach((key, dueState) -> {
+                KeyState state = keys.get(key);
+                if (state == null) {
+                    return;
+                }
+                state.alertIds.keySet().removeIf(alertId -> dueState.alertIds.containsKey(alertId)
+                    && !failedIds.contains(alertId)
+                    && (closedIds.contains(alertId) || !activeIds.contains(alertId)));
+                if (state.alertIds.isEmpty()) {
+                    keys.remove(key);
+                    wheel.cancel(key);
+                    return;
+                }
+                if (!state.lastOccurrence.equals(dueState.lastOccurrence)) {
+                    return;
+                }
+
+                Optional<Integer> windowMinutes = ruleEngine.getAutoCloseWindowMinutes(key.alertType());
+                if (windowMinutes.isEmpty()) {
+                    keys.remove(key);
+                    return;
+                }
+                long deadline = toEpochMillis(state.lastOccurrence.plusMinutes(windowMinutes.get()));
+                boolean failed = dueState.alertIds.keySet().stream().anyMatch(failedIds::contains);
+                if (failed || deadline <= now) {
+                    deadline = Math.max(deadline, now + retryBackoffMillis);
+                }
+                wheel.schedule(key, deadline);
+            });
+        }
+    }
+
+    /**
+     * Safety net: register active alerts past the shortest auto-close window
+     * Catches alerts the wheel never saw (created on another instance, or a registration lost to
+     * an error); they fire on the next tick. Tracked keys are only rescheduled
+     */
+    @Scheduled(initialDelayString = "${alert.auto-close.sweep-interval-ms:300000}",
+               fixedDelayString = "${alert.auto-close.sweep-interval-ms:300000}")
+    public void sweepEligibleAlerts() {
+        OptionalInt shortestWindow = ruleEngine.getAllRules().stream()
+            .filter(CompiledRule::closesByTime)
+            .mapToInt(CompiledRule::autoCloseWindowMinutes)
+            .min();
+        if (shortestWindow.isEmpty()) {
+            return;
+        }
+
+        try {
+            LocalDateTime threshold = LocalDateTime.now().minusMinutes(shortestWindow.getAsInt());
+            List<Alert> eligible = alertRepository.findAlertsEligibleForAutoClosure(threshold);
+            for (Alert alert : eligible) {
+                register(alert.getAlertId(), alert.getAlertType(), alert.getDriverId(), alert.getTimestamp());
+            }
+            log.debug("Auto-close sweep registered {} eligible alerts", eligible.size());
+        } catch (Exception e) {
+            log.error("Error in auto-close sweep", e);
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime timestamp) {
+        // Compared against System.currentTimeMillis(), so use the zone LocalDateTime.now() runs in
+        return timestamp.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
     /**
      * Record metrics for monitoring
      * Integrated with Micrometer/Prometheus
      */
-    private void recordMetrics(int processed, int closed, long durationMs) {
-        // Record custom metrics
-        metricsService.recordCustomMetric("auto_close_job.processed", processed);
-        metricsService.recordCustomMetric("auto_close_job.closed", closed);
-        metricsService.recordCustomMetric("auto_close_job.duration_ms", durationMs);
-        
+    private void recordMetrics(int processed, int closed, Duration duration) {
+        metricsService.recordAutoCloseJob(processed, closed, duration);
+
         log.debug("Metrics recorded: alerts_processed={}, alerts_closed={}, job_duration_ms={}",
-                 processed, closed, durationMs);
+                 processed, closed, duration.toMillis());
     }
 
     /**
@@ -140,5 +385,33 @@ public class AutoCloseScheduler {
     public boolean isRunning() {
         return isRunning.get();
     }
-}
 
+    /**
+     * Number of keys currently scheduled on the wheel
+     */
+    public int getScheduledKeyCount() {
+        return wheel.size();
+    }
+
+    /**
+     * Wheel key: (alertType, driverId) for driver alerts, (alertType, alertId) otherwise
+     */
+    private record AutoCloseKey(AlertType alertType, String driverId, String alertId) {
+    }
+
+    /**
+     * Active alerts of a key (id to timestamp, the partition key) and the newest occurrence that
+     * drives its deadline
+     */
+    private static final class KeyState {
+        private final Map<String, LocalDateTime> alertIds = new LinkedHashMap<>();
+        private LocalDateTime lastOccurrence;
+
+        private KeyState copy() {
+            KeyState copy = new KeyState();
+            copy.alertIds.putAll(alertIds);
+            copy.lastOccurrence = lastOccurrence;
+            return copy;
+        }
+    }
+}
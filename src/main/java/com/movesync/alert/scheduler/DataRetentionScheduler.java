@@ -1,20 +1,44 @@
 package com.movesync.alert.scheduler;
 
+import com.movesync.alert.archive.AlertArchiveService;
 import com.movesync.alert.repository.AlertHistoryRepository;
 import com.movesync.alert.repository.AlertRepository;
+import com.movesync.alert.repository.TablePartitionRepository;
+import com.movesync.alert.repository.TablePartitionRepository.Partition;
+import com.movesync.alert.service.AlertCacheInvalidator;
+import com.movesync.alert.service.DashboardAggregateStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.function.Function;
 
 /**
  * Scheduler for data retention and cleanup
  * Removes old alerts and history to manage storage
- * 
+ *
+ * Partitioned tables (PostgreSQL, see db/migration/postgresql): expired day/week
+ * partitions are detached and dropped whole, and upcoming partitions are created ahead of time.
+ * Rows outside dated partitions (DEFAULT partition, or unpartitioned tables such as on H2)
+ * are deleted in bounded chunks, each in its own short transaction, with a pause in between
+ * so the job never holds long locks or produces one huge write burst.
+ *
+ * When alert.archive.enabled, closed alerts are first moved to the cold-tier archive
+ * (AlertArchiveService); if archiving fails nothing is deleted in that run.
+ *
  * Space Optimization: Deletes data older than retention period
  * Runs: Daily at 2:00 AM
  */
@@ -23,34 +47,78 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 public class DataRetentionScheduler {
 
+    private static final String ALERTS_TABLE = "alerts";
+    private static final String HISTORY_TABLE = "alert_history";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd");
+
     private final AlertRepository alertRepository;
     private final AlertHistoryRepository alertHistoryRepository;
+    private final TablePartitionRepository partitionRepository;
+    private final AlertArchiveService archiveService;
+    private final DashboardAggregateStore dashboardAggregateStore;
+    private final AlertCacheInvalidator cacheInvalidator;
 
     @Value("${alert.retention.days:90}")
     private int retentionDays;
 
+    @Value("${alert.retention.partition-interval:DAY}")
+    private PartitionInterval partitionInterval;
+
+    @Value("${alert.retention.partitions-ahead:7}")
+    private int partitionsAhead;
+
+    @Value("${alert.retention.delete-chunk-size:1000}")
+    private int deleteChunkSize;
+
+    @Value("${alert.retention.delete-pause-ms:100}")
+    private long deletePauseMs;
+
+    /**
+     * Create upcoming partitions on startup, so inserts never fall into the DEFAULT partition
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void createUpcomingPartitions() {
+        for (String table : List.of(ALERTS_TABLE, HISTORY_TABLE)) {
+            try {
+                if (partitionRepository.isPartitioned(table)) {
+                    ensurePartitions(table);
+                }
+            } catch (Exception e) {
+                log.error("Error creating partitions for {}", table, e);
+            }
+        }
+    }
+
     /**
      * Clean up old alerts and history
-     * Runs daily at 2:00 AM
+     * Runs daily at 2:00 AM (alert.retention.cron)
      */
-    @Scheduled(cron = "0 0 2 * * *")
-    @Transactional
+    @Scheduled(cron = "${alert.retention.cron:0 0 2 * * *}")
     public void cleanupOldData() {
         log.info("Starting data retention cleanup job");
-        
+
         try {
+            // Archive before deleting, so closed alerts never expire without reaching the archive
+            long archived = archiveService.archiveClosedAlerts();
+
             LocalDateTime threshold = LocalDateTime.now().minusDays(retentionDays);
-            
+
             log.info("Deleting alerts and history older than {} (retention: {} days)",
                     threshold, retentionDays);
 
-            // Delete old alerts
-            alertRepository.deleteOldAlerts(threshold);
-            log.info("Old alerts deleted successfully");
+            boolean alertsRemoved = cleanupTable(ALERTS_TABLE, threshold,
+                pageable -> alertRepository.findIdsOlderThan(threshold, pageable),
+                alertRepository::deleteByAlertIdIn);
+            boolean historyRemoved = cleanupTable(HISTORY_TABLE, threshold,
+                pageable -> alertHistoryRepository.findIdsOlderThan(threshold, pageable),
+                alertHistoryRepository::deleteByHistoryIdIn);
 
-            // Delete old history
-            alertHistoryRepository.deleteOldHistory(threshold);
-            log.info("Old alert history deleted successfully");
+            // Deletes bypass the services and publish no transitions, so re-derive the dashboard
+            // aggregates and drop cached views now instead of waiting for reconciliation and TTLs
+            if (archived > 0 || alertsRemoved || historyRemoved) {
+                dashboardAggregateStore.reconcile();
+                cacheInvalidator.evictAll();
+            }
 
             log.info("Data retention cleanup completed");
 
@@ -58,5 +126,103 @@ public class DataRetentionScheduler {
             log.error("Error during data retention cleanup", e);
         }
     }
-}
 
+    /**
+     * Apply retention to one table
+     *
+     * @return Whether any rows were removed
+     */
+    private boolean cleanupTable(String table, LocalDateTime threshold,
+                                 Function<Pageable, List<String>> findExpiredIds,
+                                 Function<List<String>, Integer> deleteChunk) {
+        int droppedPartitions = 0;
+        if (partitionRepository.isPartitioned(table)) {
+            ensurePartitions(table);
+            droppedPartitions = dropExpiredPartitions(table, threshold);
+        }
+
+        // Whatever is left (DEFAULT partition or an unpartitioned table) goes row by row
+        long deletedRows = deleteInChunks(table, findExpiredIds, deleteChunk);
+        return droppedPartitions > 0 || deletedRows > 0;
+    }
+
+    /**
+     * Drop partitions whose whole range is older than the threshold
+     */
+    private int dropExpiredPartitions(String table, LocalDateTime threshold) {
+        int dropped = 0;
+        for (Partition partition : partitionRepository.findPartitions(table)) {
+            if (partition.upperBound() != null && !partition.upperBound().isAfter(threshold)) {
+                partitionRepository.dropPartition(table, partition.name());
+                log.info("Dropped partition {} of {} (rows before {})", partition.name(), table, partition.upperBound());
+                dropped++;
+            }
+        }
+        return dropped;
+    }
+
+    /**
+     * Create partitions from the current interval up to partitions-ahead intervals in the future
+     * A range already holding rows in the DEFAULT partition cannot be created and is skipped
+     */
+    private void ensurePartitions(String table) {
+        LocalDate start = partitionInterval.startOf(LocalDate.now());
+        for (int i = 0; i <= partitionsAhead; i++) {
+            LocalDate from = partitionInterval.next(start, i);
+            LocalDate to = partitionInterval.next(start, i + 1);
+            String partition = table + "_p" + PARTITION_SUFFIX.format(from);
+            try {
+                partitionRepository.createPartition(table, partition, from.atStartOfDay(), to.atStartOfDay());
+            } catch (Exception e) {
+                log.warn("Could not create partition {} of {}: {}", partition, table, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Delete expired rows one chunk at a time, pausing between chunks
+     *
+     * @return Number of rows deleted
+     */
+    private long deleteInChunks(String table, Function<Pageable, List<String>> findExpiredIds,
+                                Function<List<String>, Integer> deleteChunk) {
+        long deleted = 0;
+        Pageable chunk = PageRequest.of(0, deleteChunkSize);
+        while (true) {
+            List<String> ids = findExpiredIds.apply(chunk);
+            if (ids.isEmpty()) {
+                break;
+            }
+            deleted += deleteChunk.apply(ids);
+            if (ids.size() < deleteChunkSize) {
+                break;
+            }
+            try {
+                Thread.sleep(deletePauseMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Retention delete of {} interrupted after {} rows", table, deleted);
+                break;
+            }
+        }
+        if (deleted > 0) {
+            log.info("Deleted {} expired rows from {} in chunks of {}", deleted, table, deleteChunkSize);
+        }
+        return deleted;
+    }
+
+    /**
+     * Range covered by one partition
+     */
+    public enum PartitionInterval {
+        DAY, WEEK;
+
+        LocalDate startOf(LocalDate date) {
+            return this == DAY ? date : date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        }
+
+        LocalDate next(LocalDate start, int intervals) {
+            return start.plus(intervals, this == DAY ? ChronoUnit.DAYS : ChronoUnit.WEEKS);
+        }
+    }
+}
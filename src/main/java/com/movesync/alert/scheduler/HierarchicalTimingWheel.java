@@ -0,0 +1,191 @@
+package com.movesync.alert.scheduler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hierarchical timing wheel for deadline-driven work (e.g. auto-closure)
+ *
+ * Four levels of 64 slots each; a level-n slot spans 64^n ticks. Entries are placed on the
+ * lowest level whose range covers their deadline and cascade down as time advances, so
+ * advancing one tick only touches the entries that are (about to be) due.
+ *
+ * Range: 64^4 ticks (~194 days at a 1 second tick); later deadlines are parked on the top
+ * level and re-placed on every top-level cascade until they come into range.
+ *
+ * Thread Safety: All operations are synchronized
+ * Time Complexity: O(1) schedule/cancel, O(1) amortised per tick plus O(d) for d due entries
+ * Space Complexity: O(n) where n = number of scheduled keys
+ *
+ * @param <K> Key type (a key has at most one deadline; rescheduling replaces it)
+ */
+public class HierarchicalTimingWheel<K> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_RANGE = 1L << (SLOT_BITS * LEVELS);
+
+    private final long tickMillis;
+    private final List<List<Set<Entry<K>>>> levels = new ArrayList<>(LEVELS);
+    private final Map<K, Entry<K>> entries = new HashMap<>();
+    private final List<Entry<K>> overdue = new ArrayList<>();
+    private long currentTick;
+
+    /**
+     * @param tickMillis Resolution of the wheel in milliseconds
+     * @param startMillis Current time in epoch milliseconds
+     */
+    public HierarchicalTimingWheel(long tickMillis, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick must be positive: " + tickMillis);
+        }
+        this.tickMillis = tickMillis;
+        this.currentTick = startMillis / tickMillis;
+        for (int level = 0; level < LEVELS; level++) {
+            List<Set<Entry<K>>> slots = new ArrayList<>(WHEEL_SIZE);
+            for (int slot = 0; slot < WHEEL_SIZE; slot++) {
+                slots.add(new LinkedHashSet<>());
+            }
+            levels.add(slots);
+        }
+    }
+
+    /**
+     * Schedule a key at a deadline, replacing any previous deadline for the same key
+     */
+    public synchronized void schedule(K key, long deadlineMillis) {
+        cancel(key);
+        // Round up so a key never fires before its deadline
+        Entry<K> entry = new Entry<>(key, Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis));
+        entries.put(key, entry);
+        place(entry);
+    }
+
+    /**
+     * Remove a key from the wheel
+     *
+     * @return true if the key was scheduled
+     */
+    public synchronized boolean cancel(K key) {
+        Entry<K> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        if (entry.slot == null) {
+            overdue.remove(entry);
+        } else {
+            entry.slot.remove(entry);
+        }
+        return true;
+    }
+
+    /**
+     * Advance the wheel to the given time and collect keys whose deadline has passed
+     *
+     * @param nowMillis Current time in epoch milliseconds
+     * @return Due keys, removed from the wheel
+     */
+    public synchronized List<K> advance(long nowMillis) {
+        List<K> due = new ArrayList<>();
+        for (Entry<K> entry : overdue) {
+            entries.remove(entry.key);
+            due.add(entry.key);
+        }
+        overdue.clear();
+
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+
+            Set<Entry<K>> slot = levels.get(0).get((int) (currentTick & SLOT_MASK));
+            for (Entry<K> entry : slot) {
+                entries.remove(entry.key);
+                due.add(entry.key);
+            }
+            slot.clear();
+        }
+        return due;
+    }
+
+    /**
+     * Get the scheduled deadline of a key in epoch milliseconds (rounded up to the tick)
+     *
+     * @return Deadline, or -1 if the key is not scheduled
+     */
+    public synchronized long getDeadline(K key) {
+        Entry<K> entry = entries.get(key);
+        return entry != null ? entry.deadlineTick * tickMillis : -1;
+    }
+
+    /**
+     * Number of scheduled keys
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Re-place entries of higher-level slots whose span starts at the current tick
+     * Lower levels cascade first, so re-placed entries never land in a slot being emptied
+     */
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            int shift = SLOT_BITS * level;
+            if ((currentTick & ((1L << shift) - 1)) != 0) {
+                return;
+            }
+            Set<Entry<K>> slot = levels.get(level).get((int) ((currentTick >>> shift) & SLOT_MASK));
+            List<Entry<K>> toPlace = new ArrayList<>(slot);
+            slot.clear();
+            toPlace.forEach(this::place);
+        }
+    }
+
+    private void place(Entry<K> entry) {
+        long delta = entry.deadlineTick - currentTick;
+        if (delta <= 0) {
+            entry.slot = null;
+            overdue.add(entry);
+            return;
+        }
+
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = SLOT_BITS * level;
+            if (delta < (1L << (shift + SLOT_BITS))) {
+                put(entry, level, entry.deadlineTick >>> shift);
+                return;
+            }
+        }
+
+        // Beyond range: park in the last top-level slot reachable, it is re-placed on cascade
+        put(entry, LEVELS - 1, (currentTick + MAX_RANGE - 1) >>> (SLOT_BITS * (LEVELS - 1)));
+    }
+
+    private void put(Entry<K> entry, int level, long slotIndex) {
+        Set<Entry<K>> slot = levels.get(level).get((int) (slotIndex & SLOT_MASK));
+        slot.add(entry);
+        entry.slot = slot;
+    }
+
+    /**
+     * Scheduled key with its deadline and current slot
+     * Identity-based equality so an entry is only ever removed from its own slot
+     */
+    private static final class Entry<K> {
+        private final K key;
+        private final long deadlineTick;
+        private Set<Entry<K>> slot;
+
+        private Entry(K key, long deadlineTick) {
+            this.key = key;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.movesync.alert.scheduler;
+
+import com.movesync.alert.domain.metadata.MetadataCodec;
+import com.movesync.alert.domain.metadata.MetadataFormat;
+import com.movesync.alert.repository.AlertMetadataJdbcRepository;
+import com.movesync.alert.repository.AlertMetadataJdbcRepository.EncodedMetadata;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Rewrites stored alert metadata into the configured format (alert.metadata.format)
+ *
+ * Runs once in the background after startup: rows migrated by V4 (JSON) and rows written before
+ * a format change are re-encoded in chunks of alert.metadata.reencode.chunk-size, each one JDBC
+ * batch, with a pause in between. An update only applies while the row still holds the bytes
+ * read, so concurrent writes win. The content is unchanged, so no version bump, cache eviction
+ * or event is needed. Rows that fail to decode are logged and left as they are.
+ *
+ * Time Complexity: O(n) rows scanned in the database, O(m) transferred, m = rows to convert
+ * Thread Safety: Runs are serialized
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MetadataReencodeJob {
+
+    private static final UUID FIRST_ALERT_ID = new UUID(0, 0);
+
+    private final AlertMetadataJdbcRepository metadataRepository;
+
+    @Value("${alert.metadata.format:SMILE_DICTIONARY}")
+    private MetadataFormat format;
+
+    @Value("${alert.metadata.reencode.enabled:true}")
+    private boolean enabled;
+
+    @Value("${alert.metadata.reencode.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${alert.metadata.reencode.pause-ms:50}")
+    private long pauseMs;
+
+    /**
+     * Start a background run after startup, when enabled
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startOnReady() {
+        if (!enabled) {
+            return;
+        }
+        Thread thread = new Thread(this::reencodeAll, "metadata-reencode");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Re-encode every row not in the configured format
+     *
+     * @return Number of rows rewritten
+     */
+    public synchronized long reencodeAll() {
+        long startTime = System.currentTimeMillis();
+        UUID after = FIRST_ALERT_ID;
+        long rewritten = 0;
+        long failed = 0;
+
+        try {
+            while (true) {
+                List<EncodedMetadata> rows = metadataRepository.findNotInFormat(format, after, chunkSize);
+                if (rows.isEmpty()) {
+                    break;
+                }
+                List<EncodedMetadata> convertible = new ArrayList<>(rows.size());
+                List<byte[]> reencoded = new ArrayList<>(rows.size());
+                for (EncodedMetadata row : rows) {
+                    try {
+                        reencoded.add(MetadataCodec.encode(MetadataCodec.decode(row.metadata()), format));
+                        convertible.add(row);
+                    } catch (RuntimeException e) {
+                        failed++;
+                        log.warn("Leaving metadata of alert {} as stored: {}", row.alertId(), e.getMessage());
+                    }
+                }
+                if (!convertible.isEmpty()) {
+                    rewritten += metadataRepository.updateIfUnchanged(convertible, reencoded);
+                }
+                after = rows.get(rows.size() - 1).alertId();
+                if (rows.size() < chunkSize) {
+                    break;
+                }
+                Thread.sleep(pauseMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Metadata re-encoding interrupted after {} alerts", rewritten);
+        } catch (Exception e) {
+            log.error("Metadata re-encoding failed after {} alerts", rewritten, e);
+        }
+
+        if (rewritten > 0 || failed > 0) {
+            log.info("Re-encoded metadata of {} alerts to {} in {}ms ({} left unreadable)",
+                rewritten, format, System.currentTimeMillis() - startTime, failed);
+        }
+        return rewritten;
+    }
+}
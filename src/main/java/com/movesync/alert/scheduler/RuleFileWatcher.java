@@ -0,0 +1,143 @@
+package com.movesync.alert.scheduler;
+
+import com.movesync.alert.engine.RuleLoader;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Hot reload of rules driven by filesystem change events
+ * Replaces periodic re-parsing: rules are only reloaded when the rules file changes
+ *
+ * - Watches the directory of a filesystem alert.rules.config-path via WatchService
+ * - Debounces bursts of events (editors often truncate, write and rename)
+ * - RuleLoader skips unchanged content by checksum and validates the new rule set
+ *   completely before swapping it in; a rejected file leaves the current rules active
+ *
+ * Rules packaged inside a jar cannot be watched; a warning is logged and reload stays off.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+    value = "alert.rules.auto-reload",
+    havingValue = "true",
+    matchIfMissing = false
+)
+public class RuleFileWatcher {
+
+    private final RuleLoader ruleLoader;
+
+    @Value("${alert.rules.watch-debounce-ms:500}")
+    private long debounceMillis;
+
+    private WatchService watchService;
+    private Thread watcherThread;
+
+    @PostConstruct
+    public void start() {
+        Optional<Path> configFile = ruleLoader.getConfigFile();
+        if (configFile.isEmpty()) {
+            log.warn("Rules configuration is not a filesystem file, hot reload disabled");
+            return;
+        }
+
+        Path file = configFile.get().toAbsolutePath();
+        try {
+            watchService = file.getFileSystem().newWatchService();
+            file.getParent().register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            log.error("Failed to watch rules file {}, hot reload disabled", file, e);
+            return;
+        }
+
+        watcherThread = new Thread(() -> watch(file), "rule-file-watcher");
+        watcherThread.setDaemon(true);
+        watcherThread.start();
+        log.info("Watching {} for rule changes", file);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (watchService == null) {
+            return;
+        }
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            log.debug("Error closing rules watch service", e);
+        }
+        watcherThread.interrupt();
+    }
+
+    private void watch(Path file) {
+        Path fileName = file.getFileName();
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = watchService.take();
+                boolean rulesChanged = affects(key.pollEvents(), fileName);
+                boolean valid = key.reset();
+
+                if (rulesChanged) {
+                    settle();
+                    reload();
+                }
+                if (!valid) {
+                    log.warn("Rules directory {} is no longer accessible, hot reload stopped", file.getParent());
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // Shutting down
+        }
+    }
+
+    private boolean affects(List<WatchEvent<?>> events, Path fileName) {
+        for (WatchEvent<?> event : events) {
+            // OVERFLOW means events were lost, so the file may have changed
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || fileName.equals(event.context())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Wait for a burst of writes to finish, then discard the events it produced
+     */
+    private void settle() throws InterruptedException {
+        Thread.sleep(debounceMillis);
+        WatchKey pending;
+        while ((pending = watchService.poll()) != null) {
+            pending.pollEvents();
+            pending.reset();
+        }
+    }
+
+    private void reload() {
+        try {
+            if (ruleLoader.reloadIfChanged()) {
+                log.info("Rules hot-reloaded, now at version {}", ruleLoader.getRuleSet().version());
+            }
+        } catch (Exception e) {
+            log.error("Rejected rules change, keeping version {}", ruleLoader.getRuleSet().version(), e);
+        }
+    }
+}
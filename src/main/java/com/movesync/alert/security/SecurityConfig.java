@@ -1,5 +1,6 @@
 package com.movesync.alert.security;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -83,6 +84,9 @@ public class SecurityConfig {
             .sessionManagement(session -> 
                 session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                // Async dispatch of an already authorized request (streaming responses)
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                
                 // API endpoints - Auth (public)
                 .requestMatchers("/api/v1/auth/**").permitAll()
                 
@@ -0,0 +1,273 @@
+package com.movesync.alert.service;
+
+import com.movesync.alert.domain.enums.AlertSeverity;
+import com.movesync.alert.domain.enums.AlertStatus;
+import com.movesync.alert.domain.event.AlertTransitionsEvent;
+import com.movesync.alert.domain.event.AlertTransitionsEvent.Transition;
+import com.movesync.alert.dto.AlertResponse;
+import com.movesync.alert.dto.TrendDataResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+/**
+ * Targeted cache maintenance driven by committed alert transitions
+ * Replaces allEntries eviction of the alerts and dashboard caches on every write
+ *
+ * - alerts[alertId]: replaced with the new state if cached
+ * - alerts['active'] and drivers[driverId]: transitioned alerts are removed and re-added
+ *   (without metadata, as list queries load them) while still active; one copy of each
+ *   affected list per event
+ * - dashboard['stats'] and dashboard[trends, days]: counters adjusted by the transition delta
+ * - dashboard[topDrivers, limit, statuses]: evicted only if the statuses include the old or
+ *   new status, since a delta can move drivers in or out of the top N
+ *
+ * Entries are only updated when present (computeIfPresent), so writes never populate the caches.
+ * A read that loaded its entry before the transaction committed can still store stale data;
+ * that is bounded by the cache TTL.
+ *
+ * Thread Safety: Each entry is updated atomically by the Caffeine map; cached values are
+ * copied rather than mutated, so readers never see a partial update
+ * Time Complexity: O(1) per transition for single entries, O(n + t) per cached list of n alerts
+ */
+@Component
+@RequiredArgsConstructor
+public class AlertCacheInvalidator {
+
+    private static final String ALERTS_CACHE = "alerts";
+    private static final String DRIVERS_CACHE = "drivers";
+    private static final String DASHBOARD_CACHE = "dashboard";
+    private static final String ACTIVE_KEY = "active";
+    private static final String STATS_KEY = "stats";
+    private static final String TRENDS_KEY = "trends";
+    private static final String TOP_DRIVERS_KEY = "topDrivers";
+
+    private final CacheManager cacheManager;
+
+    /**
+     * Apply committed transitions to the cached entries they affect
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTransitions(AlertTransitionsEvent event) {
+        // Latest state per alert, in event order
+        Map<String, AlertResponse> latest = new LinkedHashMap<>();
+        for (Transition transition : event.transitions()) {
+            latest.put(transition.alert().getAlertId(), AlertResponse.fromTransition(transition));
+        }
+        updateAlerts(latest);
+        updateDashboard(event.transitions());
+    }
+
+    /**
+     * Evict the cached views of an alert whose data changed without a state transition
+     * (e.g. metadata); runs after the current transaction commits
+     */
+    public void evictAfterCommit(String alertId, String driverId) {
+        Runnable evict = () -> {
+            cache(ALERTS_CACHE).ifPresent(cache -> {
+                cache.evict(alertId);
+                cache.evict(ACTIVE_KEY);
+            });
+            if (driverId != null) {
+                cache(DRIVERS_CACHE).ifPresent(cache -> cache.evict(driverId));
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        } else {
+            evict.run();
+        }
+    }
+
+    /**
+     * Evict every cached alert, driver and dashboard view
+     * For bulk changes that publish no transitions (retention deletes)
+     */
+    public void evictAll() {
+        for (String name : List.of(ALERTS_CACHE, DRIVERS_CACHE, DASHBOARD_CACHE)) {
+            cache(name).ifPresent(Cache::clear);
+        }
+    }
+
+    private void updateAlerts(Map<String, AlertResponse> latest) {
+        // Lists hold the metadata-free form their queries load (AlertSummary)
+        List<AlertResponse> listed = latest.values().stream().map(AlertResponse::withoutMetadata).toList();
+        nativeCache(ALERTS_CACHE).ifPresent(alerts -> {
+            latest.forEach((alertId, response) -> alerts.computeIfPresent(alertId, (k, v) -> response));
+            alerts.computeIfPresent(ACTIVE_KEY, (k, v) -> applyToActiveList(asAlertList(v), listed));
+        });
+
+        nativeCache(DRIVERS_CACHE).ifPresent(drivers -> {
+            Map<String, List<AlertResponse>> byDriver = listed.stream()
+                .filter(response -> response.getDriverId() != null)
+                .collect(Collectors.groupingBy(AlertResponse::getDriverId));
+            byDriver.forEach((driverId, responses) ->
+                drivers.computeIfPresent(driverId, (k, v) -> applyToActiveList(asAlertList(v), responses)));
+        });
+    }
+
+    /**
+     * Copy of a cached active-alert list with the given alerts replaced, or dropped once closed
+     */
+    private static List<AlertResponse> applyToActiveList(List<AlertResponse> cached,
+                                                         Collection<AlertResponse> changed) {
+        Set<String> changedIds = changed.stream().map(AlertResponse::getAlertId).collect(Collectors.toSet());
+        List<AlertResponse> updated = new ArrayList<>(cached.size() + changed.size());
+        for (AlertResponse alert : cached) {
+            if (!changedIds.contains(alert.getAlertId())) {
+                updated.add(alert);
+            }
+        }
+        for (AlertResponse alert : changed) {
+            if (alert.getStatus().isActive()) {
+                updated.add(alert);
+            }
+        }
+        return updated;
+    }
+
+    private void updateDashboard(List<Transition> transitions) {
+        nativeCache(DASHBOARD_CACHE).ifPresent(dashboard -> {
+            dashboard.computeIfPresent(STATS_KEY, (k, v) -> applyToStats(asStats(v), transitions));
+
+            for (Object key : dashboard.keySet()) {
+                if (!(key instanceof List<?> parts) || parts.isEmpty()) {
+                    continue;
+                }
+                if (TRENDS_KEY.equals(parts.get(0))) {
+                    dashboard.computeIfPresent(key, (k, v) -> applyToTrends(asTrends(v), transitions));
+                } else if (TOP_DRIVERS_KEY.equals(parts.get(0)) && parts.size() == 3
+                        && affectsAny(parts.get(2), transitions)) {
+                    dashboard.remove(key);
+                }
+            }
+        });
+    }
+
+    private static boolean affectsAny(Object statuses, List<Transition> transitions) {
+        if (!(statuses instanceof Collection<?> statusSet)) {
+            return true;
+        }
+        for (Transition transition : transitions) {
+            if (statusSet.contains(transition.toStatus())
+                    || (transition.fromStatus() != null && statusSet.contains(transition.fromStatus()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Copy of the cached statistics map adjusted by the transitions
+     * Mirrors the layout built by DashboardService.getAlertStatistics
+     */
+    private static Map<String, Object> applyToStats(Map<String, Object> cached, List<Transition> transitions) {
+        Map<String, Object> stats = new HashMap<>(cached);
+        Map<AlertSeverity, Long> severities = new EnumMap<>(AlertSeverity.class);
+        severities.putAll(asSeverityCounts(cached.get("severityDistribution")));
+        Map<String, Long> activity = new HashMap<>(asEventCounts(cached.get("last24HoursActivity")));
+
+        for (Transition transition : transitions) {
+            if (transition.fromStatus() != null) {
+                adjustStatus(stats, severities, transition.fromStatus(), transition.fromSeverity(), -1);
+            }
+            adjustStatus(stats, severities, transition.toStatus(), transition.toSeverity(), 1);
+            activity.merge(transition.history().getEventType(), 1L, Long::sum);
+        }
+
+        stats.put("severityDistribution", severities);
+        stats.put("last24HoursActivity", activity);
+        return stats;
+    }
+
+    private static void adjustStatus(Map<String, Object> stats, Map<AlertSeverity, Long> severities,
+                                     AlertStatus status, AlertSeverity severity, long delta) {
+        stats.merge(status.name().toLowerCase() + "Count", delta, (a, b) -> ((Number) a).longValue() + (Long) b);
+        if (status.isActive()) {
+            stats.merge("activeCount", delta, (a, b) -> ((Number) a).longValue() + (Long) b);
+            severities.merge(severity, delta, Long::sum);
+        }
+    }
+
+    /**
+     * Copy of a cached trend series with each transition counted on its history date
+     */
+    private static List<TrendDataResponse> applyToTrends(List<TrendDataResponse> cached, List<Transition> transitions) {
+        Map<String, Map<String, Long>> byDate = new HashMap<>();
+        for (TrendDataResponse trend : cached) {
+            byDate.put(trend.getDate(), new HashMap<>(trend.getEventCounts()));
+        }
+        for (Transition transition : transitions) {
+            String date = transition.history().getTimestamp().toLocalDate().toString();
+            byDate.computeIfAbsent(date, d -> new HashMap<>())
+                .merge(transition.history().getEventType(), 1L, Long::sum);
+        }
+        return byDate.entrySet().stream()
+            .map(entry -> TrendDataResponse.builder()
+                .date(entry.getKey())
+                .eventCounts(entry.getValue())
+                .build())
+            .sorted(Comparator.comparing(TrendDataResponse::getDate))
+            .collect(Collectors.toList());
+    }
+
+    private Optional<Cache> cache(String name) {
+        return Optional.ofNullable(cacheManager.getCache(name));
+    }
+
+    private Optional<ConcurrentMap<Object, Object>> nativeCache(String name) {
+        return cache(name)
+            .filter(CaffeineCache.class::isInstance)
+            .map(cache -> ((CaffeineCache) cache).getNativeCache().asMap());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<AlertResponse> asAlertList(Object value) {
+        return (List<AlertResponse>) value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asStats(Object value) {
+        return (Map<String, Object>) value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<TrendDataResponse> asTrends(Object value) {
+        return (List<TrendDataResponse>) value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<AlertSeverity, Long> asSeverityCounts(Object value) {
+        return value != null ? (Map<AlertSeverity, Long>) value : Map.of();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Long> asEventCounts(Object value) {
+        return value != null ? (Map<String, Long>) value : Map.of();
+    }
+}
@@ -0,0 +1,254 @@
+package com.movesync.alert.service;
+
+import com.movesync.alert.domain.enums.AlertSeverity;
+import com.movesync.alert.domain.enums.AlertType;
+import com.movesync.alert.domain.event.AlertTransitionsEvent;
+import com.movesync.alert.domain.model.AlertHistory;
+import com.movesync.alert.dto.AlertEventResponse;
+import com.movesync.alert.dto.AlertResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes committed alert lifecycle events to Server-Sent Events subscribers
+ * Replaces dashboard polling of full snapshots with deltas
+ *
+ * - Filtered: Each subscriber may restrict events by severity, driver and alert type; a
+ *   transition matches on its old severity too, so an alert leaving the filter (e.g. escalated
+ *   out of WARNING) still reaches the client, which can drop or update its row
+ * - Bounded: Each subscriber has a fixed-size buffer drained by a shared dispatch pool;
+ *   a subscriber whose buffer overflows is disconnected instead of slowing everyone down
+ * - Batches: A commit with more matching changes than the buffer has room for (e.g. batch
+ *   ingestion) is sent as one RESYNC event, telling the client to reload its snapshot
+ * - Heartbeats: A periodic comment keeps proxies from closing idle streams and detects
+ *   dead connections
+ *
+ * A disconnected client should reload its snapshot before applying new deltas, since events
+ * are not replayed.
+ *
+ * Thread Safety: Subscriber list is copy-on-write; each subscriber is drained by at most one
+ * dispatch thread at a time
+ * Time Complexity: O(t * s) per committed event, t = transitions, s = subscribers
+ * Space Complexity: O(s * b) where b = per-subscriber buffer size
+ */
+@Slf4j
+@Service
+public class AlertEventBroadcaster {
+
+    private static final String RESYNC_EVENT = "RESYNC";
+
+    @Value("${alert.stream.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${alert.stream.timeout-ms:1800000}")
+    private long timeoutMillis;
+
+    @Value("${alert.stream.dispatch-threads:4}")
+    private int dispatchThreads;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private ThreadPoolExecutor dispatchExecutor;
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadCount = new AtomicInteger();
+        dispatchExecutor = new ThreadPoolExecutor(dispatchThreads, dispatchThreads, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(),
+            runnable -> {
+                Thread thread = new Thread(runnable, "alert-stream-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    @PreDestroy
+    public void stop() {
+        dispatchExecutor.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+    }
+
+    /**
+     * Register a subscriber
+     *
+     * @param severities Only deliver alerts with these severities (empty = all)
+     * @param driverId Only deliver alerts of this driver (null = all)
+     * @param alertTypes Only deliver alerts of these types (empty = all)
+     * @return Emitter to return from the controller
+     */
+    public SseEmitter subscribe(Set<AlertSeverity> severities, String driverId, Set<AlertType> alertTypes) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter,
+            new Filter(Set.copyOf(severities), driverId, Set.copyOf(alertTypes)), bufferSize);
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        subscribers.add(subscriber);
+
+        // Flush the response headers right away so the client knows it is connected
+        enqueue(subscriber, SseEmitter.event().comment("connected"));
+        log.info("Alert stream subscriber connected ({} total)", subscribers.size());
+        return emitter;
+    }
+
+    /**
+     * Fan committed transitions out to matching subscribers
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTransitions(AlertTransitionsEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        List<AlertEventResponse> events = new ArrayList<>(event.transitions().size());
+        for (AlertTransitionsEvent.Transition transition : event.transitions()) {
+            AlertHistory history = transition.history();
+            events.add(AlertEventResponse.builder()
+                .eventType(history.getEventType())
+                .fromStatus(transition.fromStatus())
+                .fromSeverity(transition.fromSeverity())
+                // Without metadata, like list responses; clients load it from GET /alerts/{id}
+                .alert(AlertResponse.fromTransition(transition).withoutMetadata())
+                .reason(history.getReason())
+                .timestamp(history.getTimestamp())
+                .build());
+        }
+
+        for (Subscriber subscriber : subscribers) {
+            List<AlertEventResponse> matching = events.stream()
+                .filter(subscriber.filter::matches)
+                .toList();
+            if (matching.size() > subscriber.buffer.remainingCapacity()) {
+                enqueue(subscriber, SseEmitter.event()
+                    .name(RESYNC_EVENT)
+                    .data(AlertEventResponse.builder()
+                        .eventType(RESYNC_EVENT)
+                        .reason(matching.size() + " alerts changed")
+                        .timestamp(LocalDateTime.now())
+                        .build(), MediaType.APPLICATION_JSON));
+                continue;
+            }
+            for (AlertEventResponse alertEvent : matching) {
+                enqueue(subscriber, SseEmitter.event()
+                    .name(alertEvent.getEventType())
+                    .data(alertEvent, MediaType.APPLICATION_JSON));
+            }
+        }
+    }
+
+    /**
+     * Keep idle streams open and detect dead connections
+     */
+    @Scheduled(fixedDelayString = "${alert.stream.heartbeat-ms:15000}")
+    public void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            enqueue(subscriber, SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    private void enqueue(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (subscriber.closed.get()) {
+            return;
+        }
+        if (!subscriber.buffer.offer(event)) {
+            disconnectSlow(subscriber);
+            return;
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            dispatchExecutor.execute(() -> drain(subscriber));
+        }
+    }
+
+    /**
+     * Send buffered events until the buffer is empty
+     * Re-checks after releasing the drain flag so an event enqueued in between is not stranded
+     */
+    private void drain(Subscriber subscriber) {
+        do {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while ((event = subscriber.buffer.poll()) != null) {
+                    subscriber.emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away or the emitter already completed
+                log.debug("Alert stream subscriber disconnected: {}", e.getMessage());
+                remove(subscriber);
+                subscriber.buffer.clear();
+                subscriber.draining.set(false);
+                return;
+            }
+            subscriber.draining.set(false);
+        } while (!subscriber.buffer.isEmpty() && subscriber.draining.compareAndSet(false, true));
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscriber.closed.set(true);
+        subscribers.remove(subscriber);
+    }
+
+    private void disconnectSlow(Subscriber subscriber) {
+        if (subscriber.closed.compareAndSet(false, true)) {
+            subscribers.remove(subscriber);
+            log.warn("Alert stream subscriber fell {} events behind, disconnecting", bufferSize);
+            subscriber.buffer.clear();
+            subscriber.emitter.complete();
+        }
+    }
+
+    /**
+     * Subscriber filter; empty sets and a null driver match everything
+     * Severity matches the alert's new or previous severity (driver and type never change)
+     */
+    private record Filter(Set<AlertSeverity> severities, String driverId, Set<AlertType> alertTypes) {
+
+        boolean matches(AlertEventResponse event) {
+            AlertResponse alert = event.getAlert();
+            return (severities.isEmpty() || severities.contains(alert.getSeverity())
+                    || severities.contains(event.getFromSeverity()))
+                && (driverId == null || driverId.equals(alert.getDriverId()))
+                && (alertTypes.isEmpty() || alertTypes.contains(alert.getAlertType()));
+        }
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final Filter filter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+
+        private Subscriber(SseEmitter emitter, Filter filter, int bufferSize) {
+            this.emitter = emitter;
+            this.filter = filter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+}
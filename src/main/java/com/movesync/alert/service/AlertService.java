@@ -1,26 +1,45 @@
 package com.movesync.alert.service;
 
+import com.movesync.alert.config.ReplicaReads;
+import com.movesync.alert.domain.enums.AlertSeverity;
 import com.movesync.alert.domain.enums.AlertStatus;
 import com.movesync.alert.domain.enums.AlertType;
+import com.movesync.alert.domain.event.AlertTransitionsEvent;
+import com.movesync.alert.domain.event.AlertTransitionsEvent.Transition;
+import com.movesync.alert.domain.event.AlertsCreatedEvent;
 import com.movesync.alert.domain.model.Alert;
 import com.movesync.alert.domain.model.AlertHistory;
 import com.movesync.alert.dto.CreateAlertRequest;
+import com.movesync.alert.dto.AlertPageResponse;
 import com.movesync.alert.dto.AlertResponse;
+import com.movesync.alert.dto.BatchAlertResponse;
 import com.movesync.alert.exception.AlertNotFoundException;
 import com.movesync.alert.exception.InvalidAlertException;
+import com.movesync.alert.monitoring.AlertMetricsService;
+import com.movesync.alert.repository.AlertHistoryJdbcRepository;
 import com.movesync.alert.repository.AlertHistoryRepository;
 import com.movesync.alert.repository.AlertRepository;
+import com.movesync.alert.repository.projection.AlertSummary;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Core service for Alert management
@@ -41,70 +60,157 @@ public class AlertService {
 
     private final AlertRepository alertRepository;
     private final AlertHistoryRepository alertHistoryRepository;
+    private final AlertHistoryJdbcRepository alertHistoryJdbcRepository;
     private final RuleEvaluationService ruleEvaluationService;
     private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AlertCacheInvalidator cacheInvalidator;
+    private final CoalescingCache coalescingCache;
+    private final AlertMetricsService metricsService;
+    private final ReplicaReads replicaReads;
+
+    @Value("${alert.ingest.batch.max-size:5000}")
+    private int maxBatchSize;
+
+    @Value("${alert.api.page.default-size:100}")
+    private int defaultPageSize;
+
+    @Value("${alert.api.page.max-size:500}")
+    private int maxPageSize;
 
     /**
-     * Create a new alert and trigger rule evaluation
+     * Create a new alert and publish it for rule evaluation
      * Idempotent: Multiple calls with same data won't create duplicates
      * 
+     * Each write is flushed inside its own timed step (persist, history_write), so the
+     * step timers include the INSERT rather than only queueing it for commit
+     * 
      * @param request Alert creation request
      * @return Created alert with response
      */
     @Transactional
-    @CacheEvict(value = {"alerts", "dashboard"}, allEntries = true)
     public AlertResponse createAlert(CreateAlertRequest request) {
         log.info("Creating new alert: type={}, driverId={}", 
                  request.getAlertType(), request.getDriverId());
 
         // Validate request
-        validateAlertRequest(request);
-
-        // Build alert entity
-        Alert alert = Alert.builder()
-            .alertType(request.getAlertType())
-            .severity(request.getSeverity())
-            .status(AlertStatus.OPEN)
-            .driverId(request.getDriverId())
-            .vehicleId(request.getVehicleId())
-            .routeId(request.getRouteId())
-            .metadata(request.getMetadata())
-            .timestamp(request.getTimestamp() != null ? 
-                      request.getTimestamp() : LocalDateTime.now())
-            .build();
+        metricsService.timeStep(AlertMetricsService.STEP_VALIDATE, () -> validateAlertRequest(request));
 
         // Save alert
-        alert = alertRepository.save(alert);
+        Alert alert = metricsService.timeStep(AlertMetricsService.STEP_PERSIST, () -> {
+            Alert saved = alertRepository.save(buildAlert(request));
+            entityManager.flush();
+            return saved;
+        });
         log.debug("Alert created with ID: {}", alert.getAlertId());
 
         // Create history entry
-        AlertHistory history = AlertHistory.forCreation(alert.getAlertId());
-        alertHistoryRepository.save(history);
+        AlertHistory history = metricsService.timeStep(AlertMetricsService.STEP_HISTORY_WRITE, () -> {
+            AlertHistory saved = alertHistoryRepository.save(AlertHistory.forCreation(alert.getAlertId()));
+            entityManager.flush();
+            return saved;
+        });
 
-        // Flush to ensure the alert is persisted before starting a new transaction
-        // This is critical when using REQUIRES_NEW in RuleEvaluationService
-        entityManager.flush();
+        // Rule evaluation runs asynchronously in AlertIngestPipeline once this transaction commits
+        eventPublisher.publishEvent(new AlertsCreatedEvent(List.of(alert)));
+        eventPublisher.publishEvent(AlertTransitionsEvent.of(Transition.created(alert, history)));
 
-        // Trigger rule evaluation for potential escalation
-        // This is async to not block the creation
-        try {
-            ruleEvaluationService.evaluateAndEscalateIfNeeded(alert);
-        } catch (Exception e) {
-            log.error("Error evaluating rules for alert {}", alert.getAlertId(), e);
-            // Don't fail the alert creation if rule evaluation fails
+        return AlertResponse.fromEntity(alert);
+    }
+
+    /**
+     * Create a batch of alerts in a single transaction
+     * Alerts are written with Hibernate JDBC batching and history rows with a plain JDBC batch
+     * (AlertHistoryJdbcRepository);
+     * rule evaluation then runs asynchronously once per (driverId, alertType) group
+     * 
+     * Invalid items are rejected individually and do not fail the rest of the batch
+     * Step timers record one sample per batch
+     * 
+     * Time Complexity: O(n) for validation and mapping, O(n / b) insert round trips where b = JDBC batch size
+     * 
+     * @param requests Alert creation requests, in submission order
+     * @return Per-item results, in submission order
+     */
+    @Transactional
+    public BatchAlertResponse createAlerts(List<CreateAlertRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new InvalidAlertException("Batch must contain at least one alert");
+        }
+        if (requests.size() > maxBatchSize) {
+            throw new InvalidAlertException(
+                String.format("Batch size %d exceeds maximum of %d", requests.size(), maxBatchSize));
         }
 
-        return AlertResponse.fromEntity(alert);
+        log.info("Creating batch of {} alerts", requests.size());
+
+        BatchAlertResponse.ItemResult[] results = new BatchAlertResponse.ItemResult[requests.size()];
+        List<Alert> alerts = new ArrayList<>(requests.size());
+        List<Integer> alertIndexes = new ArrayList<>(requests.size());
+
+        // Validate and build entities; rejected items never reach the database
+        long validateStartedAt = System.nanoTime();
+        for (int i = 0; i < requests.size(); i++) {
+            CreateAlertRequest request = requests.get(i);
+            try {
+                if (request == null) {
+                    throw new InvalidAlertException("Alert is required");
+                }
+                validateAlertRequest(request);
+                alerts.add(buildAlert(request));
+                alertIndexes.add(i);
+            } catch (InvalidAlertException e) {
+                results[i] = BatchAlertResponse.ItemResult.rejected(i, e.getMessage());
+            }
+        }
+        metricsService.recordStep(AlertMetricsService.STEP_VALIDATE, System.nanoTime() - validateStartedAt);
+
+        if (!alerts.isEmpty()) {
+            // Persist alerts and history rows; both go out as JDBC batches
+            List<Alert> toSave = alerts;
+            alerts = metricsService.timeStep(AlertMetricsService.STEP_PERSIST, () -> {
+                List<Alert> saved = alertRepository.saveAll(toSave);
+                entityManager.flush();
+                return saved;
+            });
+            List<AlertHistory> histories = toSave.stream()
+                .map(alert -> AlertHistory.forCreation(alert.getAlertId()))
+                .collect(Collectors.toList());
+            metricsService.timeStep(AlertMetricsService.STEP_HISTORY_WRITE,
+                () -> alertHistoryJdbcRepository.insertAll(histories));
+
+            // Rule evaluation runs asynchronously in AlertIngestPipeline once this transaction commits
+            eventPublisher.publishEvent(new AlertsCreatedEvent(alerts));
+            List<Transition> transitions = new ArrayList<>(alerts.size());
+            for (int i = 0; i < alerts.size(); i++) {
+                transitions.add(Transition.created(alerts.get(i), histories.get(i)));
+            }
+            eventPublisher.publishEvent(new AlertTransitionsEvent(transitions));
+
+            for (int i = 0; i < alerts.size(); i++) {
+                int index = alertIndexes.get(i);
+                results[index] = BatchAlertResponse.ItemResult.accepted(index, AlertResponse.fromEntity(alerts.get(i)));
+            }
+        }
+
+        log.info("Batch created: {} accepted, {} rejected", alerts.size(), requests.size() - alerts.size());
+
+        return BatchAlertResponse.builder()
+            .total(requests.size())
+            .accepted(alerts.size())
+            .rejected(requests.size() - alerts.size())
+            .results(Arrays.asList(results))
+            .build();
     }
 
     /**
      * Get alert by ID
-     * Cached for performance
+     * Cached for performance; kept current by AlertCacheInvalidator
      */
-    @Cacheable(value = "alerts", key = "#alertId")
+    @Cacheable(value = "alerts", key = "#alertId", sync = true)
     public AlertResponse getAlert(String alertId) {
         log.debug("Fetching alert: {}", alertId);
-        Alert alert = alertRepository.findById(alertId)
+        Alert alert = alertRepository.findByIdPruned(alertId)
             .orElseThrow(() -> new AlertNotFoundException(alertId));
         return AlertResponse.fromEntity(alert);
     }
@@ -113,58 +219,141 @@ public class AlertService {
      * Get alert entity by ID (for internal use)
      */
     public Alert getAlertEntity(String alertId) {
-        return alertRepository.findById(alertId)
+        return alertRepository.findByIdPruned(alertId)
             .orElseThrow(() -> new AlertNotFoundException(alertId));
     }
 
     /**
      * Find all active alerts (OPEN or ESCALATED)
+     * Read through CoalescingCache (single-flight, stale-while-revalidate); kept current by
+     * AlertCacheInvalidator between refreshes
      */
-    @Cacheable(value = "alerts", key = "'active'")
     public List<AlertResponse> findActiveAlerts() {
+        return coalescingCache.get("alerts", "active", this::loadActiveAlerts);
+    }
+
+    private List<AlertResponse> loadActiveAlerts() {
         log.debug("Fetching active alerts");
         List<AlertStatus> activeStatuses = List.of(AlertStatus.OPEN, AlertStatus.ESCALATED);
         return alertRepository.findByStatusIn(activeStatuses).stream()
-            .map(AlertResponse::fromEntity)
+            .map(AlertResponse::fromSummary)
             .collect(Collectors.toList());
     }
 
     /**
-     * Find all alerts with optional status filter
+     * Find one keyset page of alerts with optional status filter, newest first
+     * Pages are positioned by (timestamp, alertId), so deep pages cost the same as the first
+     * Served by the read replica when one is configured (ReplicaReads)
      * 
      * @param status Optional status filter (OPEN, ESCALATED, AUTO_CLOSED, RESOLVED)
-     * @return List of alerts filtered by status (or all if no status provided)
+     * @param cursor Opaque cursor from the previous page, null for the first page
+     * @param size Requested page size, capped at alert.api.page.max-size
+     * @return Page of alerts with the cursor of the next page
      */
-    @Cacheable(value = "alerts", key = "#status != null ? #status : 'all'")
-    public List<AlertResponse> findAllAlerts(String status) {
-        log.debug("Fetching all alerts with status filter: {}", status);
-        
-        if (status != null && !status.isEmpty()) {
-            try {
-                AlertStatus alertStatus = AlertStatus.valueOf(status.toUpperCase());
-                return alertRepository.findByStatus(alertStatus).stream()
-                    .map(AlertResponse::fromEntity)
-                    .collect(Collectors.toList());
-            } catch (IllegalArgumentException e) {
-                log.warn("Invalid status filter: {}", status);
-                return List.of();
+    public AlertPageResponse findAlertsPage(String status, String cursor, Integer size) {
+        return replicaReads.call(() -> readAlertsPage(status, cursor, size));
+    }
+
+    private AlertPageResponse readAlertsPage(String status, String cursor, Integer size) {
+        log.debug("Fetching alert page with status filter: {}, cursor: {}", status, cursor);
+
+        int pageSize = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+        AlertStatus alertStatus = parseStatusFilter(status);
+
+        LocalDateTime cursorTimestamp = null;
+        String cursorAlertId = null;
+        if (cursor != null && !cursor.isEmpty()) {
+            String[] position = decodeCursor(cursor);
+            cursorTimestamp = LocalDateTime.parse(position[0]);
+            cursorAlertId = position[1];
+        }
+
+        // Fetch one extra row to learn whether another page exists without a count query
+        List<AlertSummary> alerts = alertRepository.findPageAfter(alertStatus,
+            cursorTimestamp, cursorAlertId, PageRequest.of(0, pageSize + 1));
+        boolean hasMore = alerts.size() > pageSize;
+        List<AlertSummary> pageAlerts = hasMore ? alerts.subList(0, pageSize) : alerts;
+
+        AlertSummary last = pageAlerts.isEmpty() ? null : pageAlerts.get(pageAlerts.size() - 1);
+        return AlertPageResponse.builder()
+            .items(pageAlerts.stream().map(AlertResponse::fromSummary).collect(Collectors.toList()))
+            .size(pageAlerts.size())
+            .hasMore(hasMore)
+            .nextCursor(hasMore ? encodeCursor(last) : null)
+            .build();
+    }
+
+    /**
+     * Stream all alerts with optional status filter, newest first
+     * Rows are read as projections and converted one at a time, so the result set never sits
+     * on the heap and nothing accumulates in the persistence context
+     * Served by the read replica when one is configured (ReplicaReads)
+     * 
+     * @param status Optional status filter (OPEN, ESCALATED, AUTO_CLOSED, RESOLVED)
+     * @param sink Receives each alert in order
+     * @return Number of alerts streamed
+     */
+    public long streamAlerts(String status, Consumer<AlertResponse> sink) {
+        log.debug("Streaming alerts with status filter: {}", status);
+
+        return replicaReads.call(() -> {
+            long count = 0;
+            try (Stream<AlertSummary> alerts = alertRepository.streamByStatus(parseStatusFilter(status))) {
+                for (AlertSummary alert : (Iterable<AlertSummary>) alerts::iterator) {
+                    sink.accept(AlertResponse.fromSummary(alert));
+                    count++;
+                }
             }
+            return count;
+        });
+    }
+
+    /**
+     * Parse an optional status filter
+     * 
+     * @return Status, or null for no filter
+     * @throws InvalidAlertException if the status is unknown
+     */
+    private AlertStatus parseStatusFilter(String status) {
+        if (status == null || status.isEmpty()) {
+            return null;
+        }
+        try {
+            return AlertStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidAlertException("Invalid status filter: " + status);
+        }
+    }
+
+    private static String encodeCursor(AlertSummary alert) {
+        String position = alert.timestamp() + "|" + alert.alertId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String[] position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                .split("\\|", 2);
+            if (position.length != 2) {
+                throw new IllegalArgumentException("Missing cursor separator");
+            }
+            LocalDateTime.parse(position[0]);
+            return position;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidAlertException("Invalid cursor: " + cursor);
         }
-        
-        // Return all alerts if no status filter
-        return alertRepository.findAll().stream()
-            .map(AlertResponse::fromEntity)
-            .collect(Collectors.toList());
     }
 
     /**
-     * Find alerts by driver ID
+     * Find active alerts by driver ID
+     * Cached per driver; kept current by AlertCacheInvalidator
      */
+    @Cacheable(value = "drivers", key = "#driverId", sync = true)
     public List<AlertResponse> findAlertsByDriver(String driverId) {
         log.debug("Fetching alerts for driver: {}", driverId);
         List<AlertStatus> activeStatuses = List.of(AlertStatus.OPEN, AlertStatus.ESCALATED);
         return alertRepository.findByDriverIdAndStatusIn(driverId, activeStatuses).stream()
-            .map(AlertResponse::fromEntity)
+            .map(AlertResponse::fromSummary)
             .collect(Collectors.toList());
     }
 
@@ -186,7 +375,6 @@ public class AlertService {
      * @param reason Reason for resolution
      */
     @Transactional
-    @CacheEvict(value = {"alerts", "dashboard"}, allEntries = true)
     public AlertResponse resolveAlert(String alertId, String userId, String reason) {
         log.info("Resolving alert {} by user {}", alertId, userId);
 
@@ -206,6 +394,7 @@ public class AlertService {
             alertId, previousStatus, userId, reason
         );
         alertHistoryRepository.save(history);
+        publishTransition(alert, previousStatus, alert.getSeverity(), history);
 
         log.info("Alert {} resolved successfully", alertId);
         return AlertResponse.fromEntity(alert);
@@ -221,7 +410,6 @@ public class AlertService {
      * @return Escalated alert response
      */
     @Transactional
-    @CacheEvict(value = {"alerts", "dashboard"}, allEntries = true)
     public AlertResponse escalateAlertManually(String alertId, String userId,
                                                com.movesync.alert.domain.enums.AlertSeverity newSeverity,
                                                String reason) {
@@ -235,6 +423,7 @@ public class AlertService {
         }
 
         AlertStatus previousStatus = alert.getStatus();
+        AlertSeverity previousSeverity = alert.getSeverity();
         alert.escalate(newSeverity, reason);
         alert = alertRepository.save(alert);
 
@@ -242,7 +431,9 @@ public class AlertService {
         AlertHistory history = AlertHistory.forEscalation(
             alert.getAlertId(), previousStatus, reason
         );
+        history.setTimestamp(alert.getClosedAt());
         alertHistoryRepository.save(history);
+        publishTransition(alert, previousStatus, previousSeverity, history);
 
         log.info("Alert {} manually escalated to {} successfully", alert.getAlertId(), newSeverity);
         return AlertResponse.fromEntity(alert);
@@ -252,13 +443,13 @@ public class AlertService {
      * Escalate an alert (called by RuleEvaluationService)
      */
     @Transactional
-    @CacheEvict(value = {"alerts", "dashboard"}, allEntries = true)
     public void escalateAlert(Alert alert, 
                              com.movesync.alert.domain.enums.AlertSeverity newSeverity, 
                              String reason) {
         log.info("Escalating alert {} to {}", alert.getAlertId(), newSeverity);
 
         AlertStatus previousStatus = alert.getStatus();
+        AlertSeverity previousSeverity = alert.getSeverity();
         alert.escalate(newSeverity, reason);
         alertRepository.save(alert);
 
@@ -266,7 +457,9 @@ public class AlertService {
         AlertHistory history = AlertHistory.forEscalation(
             alert.getAlertId(), previousStatus, reason
         );
+        history.setTimestamp(alert.getClosedAt());
         alertHistoryRepository.save(history);
+        publishTransition(alert, previousStatus, previousSeverity, history);
 
         log.info("Alert {} escalated to {} successfully", alert.getAlertId(), newSeverity);
     }
@@ -275,7 +468,6 @@ public class AlertService {
      * Auto-close an alert (called by background job)
      */
     @Transactional
-    @CacheEvict(value = {"alerts", "dashboard"}, allEntries = true)
     public void autoCloseAlert(Alert alert, String reason) {
         log.info("Auto-closing alert {}: {}", alert.getAlertId(), reason);
 
@@ -287,16 +479,45 @@ public class AlertService {
         AlertHistory history = AlertHistory.forAutoClosure(
             alert.getAlertId(), previousStatus, reason
         );
+        history.setTimestamp(alert.getClosedAt());
         alertHistoryRepository.save(history);
+        publishTransition(alert, previousStatus, alert.getSeverity(), history);
 
         log.info("Alert {} auto-closed successfully", alert.getAlertId());
     }
 
     /**
      * Get alert history/audit trail
+     * Served by the read replica when one is configured (ReplicaReads)
      */
     public List<AlertHistory> getAlertHistory(String alertId) {
-        return alertHistoryRepository.findByAlertIdOrderByTimestampAsc(alertId);
+        return replicaReads.call(() -> alertHistoryRepository.findByAlertIdPruned(alertId));
+    }
+
+    /**
+     * Publish a state change; dashboard aggregates apply it once this transaction commits
+     */
+    private void publishTransition(Alert alert, AlertStatus fromStatus, AlertSeverity fromSeverity,
+                                   AlertHistory history) {
+        eventPublisher.publishEvent(AlertTransitionsEvent.of(
+            new Transition(alert, fromStatus, fromSeverity, alert.getSeverity(), history)));
+    }
+
+    /**
+     * Build a new OPEN alert entity from a creation request
+     */
+    private Alert buildAlert(CreateAlertRequest request) {
+        return Alert.builder()
+            .alertType(request.getAlertType())
+            .severity(request.getSeverity())
+            .status(AlertStatus.OPEN)
+            .driverId(request.getDriverId())
+            .vehicleId(request.getVehicleId())
+            .routeId(request.getRouteId())
+            .metadata(request.getMetadata())
+            .timestamp(request.getTimestamp() != null ? 
+                      request.getTimestamp() : LocalDateTime.now())
+            .build();
     }
 
     /**
@@ -326,13 +547,13 @@ public class AlertService {
      * This can trigger auto-closure evaluation
      */
     @Transactional
-    @CacheEvict(value = {"alerts", "dashboard"}, allEntries = true)
     public AlertResponse updateAlertCondition(String alertId, String condition) {
         log.info("Updating alert {} with condition: {}", alertId, condition);
 
         Alert alert = getAlertEntity(alertId);
         alert.addMetadata("condition", condition);
         alert = alertRepository.save(alert);
+        cacheInvalidator.evictAfterCommit(alertId, alert.getDriverId());
 
         // Flush to ensure the alert is persisted before starting a new transaction
         // This is critical when using REQUIRES_NEW in RuleEvaluationService
@@ -343,7 +564,7 @@ public class AlertService {
         ruleEvaluationService.evaluateAutoCloseIfNeeded(alert);
 
         // Refresh alert to get latest state (in case it was auto-closed)
-        alert = alertRepository.findById(alertId)
+        alert = alertRepository.findByIdPruned(alertId)
             .orElseThrow(() -> new AlertNotFoundException("Alert not found: " + alertId));
 
         return AlertResponse.fromEntity(alert);
@@ -0,0 +1,160 @@
+package com.movesync.alert.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Read-through access to the Spring caches with request coalescing and stale-while-revalidate
+ *
+ * - Single-flight: On a miss, one caller computes the value; concurrent callers for the same
+ *   key wait for and share its result instead of recomputing it
+ * - Stale-while-revalidate: Entries older than alert.cache.refresh-after-ms are still served,
+ *   while one background refresh reloads them
+ *
+ * Values are stored unwrapped in the named Spring cache, so AlertCacheInvalidator keeps
+ * updating them in place between refreshes. A refresh that started before a delta was applied
+ * may overwrite it; the next refresh corrects that.
+ *
+ * Thread Safety: In-flight loads are tracked in a concurrent map keyed by (cache, key)
+ * Time Complexity: O(1) per lookup, plus one load per key per refresh interval
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CoalescingCache {
+
+    // Load timestamps beyond this count are pruned of keys the caches have already dropped
+    private static final int MAX_TRACKED_KEYS = 1024;
+
+    private final CacheManager cacheManager;
+
+    @Value("${alert.cache.refresh-after-ms:60000}")
+    private long refreshAfterMillis;
+
+    @Value("${alert.cache.refresh-threads:2}")
+    private int refreshThreads;
+
+    private final ConcurrentMap<EntryKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentMap<EntryKey, Long> loadedAt = new ConcurrentHashMap<>();
+    private ThreadPoolExecutor refreshExecutor;
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadCount = new AtomicInteger();
+        refreshExecutor = new ThreadPoolExecutor(refreshThreads, refreshThreads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(MAX_TRACKED_KEYS),
+            runnable -> {
+                Thread thread = new Thread(runnable, "cache-refresh-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            // A dropped refresh just means the entry is served stale a little longer
+            new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    @PreDestroy
+    public void stop() {
+        refreshExecutor.shutdownNow();
+    }
+
+    /**
+     * Get a cached value, loading it at most once across concurrent callers
+     *
+     * @param cacheName Name of a configured Spring cache
+     * @param key Cache key
+     * @param loader Computes the value on a miss or refresh; runs on the caller's thread for misses
+     * @return Cached (possibly stale) or freshly loaded value
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String cacheName, Object key, Supplier<T> loader) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            throw new IllegalStateException("Unknown cache: " + cacheName);
+        }
+        EntryKey entryKey = new EntryKey(cacheName, key);
+
+        Cache.ValueWrapper cached = cache.get(key);
+        if (cached != null) {
+            Long loaded = loadedAt.get(entryKey);
+            if (loaded == null || System.currentTimeMillis() - loaded >= refreshAfterMillis) {
+                refreshInBackground(cache, entryKey, loader);
+            }
+            return (T) cached.get();
+        }
+
+        try {
+            return (T) load(cache, entryKey, loader).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void refreshInBackground(Cache cache, EntryKey entryKey, Supplier<?> loader) {
+        if (inFlight.containsKey(entryKey)) {
+            return;
+        }
+        refreshExecutor.execute(() -> {
+            try {
+                load(cache, entryKey, loader).join();
+            } catch (CompletionException e) {
+                log.warn("Background refresh of {} failed, serving the cached value", entryKey, e.getCause());
+            }
+        });
+    }
+
+    /**
+     * Join the in-flight load of a key, or run it on the current thread if there is none
+     */
+    private CompletableFuture<Object> load(Cache cache, EntryKey entryKey, Supplier<?> loader) {
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(entryKey, created);
+        if (existing != null) {
+            return existing;
+        }
+
+        try {
+            Object value = loader.get();
+            cache.put(entryKey.key(), value);
+            loadedAt.put(entryKey, System.currentTimeMillis());
+            created.complete(value);
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+        } finally {
+            inFlight.remove(entryKey, created);
+        }
+
+        if (loadedAt.size() > MAX_TRACKED_KEYS) {
+            pruneLoadTimes();
+        }
+        return created;
+    }
+
+    private void pruneLoadTimes() {
+        loadedAt.keySet().removeIf(entryKey -> {
+            Cache cache = cacheManager.getCache(entryKey.cacheName());
+            return cache == null || cache.get(entryKey.key()) == null;
+        });
+    }
+
+    private record EntryKey(String cacheName, Object key) {
+    }
+}
@@ -0,0 +1,362 @@
+package com.movesync.alert.service;
+
+import com.movesync.alert.domain.enums.AlertSeverity;
+import com.movesync.alert.domain.enums.AlertStatus;
+import com.movesync.alert.domain.event.AlertTransitionsEvent;
+import com.movesync.alert.domain.model.AlertHistory;
+import com.movesync.alert.dto.AlertResponse;
+import com.movesync.alert.dto.TopDriverResponse;
+import com.movesync.alert.repository.AlertHistoryRepository;
+import com.movesync.alert.repository.AlertRepository;
+import com.movesync.alert.repository.projection.DriverSeverityCount;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * In-memory dashboard aggregates maintained from alert state transitions
+ * Serves the dashboard overview without touching the database
+ *
+ * - Alert counts per (status, severity)
+ * - Active (OPEN/ESCALATED) alert counts per driver and severity
+ * - Ring buffers of the latest history events and auto-closed alerts
+ *
+ * Transitions are applied after their transaction commits. A periodic reconciliation
+ * recomputes everything from the database and replaces the in-memory state, which corrects
+ * drift from writes that bypass the services (retention deletes, manual SQL).
+ *
+ * Thread Safety: All state is guarded by the store's monitor
+ * Time Complexity: O(1) per transition, O(d log k) for the top k of d active drivers
+ * Space Complexity: O(d + r) where r = ring buffer capacity
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashboardAggregateStore {
+
+    // Matches the size of the repository's top-100 history query used by reconciliation
+    private static final int RECENT_CAPACITY = 100;
+
+    private static final List<AlertStatus> ACTIVE_STATUSES = List.of(AlertStatus.OPEN, AlertStatus.ESCALATED);
+    private static final int MAX_RECONCILE_ATTEMPTS = 3;
+
+    private final AlertRepository alertRepository;
+    private final AlertHistoryRepository alertHistoryRepository;
+
+    private long[][] statusSeverityCounts = newCounts();
+    private Map<String, long[]> activeByDriver = new HashMap<>();
+    private final RingBuffer<AlertHistory> recentEvents = new RingBuffer<>(RECENT_CAPACITY);
+    private final RingBuffer<AlertResponse> recentlyAutoClosed = new RingBuffer<>(RECENT_CAPACITY);
+
+    // Serialises reconciliations so concurrent first readers share one load
+    private final Object reconcileLock = new Object();
+
+    // Incremented per applied transition; lets reconciliation detect concurrent writes
+    private long appliedTransitions;
+    private boolean reconciled;
+
+    /**
+     * Apply committed alert transitions to the aggregates
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTransitions(AlertTransitionsEvent event) {
+        synchronized (this) {
+            for (AlertTransitionsEvent.Transition transition : event.transitions()) {
+                apply(transition);
+            }
+        }
+    }
+
+    private void apply(AlertTransitionsEvent.Transition transition) {
+        String driverId = transition.alert().getDriverId();
+        if (transition.fromStatus() != null) {
+            adjust(transition.fromStatus(), transition.fromSeverity(), driverId, -1);
+        }
+        adjust(transition.toStatus(), transition.toSeverity(), driverId, 1);
+
+        recentEvents.add(transition.history());
+        if (transition.toStatus() == AlertStatus.AUTO_CLOSED) {
+            recentlyAutoClosed.add(AlertResponse.fromTransition(transition).withoutMetadata());
+        }
+        appliedTransitions++;
+    }
+
+    private void adjust(AlertStatus status, AlertSeverity severity, String driverId, int delta) {
+        statusSeverityCounts[status.ordinal()][severity.ordinal()] += delta;
+        if (driverId == null || !status.isActive()) {
+            return;
+        }
+        long[] driverCounts = activeByDriver.computeIfAbsent(driverId, k -> new long[AlertSeverity.values().length]);
+        driverCounts[severity.ordinal()] += delta;
+        if (total(driverCounts) <= 0) {
+            activeByDriver.remove(driverId);
+        }
+    }
+
+    /**
+     * Recompute all aggregates from the database and replace the in-memory state
+     * Runs on startup and periodically (default: every 5 minutes)
+     *
+     * Retries if transitions were applied while the queries ran, since those may or may not
+     * be included in the query results
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${alert.dashboard.reconcile-interval-ms:300000}",
+               initialDelayString = "${alert.dashboard.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        synchronized (reconcileLock) {
+            reconcileNow();
+        }
+    }
+
+    private void reconcileNow() {
+        long startTime = System.currentTimeMillis();
+
+        for (int attempt = 1; attempt <= MAX_RECONCILE_ATTEMPTS; attempt++) {
+            long sequence;
+            synchronized (this) {
+                sequence = appliedTransitions;
+            }
+
+            Snapshot snapshot = loadSnapshot();
+
+            synchronized (this) {
+                if (appliedTransitions != sequence && attempt < MAX_RECONCILE_ATTEMPTS) {
+                    log.debug("Alerts changed during dashboard reconciliation, retrying (attempt {})", attempt);
+                    continue;
+                }
+                int drift = reconciled ? countDrift(snapshot) : 0;
+                statusSeverityCounts = snapshot.statusSeverityCounts();
+                activeByDriver = snapshot.activeByDriver();
+                recentEvents.replaceWith(snapshot.recentEvents());
+                recentlyAutoClosed.replaceWith(snapshot.recentlyAutoClosed());
+                reconciled = true;
+
+                if (drift > 0) {
+                    log.warn("Dashboard aggregates drifted from the database in {} counters, corrected", drift);
+                }
+            }
+            break;
+        }
+
+        log.debug("Dashboard aggregates reconciled in {}ms", System.currentTimeMillis() - startTime);
+    }
+
+    private Snapshot loadSnapshot() {
+        long[][] counts = newCounts();
+        for (Object[] row : alertRepository.countByStatusAndSeverity()) {
+            counts[((AlertStatus) row[0]).ordinal()][((AlertSeverity) row[1]).ordinal()] = ((Number) row[2]).longValue();
+        }
+
+        Map<String, long[]> byDriver = new HashMap<>();
+        for (DriverSeverityCount row : alertRepository.countByDriverAndSeverity(ACTIVE_STATUSES)) {
+            byDriver.computeIfAbsent(row.driverId(), k -> new long[AlertSeverity.values().length])
+                [row.severity().ordinal()] = row.count();
+        }
+
+        // Both queries return newest first; the ring buffers take oldest first
+        List<AlertHistory> events = new ArrayList<>(alertHistoryRepository.findTop100ByOrderByTimestampDesc());
+        List<AlertResponse> autoClosed = new ArrayList<>(alertRepository
+            .findLatestClosed(AlertStatus.AUTO_CLOSED).stream()
+            .map(AlertResponse::fromSummary)
+            .toList());
+        Collections.reverse(events);
+        Collections.reverse(autoClosed);
+
+        return new Snapshot(counts, byDriver, events, autoClosed);
+    }
+
+    private int countDrift(Snapshot snapshot) {
+        int drift = 0;
+        for (int status = 0; status < statusSeverityCounts.length; status++) {
+            for (int severity = 0; severity < statusSeverityCounts[status].length; severity++) {
+                if (statusSeverityCounts[status][severity] != snapshot.statusSeverityCounts()[status][severity]) {
+                    drift++;
+                }
+            }
+        }
+        return drift;
+    }
+
+    /**
+     * Alert count for a status, across severities
+     */
+    public long countByStatus(AlertStatus status) {
+        ensureReconciled();
+        synchronized (this) {
+            return total(statusSeverityCounts[status.ordinal()]);
+        }
+    }
+
+    /**
+     * Alert counts per severity across the given statuses; every severity is present
+     */
+    public Map<AlertSeverity, Long> countBySeverity(List<AlertStatus> statuses) {
+        ensureReconciled();
+        Map<AlertSeverity, Long> counts = new EnumMap<>(AlertSeverity.class);
+        synchronized (this) {
+            for (AlertSeverity severity : AlertSeverity.values()) {
+                long count = 0;
+                for (AlertStatus status : statuses) {
+                    count += statusSeverityCounts[status.ordinal()][severity.ordinal()];
+                }
+                counts.put(severity, count);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Drivers with the most active alerts, with a per-severity breakdown
+     */
+    public List<TopDriverResponse> topActiveDrivers(int limit) {
+        ensureReconciled();
+        // Min-heap of the current top k; ties rank the lower driver ID higher, as the DB query does
+        Comparator<Map.Entry<String, Long>> byRank = Map.Entry.<String, Long>comparingByValue()
+            .thenComparing(Map.Entry.<String, Long>comparingByKey().reversed());
+        PriorityQueue<Map.Entry<String, Long>> top = new PriorityQueue<>(byRank);
+        List<TopDriverResponse> result = new ArrayList<>(limit);
+        synchronized (this) {
+            for (Map.Entry<String, long[]> entry : activeByDriver.entrySet()) {
+                top.offer(Map.entry(entry.getKey(), total(entry.getValue())));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+            while (!top.isEmpty()) {
+                Map.Entry<String, Long> entry = top.poll();
+                result.add(0, TopDriverResponse.builder()
+                    .driverId(entry.getKey())
+                    .totalAlerts(entry.getValue())
+                    .severityBreakdown(breakdown(activeByDriver.get(entry.getKey())))
+                    .build());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Latest history events, newest first
+     */
+    public List<AlertHistory> recentEvents() {
+        ensureReconciled();
+        synchronized (this) {
+            return recentEvents.newestFirst();
+        }
+    }
+
+    /**
+     * Latest auto-closed alerts closed since a point in time, newest first
+     */
+    public List<AlertResponse> recentlyAutoClosed(LocalDateTime fromTime) {
+        ensureReconciled();
+        List<AlertResponse> alerts;
+        synchronized (this) {
+            alerts = recentlyAutoClosed.newestFirst();
+        }
+        return alerts.stream()
+            .filter(alert -> alert.getClosedAt() != null && !alert.getClosedAt().isBefore(fromTime))
+            .toList();
+    }
+
+    /**
+     * Aggregates are only served once loaded from the database at least once
+     * Concurrent first readers wait for a single reconciliation
+     */
+    private void ensureReconciled() {
+        if (isReconciled()) {
+            return;
+        }
+        synchronized (reconcileLock) {
+            if (!isReconciled()) {
+                reconcileNow();
+            }
+        }
+    }
+
+    private synchronized boolean isReconciled() {
+        return reconciled;
+    }
+
+    private static Map<AlertSeverity, Long> breakdown(long[] counts) {
+        Map<AlertSeverity, Long> breakdown = new EnumMap<>(AlertSeverity.class);
+        for (AlertSeverity severity : AlertSeverity.values()) {
+            if (counts[severity.ordinal()] > 0) {
+                breakdown.put(severity, counts[severity.ordinal()]);
+            }
+        }
+        return breakdown;
+    }
+
+    private static long total(long[] counts) {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    private static long[][] newCounts() {
+        return new long[AlertStatus.values().length][AlertSeverity.values().length];
+    }
+
+    private record Snapshot(long[][] statusSeverityCounts,
+                            Map<String, long[]> activeByDriver,
+                            List<AlertHistory> recentEvents,
+                            List<AlertResponse> recentlyAutoClosed) {
+    }
+
+    /**
+     * Fixed-capacity ring buffer that overwrites its oldest element when full
+     * Not thread-safe; guarded by the enclosing store
+     */
+    private static final class RingBuffer<T> {
+        private final Object[] elements;
+        private int head; // Index of the next write
+        private int size;
+
+        private RingBuffer(int capacity) {
+            this.elements = new Object[capacity];
+        }
+
+        private void add(T element) {
+            elements[head] = element;
+            head = (head + 1) % elements.length;
+            size = Math.min(size + 1, elements.length);
+        }
+
+        private void replaceWith(List<T> oldestFirst) {
+            Arrays.fill(elements, null);
+            head = 0;
+            size = 0;
+            for (T element : oldestFirst) {
+                add(element);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private List<T> newestFirst() {
+            List<T> result = new ArrayList<>(size);
+            for (int i = 1; i <= size; i++) {
+                result.add((T) elements[(head - i + elements.length) % elements.length]);
+            }
+            return result;
+        }
+    }
+}
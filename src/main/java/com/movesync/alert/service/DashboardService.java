@@ -1,18 +1,21 @@
 package com.movesync.alert.service;
 
+import com.movesync.alert.archive.AlertArchiveService;
+import com.movesync.alert.archive.ArchivedAlert;
+import com.movesync.alert.config.ReplicaReads;
 import com.movesync.alert.domain.enums.AlertSeverity;
 import com.movesync.alert.domain.enums.AlertStatus;
-import com.movesync.alert.domain.model.Alert;
 import com.movesync.alert.domain.model.AlertHistory;
 import com.movesync.alert.dto.DashboardResponse;
 import com.movesync.alert.dto.TopDriverResponse;
 import com.movesync.alert.dto.AlertResponse;
 import com.movesync.alert.dto.TrendDataResponse;
+import com.movesync.alert.exception.AlertNotFoundException;
 import com.movesync.alert.repository.AlertHistoryRepository;
 import com.movesync.alert.repository.AlertRepository;
+import com.movesync.alert.repository.projection.DriverSeverityCount;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -23,44 +26,58 @@ import java.util.stream.Collectors;
  * Service for dashboard analytics and aggregations
  * Provides real-time visibility into alert trends
  * 
- * Caching Strategy: Dashboard data cached for 5 minutes to reduce DB load
- * Time Complexity: O(n) for aggregations where n = number of alerts
+ * Overview and status/severity counts are served from DashboardAggregateStore (no DB access);
+ * trends and drill-downs still query the database
+ * 
+ * Read Replica: top drivers, trends, recently auto-closed alerts and drill-downs are read through
+ * ReplicaReads, so with a replica configured they may lag the primary by up to
+ * alert.datasource.replica.max-lag-ms
+ * 
+ * Caching Strategy: Database-backed views are read through CoalescingCache, so concurrent
+ * misses share one computation and stale entries are served while they refresh
+ * Time Complexity: O(1) for counts, O(d log k) for top drivers, O(n) for trend aggregations
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class DashboardService {
 
+    private static final String DASHBOARD_CACHE = "dashboard";
+
     private final AlertRepository alertRepository;
     private final AlertHistoryRepository alertHistoryRepository;
+    private final DashboardAggregateStore aggregateStore;
+    private final CoalescingCache coalescingCache;
+    private final AlertArchiveService archiveService;
+    private final ReplicaReads replicaReads;
 
     /**
      * Get comprehensive dashboard data
-     * Cached for performance
+     * Served from in-memory aggregates, so it is not cached
      */
-    @Cacheable(value = "dashboard", key = "'overview'")
     public DashboardResponse getDashboardOverview() {
         log.debug("Generating dashboard overview");
 
         List<AlertStatus> activeStatuses = List.of(AlertStatus.OPEN, AlertStatus.ESCALATED);
 
         // Get severity counts
-        Map<AlertSeverity, Long> severityCounts = getSeverityCounts(activeStatuses);
+        Map<AlertSeverity, Long> severityCounts = aggregateStore.countBySeverity(activeStatuses);
 
         // Get top offenders
-        List<TopDriverResponse> topDrivers = getTopDrivers(5, activeStatuses);
+        List<TopDriverResponse> topDrivers = aggregateStore.topActiveDrivers(5);
 
-        // Get recently auto-closed alerts
-        List<AlertResponse> recentlyAutoClosedAlerts = getRecentlyAutoClosedAlerts(24);
+        // Get recently auto-closed alerts (latest ones within the last 24 hours)
+        List<AlertResponse> recentlyAutoClosedAlerts =
+            aggregateStore.recentlyAutoClosed(LocalDateTime.now().minusHours(24));
 
         // Get recent alert events
-        List<AlertHistory> recentEvents = alertHistoryRepository.findTop100ByOrderByTimestampDesc();
+        List<AlertHistory> recentEvents = aggregateStore.recentEvents();
 
         // Get total counts
-        long totalOpen = alertRepository.countByStatus(AlertStatus.OPEN);
-        long totalEscalated = alertRepository.countByStatus(AlertStatus.ESCALATED);
-        long totalAutoClosed = alertRepository.countByStatus(AlertStatus.AUTO_CLOSED);
-        long totalResolved = alertRepository.countByStatus(AlertStatus.RESOLVED);
+        long totalOpen = aggregateStore.countByStatus(AlertStatus.OPEN);
+        long totalEscalated = aggregateStore.countByStatus(AlertStatus.ESCALATED);
+        long totalAutoClosed = aggregateStore.countByStatus(AlertStatus.AUTO_CLOSED);
+        long totalResolved = aggregateStore.countByStatus(AlertStatus.RESOLVED);
 
         return DashboardResponse.builder()
             .severityCounts(severityCounts)
@@ -77,58 +94,48 @@ public class DashboardService {
 
     /**
      * Get alert counts by severity
+     * Served from the in-memory aggregates, so it is not cached
      */
-    @Cacheable(value = "dashboard", key = "'severity'")
     public Map<AlertSeverity, Long> getSeverityCounts(List<AlertStatus> statuses) {
         log.debug("Getting severity counts");
-
-        List<Object[]> results = alertRepository.countBySeverityAndStatus(statuses);
-        Map<AlertSeverity, Long> counts = new HashMap<>();
-
-        // Initialize all severities with 0
-        for (AlertSeverity severity : AlertSeverity.values()) {
-            counts.put(severity, 0L);
-        }
-
-        // Populate with actual counts
-        for (Object[] result : results) {
-            AlertSeverity severity = (AlertSeverity) result[0];
-            Long count = ((Number) result[1]).longValue();
-            counts.put(severity, count);
-        }
-
-        return counts;
+        return aggregateStore.countBySeverity(statuses);
     }
 
     /**
      * Get top N drivers with most alerts
+     * Active statuses are served from the in-memory aggregates; other status sets use one
+     * grouped query limited to the top N drivers, read through CoalescingCache
+     * 
+     * Time Complexity: O(d log n) in memory, or one query returning at most n * severities rows
      * 
      * @param limit Number of top drivers to return
      * @param statuses Alert statuses to consider
      */
-    @Cacheable(value = "dashboard", key = "'topDrivers_' + #limit")
     public List<TopDriverResponse> getTopDrivers(int limit, List<AlertStatus> statuses) {
         log.debug("Getting top {} drivers", limit);
 
-        List<Object[]> results = alertRepository.findTopDriversByAlertCount(statuses);
-        
-        return results.stream()
-            .limit(limit)
-            .map(result -> {
-                String driverId = (String) result[0];
-                Long alertCount = ((Number) result[1]).longValue();
-                
-                // Get breakdown by severity for this driver
-                List<Alert> driverAlerts = alertRepository.findByDriverIdAndStatusIn(driverId, statuses);
-                Map<AlertSeverity, Long> severityBreakdown = driverAlerts.stream()
-                    .collect(Collectors.groupingBy(Alert::getSeverity, Collectors.counting()));
-
-                return TopDriverResponse.builder()
-                    .driverId(driverId)
-                    .totalAlerts(alertCount)
-                    .severityBreakdown(severityBreakdown)
-                    .build();
-            })
+        if (statuses.size() == 2 && statuses.containsAll(List.of(AlertStatus.OPEN, AlertStatus.ESCALATED))) {
+            return aggregateStore.topActiveDrivers(limit);
+        }
+        return coalescingCache.get(DASHBOARD_CACHE, List.of("topDrivers", limit, List.copyOf(statuses)),
+            () -> replicaReads.call(() -> loadTopDrivers(limit, statuses)));
+    }
+
+    private List<TopDriverResponse> loadTopDrivers(int limit, List<AlertStatus> statuses) {
+        Map<String, Map<AlertSeverity, Long>> breakdownByDriver = new HashMap<>();
+        for (DriverSeverityCount row : alertRepository.findTopDriverSeverityCounts(statuses, limit)) {
+            breakdownByDriver.computeIfAbsent(row.driverId(), k -> new EnumMap<>(AlertSeverity.class))
+                .put(row.severity(), row.count());
+        }
+
+        return breakdownByDriver.entrySet().stream()
+            .map(entry -> TopDriverResponse.builder()
+                .driverId(entry.getKey())
+                .totalAlerts(entry.getValue().values().stream().mapToLong(Long::longValue).sum())
+                .severityBreakdown(entry.getValue())
+                .build())
+            .sorted(Comparator.comparing(TopDriverResponse::getTotalAlerts).reversed()
+                .thenComparing(TopDriverResponse::getDriverId))
             .collect(Collectors.toList());
     }
 
@@ -141,20 +148,23 @@ public class DashboardService {
         log.debug("Getting recently auto-closed alerts from last {} hours", hours);
 
         LocalDateTime fromTime = LocalDateTime.now().minusHours(hours);
-        List<Alert> alerts = alertRepository.findRecentlyAutoClosedAlerts(fromTime);
-
-        return alerts.stream()
-            .map(AlertResponse::fromEntity)
-            .collect(Collectors.toList());
+        return replicaReads.call(() -> alertRepository.findRecentlyAutoClosedAlerts(fromTime).stream()
+            .map(AlertResponse::fromSummary)
+            .collect(Collectors.toList()));
     }
 
     /**
      * Get trend data over time
+     * Read through CoalescingCache; AlertCacheInvalidator counts new transitions into cached series
      * 
      * @param days Number of days to analyze
      */
-    @Cacheable(value = "dashboard", key = "'trends_' + #days")
     public List<TrendDataResponse> getTrendData(int days) {
+        return coalescingCache.get(DASHBOARD_CACHE, List.of("trends", days),
+            () -> replicaReads.call(() -> loadTrendData(days)));
+    }
+
+    private List<TrendDataResponse> loadTrendData(int days) {
         log.debug("Getting trend data for last {} days", days);
 
         LocalDateTime fromDate = LocalDateTime.now().minusDays(days);
@@ -181,45 +191,58 @@ public class DashboardService {
 
     /**
      * Get detailed alert drill-down information
-     * Includes history and metadata
+     * Includes history and metadata; alerts no longer in the database are read from the archive
+     * An alert missing on the replica (raised within its lag) is looked up on the primary before the archive;
+     * a miss served by the primary itself goes straight to the archive
      */
     public AlertResponse getAlertDrillDown(String alertId) {
         log.debug("Getting drill-down for alert: {}", alertId);
 
-        Alert alert = alertRepository.findById(alertId)
-            .orElseThrow(() -> new RuntimeException("Alert not found: " + alertId));
-
-        // Get alert history
-        List<AlertHistory> history = alertHistoryRepository.findByAlertIdOrderByTimestampAsc(alertId);
-
-        AlertResponse response = AlertResponse.fromEntity(alert);
-        response.setHistory(history);
+        return replicaReads.find(() -> loadDrillDown(alertId))
+            .orElseGet(() -> {
+                ArchivedAlert archived = archiveService.find(alertId)
+                    .orElseThrow(() -> new AlertNotFoundException("Alert not found: " + alertId));
+                AlertResponse response = AlertResponse.fromEntity(archived.alert());
+                response.setHistory(archived.history());
+                return response;
+            });
+    }
 
-        return response;
+    private Optional<AlertResponse> loadDrillDown(String alertId) {
+        return alertRepository.findByIdPruned(alertId).map(alert -> {
+            AlertResponse response = AlertResponse.fromEntity(alert);
+            response.setHistory(alertHistoryRepository.findByAlertIdPruned(alertId));
+            return response;
+        });
     }
 
     /**
      * Get alert statistics summary
+     * Read through CoalescingCache; AlertCacheInvalidator applies transition deltas to the cached entry
      */
-    @Cacheable(value = "dashboard", key = "'stats'")
     public Map<String, Object> getAlertStatistics() {
+        return coalescingCache.get(DASHBOARD_CACHE, "stats", this::loadAlertStatistics);
+    }
+
+    private Map<String, Object> loadAlertStatistics() {
         log.debug("Generating alert statistics");
 
         Map<String, Object> stats = new HashMap<>();
 
         // Count by status
         for (AlertStatus status : AlertStatus.values()) {
-            long count = alertRepository.countByStatus(status);
+            long count = aggregateStore.countByStatus(status);
             stats.put(status.name().toLowerCase() + "Count", count);
         }
 
         // Get active alerts
-        List<AlertStatus> activeStatuses = List.of(AlertStatus.OPEN, AlertStatus.ESCALATED);
-        long activeCount = alertRepository.findByStatusIn(activeStatuses).size();
+        long activeCount = aggregateStore.countByStatus(AlertStatus.OPEN)
+            + aggregateStore.countByStatus(AlertStatus.ESCALATED);
         stats.put("activeCount", activeCount);
 
         // Get severity distribution
-        Map<AlertSeverity, Long> severityCounts = getSeverityCounts(activeStatuses);
+        List<AlertStatus> activeStatuses = List.of(AlertStatus.OPEN, AlertStatus.ESCALATED);
+        Map<AlertSeverity, Long> severityCounts = aggregateStore.countBySeverity(activeStatuses);
         stats.put("severityDistribution", severityCounts);
 
         // Get recent activity
@@ -1,16 +1,41 @@
 package com.movesync.alert.service;
 
+import com.movesync.alert.domain.enums.AlertStatus;
+import com.movesync.alert.domain.enums.AlertType;
+import com.movesync.alert.domain.event.AlertTransitionsEvent;
+import com.movesync.alert.domain.event.AlertTransitionsEvent.Transition;
 import com.movesync.alert.domain.model.Alert;
+import com.movesync.alert.domain.model.AlertHistory;
+import com.movesync.alert.engine.CompiledRule;
 import com.movesync.alert.engine.RuleEngine;
+import com.movesync.alert.engine.SlidingWindowCounterStore;
+import com.movesync.alert.monitoring.AlertMetricsService;
+import com.movesync.alert.repository.AlertHistoryJdbcRepository;
 import com.movesync.alert.repository.AlertRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Service for evaluating rules and triggering escalations/auto-closures
@@ -18,7 +43,8 @@ import java.util.List;
  * 
  * Design Pattern: Strategy Pattern via RuleEngine
  * 
- * Time Complexity: O(n) where n = number of recent alerts for evaluation
+ * Time Complexity: O(1) for escalation evaluation (in-memory windows),
+ *                  O(b) for batch auto-close where b = batch size (constant number of queries)
  * Space Complexity: O(1) - only stores references
  */
 @Slf4j
@@ -29,127 +55,220 @@ public class RuleEvaluationService {
     private final RuleEngine ruleEngine;
     private final AlertRepository alertRepository;
     private final com.movesync.alert.repository.AlertHistoryRepository alertHistoryRepository;
+    private final AlertHistoryJdbcRepository alertHistoryJdbcRepository;
+    private final SlidingWindowCounterStore windowStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AlertMetricsService metricsService;
 
     /**
-     * Evaluate and escalate alert if rules are met
-     * Called when new alert is created
+     * Rebuild the in-memory escalation windows from the alerts table
+     * Runs once on startup so windows survive restarts
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuildEscalationWindows() {
+        Map<AlertType, Integer> windowMinutesByType = getEscalationWindowsByType();
+        if (windowMinutesByType.isEmpty()) {
+            log.warn("No escalation rules loaded, skipping escalation window rebuild");
+            return;
+        }
+
+        int maxWindowMinutes = Collections.max(windowMinutesByType.values());
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> occurrences = alertRepository.findOccurrencesSince(now.minusMinutes(maxWindowMinutes));
+
+        windowStore.clear();
+        int recorded = 0;
+        for (Object[] row : occurrences) {
+            AlertType alertType = (AlertType) row[1];
+            LocalDateTime timestamp = (LocalDateTime) row[3];
+            Integer windowMinutes = windowMinutesByType.get(alertType);
+            // Skip occurrences already outside their own rule window
+            if (windowMinutes == null || timestamp.isBefore(now.minusMinutes(windowMinutes))) {
+                continue;
+            }
+            windowStore.record(alertType, (String) row[2], (String) row[0], timestamp);
+            recorded++;
+        }
+
+        log.info("Rebuilt escalation windows: {} occurrences across {} driver/type keys (lookback {} minutes)",
+                recorded, windowStore.size(), maxWindowMinutes);
+    }
+
+    /**
+     * Drop escalation windows that no longer hold any occurrence
+     */
+    @Scheduled(fixedDelayString = "${alert.escalation.check-interval:60000}")
+    public void purgeExpiredEscalationWindows() {
+        int removed = windowStore.purgeExpired(getEscalationWindowsByType());
+        if (removed > 0) {
+            log.debug("Purged {} expired escalation windows, {} remaining", removed, windowStore.size());
+        }
+    }
+
+    /**
+     * Group newly created alerts by (driverId, alertType) window
+     * Alerts without a driver never share a window, so each forms its own group
      * 
-     * @param alert The newly created alert
+     * @param alerts Newly created alerts, in creation order
+     * @return Groups in first-seen order
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void evaluateAndEscalateIfNeeded(Alert alert) {
-        log.debug("Evaluating escalation rules for alert: {}", alert.getAlertId());
+    public List<List<Alert>> groupByWindow(List<Alert> alerts) {
+        Map<String, List<Alert>> groups = new LinkedHashMap<>();
+        for (Alert alert : alerts) {
+            String groupKey = alert.getDriverId() != null
+                ? alert.getAlertType() + "|" + alert.getDriverId()
+                : alert.getAlertId();
+            groups.computeIfAbsent(groupKey, k -> new ArrayList<>()).add(alert);
+        }
+        return new ArrayList<>(groups.values());
+    }
 
+    /**
+     * Evaluate stage: record a group of new alerts and decide whether their window escalates
+     * Runs entirely in memory against SlidingWindowCounterStore - no database access
+     * 
+     * @param group New alerts sharing the same (driverId, alertType) window
+     * @return Escalation plan if the rule fired, empty otherwise
+     */
+    public Optional<EscalationPlan> planEscalation(List<Alert> group) {
+        long startedAt = System.nanoTime();
         try {
-            // Get recent alerts of same type for same driver
-            var ruleOpt = ruleEngine.getRuleForAlertType(alert.getAlertType());
-            
-            if (ruleOpt.isEmpty()) {
-                log.debug("No rule found for alert type: {}", alert.getAlertType());
-                return;
-            }
+            return evaluateEscalation(group);
+        } finally {
+            metricsService.recordRuleEvaluation();
+            metricsService.recordRuleEvaluationTime(Duration.ofNanos(System.nanoTime() - startedAt));
+        }
+    }
 
-            int windowMinutes = ruleOpt.get().getWindowMinutes();
-            LocalDateTime windowStart = LocalDateTime.now().minusMinutes(windowMinutes);
-            
-            List<Alert> recentAlerts = alertRepository.findRecentAlertsByTypeAndDriver(
-                alert.getAlertType(),
-                alert.getDriverId(),
-                windowStart
-            );
-
-            log.debug("Found {} recent alerts from query for driver {} and type {}", 
-                     recentAlerts.size(), alert.getDriverId(), alert.getAlertType());
-
-            // IMPORTANT: Include the newly created alert in the evaluation
-            // Since we're in a new transaction (REQUIRES_NEW), we need to fetch it from DB
-            // to ensure it's a managed entity in this transaction context
-            Alert newAlertInTransaction = alertRepository.findById(alert.getAlertId()).orElse(null);
-            if (newAlertInTransaction != null) {
-                // Check if it's already in the list
-                boolean containsNewAlert = recentAlerts.stream()
-                    .anyMatch(a -> a.getAlertId().equals(alert.getAlertId()));
-                if (!containsNewAlert) {
-                    recentAlerts.add(newAlertInTransaction);
-                    log.info("Added newly created alert {} to recent alerts list. Total alerts for evaluation: {}", 
-                            alert.getAlertId(), recentAlerts.size());
-                } else {
-                    log.debug("Newly created alert {} already in recent alerts list", alert.getAlertId());
-                }
-            } else {
-                log.warn("Newly created alert {} not found in database. This might be due to transaction isolation.", 
-                        alert.getAlertId());
-                // Add the passed alert for evaluation, but we'll fetch it fresh when escalating
-                boolean containsNewAlert = recentAlerts.stream()
-                    .anyMatch(a -> a.getAlertId().equals(alert.getAlertId()));
-                if (!containsNewAlert) {
-                    recentAlerts.add(alert);
-                    log.info("Added passed alert {} to recent alerts list (not yet in DB). Total alerts for evaluation: {}", 
-                            alert.getAlertId(), recentAlerts.size());
-                }
-            }
+    private Optional<EscalationPlan> evaluateEscalation(List<Alert> group) {
+        Alert first = group.get(0);
+        AlertType alertType = first.getAlertType();
+        String driverId = first.getDriverId();
 
-            // Evaluate escalation with the complete list (including new alert)
-            log.debug("Evaluating escalation with {} total alerts (including newly created)", recentAlerts.size());
-            RuleEngine.EscalationDecision decision = 
-                ruleEngine.evaluateEscalation(alert.getAlertType(), recentAlerts);
+        // Record the occurrences first so they are counted even if the rule is added later
+        for (Alert alert : group) {
+            windowStore.record(alertType, driverId, alert.getAlertId(), alert.getTimestamp());
+        }
 
-            if (decision.shouldEscalate()) {
-                log.info("Escalation triggered! Alert {}: {}", 
-                        alert.getAlertId(), decision.getReason());
-                log.info("Escalating {} alerts to severity: {}", 
-                        recentAlerts.size(), decision.getNewSeverity());
-                
-                // Escalate all alerts in the window that are still OPEN (including the new one)
-                for (Alert recentAlert : recentAlerts) {
-                    // Always fetch fresh from DB to ensure we have a managed entity
-                    // This prevents primary key violations when saving
-                    Alert alertToEscalate = alertRepository.findById(recentAlert.getAlertId())
-                        .orElse(null);
-                    
-                    if (alertToEscalate == null) {
-                        log.warn("Alert {} not found in database, skipping escalation", recentAlert.getAlertId());
-                        continue;
-                    }
-                    
-                    if (alertToEscalate.getStatus().isActive() && 
-                        !alertToEscalate.getStatus().equals(
-                            com.movesync.alert.domain.enums.AlertStatus.ESCALATED)) {
-                        
-                        // Capture status before escalation for history
-                        com.movesync.alert.domain.enums.AlertStatus previousStatus = 
-                            alertToEscalate.getStatus();
-                        
-                        // Escalate the alert (this modifies the managed entity)
-                        alertToEscalate.escalate(decision.getNewSeverity(), decision.getReason());
-                        
-                        // Save the managed entity (this will UPDATE, not INSERT)
-                        alertRepository.save(alertToEscalate);
-                        
-                        // Create history entry for audit trail
-                        com.movesync.alert.domain.model.AlertHistory history = 
-                            com.movesync.alert.domain.model.AlertHistory.forEscalation(
-                                alertToEscalate.getAlertId(), 
-                                previousStatus,
-                                decision.getReason()
-                            );
-                        alertHistoryRepository.save(history);
-                        
-                        log.info("Escalated alert {} to {} - Status: {}, Severity: {}", 
-                                alertToEscalate.getAlertId(), 
-                                decision.getNewSeverity(),
-                                alertToEscalate.getStatus(),
-                                alertToEscalate.getSeverity());
-                    }
-                }
-            } else {
-                log.debug("No escalation needed: {}", decision.getReason());
+        long ruleQueryStartedAt = System.nanoTime();
+        var ruleOpt = ruleEngine.getRuleForAlertType(alertType);
+        
+        if (ruleOpt.isEmpty()) {
+            log.debug("No rule found for alert type: {}", alertType);
+            return Optional.empty();
+        }
+
+        int windowMinutes = ruleOpt.get().escalationWindowMinutes();
+
+        // Alerts without a driver never match other occurrences, so only the new alert counts
+        boolean hasDriver = driverId != null;
+        SlidingWindowCounterStore.WindowSnapshot window = hasDriver
+            ? windowStore.snapshot(alertType, driverId, windowMinutes)
+            : new SlidingWindowCounterStore.WindowSnapshot(1, first.getTimestamp(), first.getTimestamp());
+        metricsService.recordStep(AlertMetricsService.STEP_RULE_QUERY, System.nanoTime() - ruleQueryStartedAt);
+
+        log.debug("Window for driver {} and type {} holds {} alerts", 
+                 driverId, alertType, window.count());
+
+        RuleEngine.EscalationDecision decision = metricsService.timeStep(AlertMetricsService.STEP_EVALUATION,
+            () -> ruleEngine.evaluateEscalation(alertType, window));
+
+        if (!decision.shouldEscalate()) {
+            log.debug("No escalation needed: {}", decision.getReason());
+            return Optional.empty();
+        }
+
+        log.info("Escalation triggered for driver {} and type {}: {}", 
+                driverId, alertType, decision.getReason());
+
+        // Taken before the window is read, so every alert in it is at or after windowStart
+        LocalDateTime windowStart = hasDriver
+            ? LocalDateTime.now().minusMinutes(windowMinutes)
+            : first.getTimestamp();
+        List<String> alertIdsInWindow = hasDriver
+            ? windowStore.alertIdsInWindow(alertType, driverId, windowMinutes)
+            : List.of(first.getAlertId());
+
+        return Optional.of(new EscalationPlan(alertType, driverId, decision, alertIdsInWindow, windowStart));
+    }
+
+    /**
+     * Escalate stage: apply an escalation plan to the alerts in its window
+     * Called after the creating transaction has committed, so every alert in the plan is visible
+     * 
+     * Set-based whatever the window size: one SELECT for the window's alerts (their state before
+     * the update, for transition listeners), one bulk UPDATE of those still OPEN and one
+     * JDBC-batched history insert. Each statement is bounded by the window's timestamps so
+     * PostgreSQL only touches the partitions the window spans
+     * 
+     * Runs in its own transaction: under backpressure the pipeline runs this on the committing
+     * thread, inside the creating transaction's after-commit callback, where joining would find
+     * a finished transaction
+     * 
+     * @param plan Plan produced by planEscalation
+     * @return Number of alerts escalated
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int applyEscalation(EscalationPlan plan) {
+        RuleEngine.EscalationDecision decision = plan.decision();
+        Map<String, Alert> openAlerts = new LinkedHashMap<>();
+        LocalDateTime fromTimestamp = null;
+        LocalDateTime toTimestamp = null;
+        for (Alert alert : alertRepository.findAllByIdSince(plan.alertIds(), plan.windowStart())) {
+            if (alert.getStatus() == AlertStatus.OPEN) {
+                openAlerts.put(alert.getAlertId(), alert);
+                fromTimestamp = min(fromTimestamp, alert.getTimestamp());
+                toTimestamp = max(toTimestamp, alert.getTimestamp());
             }
+        }
+        if (openAlerts.isEmpty()) {
+            return 0;
+        }
 
-        } catch (Exception e) {
-            log.error("Error evaluating escalation for alert {}", alert.getAlertId(), e);
-            // Don't propagate exception - escalation failure shouldn't fail alert creation
+        log.info("Escalating {} alerts to severity: {}", openAlerts.size(), decision.getNewSeverity());
+
+        // Truncated so the escalatedAt lookup below matches the stored column precision
+        LocalDateTime escalatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        List<String> alertIds = new ArrayList<>(openAlerts.keySet());
+        int updated = alertRepository.bulkEscalate(alertIds, fromTimestamp, toTimestamp,
+            AlertStatus.OPEN, AlertStatus.ESCALATED, decision.getNewSeverity(), decision.getReason(), escalatedAt);
+
+        // Another writer changed some of these alerts first: audit only the ones escalated here
+        List<String> escalatedIds = updated == alertIds.size()
+            ? alertIds
+            : alertRepository.findIdsEscalatedAt(alertIds, fromTimestamp, toTimestamp,
+                AlertStatus.ESCALATED, escalatedAt);
+
+        List<AlertHistory> histories = new ArrayList<>(escalatedIds.size());
+        List<Transition> transitions = new ArrayList<>(escalatedIds.size());
+        for (String alertId : escalatedIds) {
+            Alert alert = openAlerts.get(alertId);
+            AlertHistory history = AlertHistory.forEscalation(alertId, AlertStatus.OPEN, decision.getReason());
+            history.setTimestamp(escalatedAt);
+            histories.add(history);
+            transitions.add(new Transition(alert, AlertStatus.OPEN, alert.getSeverity(),
+                decision.getNewSeverity(), history));
+        }
+        if (!transitions.isEmpty()) {
+            alertHistoryJdbcRepository.insertAll(histories);
+            eventPublisher.publishEvent(new AlertTransitionsEvent(transitions));
+        }
+
+        log.info("Escalated {} alerts of driver {} and type {} to {}",
+                transitions.size(), plan.driverId(), plan.alertType(), decision.getNewSeverity());
+        return transitions.size();
+    }
+
+    /**
+     * Current escalation window (minutes) per alert type, from the loaded rules
+     */
+    private Map<AlertType, Integer> getEscalationWindowsByType() {
+        Map<AlertType, Integer> windows = new EnumMap<>(AlertType.class);
+        for (CompiledRule rule : ruleEngine.getAllRules()) {
+            windows.put(rule.alertType(), rule.escalationWindowMinutes());
         }
+        return windows;
     }
 
     /**
@@ -165,7 +284,7 @@ public class RuleEvaluationService {
         try {
             // Always fetch fresh from DB to ensure we have a managed entity
             // This prevents issues when called from a different transaction
-            Alert alertToEvaluate = alertRepository.findById(alert.getAlertId())
+            Alert alertToEvaluate = alertRepository.findByIdPruned(alert.getAlertId())
                 .orElse(null);
             
             if (alertToEvaluate == null) {
@@ -188,15 +307,17 @@ public class RuleEvaluationService {
 
             LocalDateTime windowStart = alertToEvaluate.getTimestamp();
             
-            List<Alert> recentAlerts = alertRepository.findRecentAlertsByTypeAndDriver(
-                alertToEvaluate.getAlertType(),
-                alertToEvaluate.getDriverId(),
-                windowStart
-            );
+            List<Alert> recentAlerts = metricsService.timeStep(AlertMetricsService.STEP_RULE_QUERY, () ->
+                alertRepository.findRecentAlertsByTypeAndDriver(
+                    alertToEvaluate.getAlertType(),
+                    alertToEvaluate.getDriverId(),
+                    windowStart
+                ));
 
             // Evaluate auto-close
-            RuleEngine.AutoCloseDecision decision = 
-                ruleEngine.evaluateAutoClose(alertToEvaluate, recentAlerts);
+            metricsService.recordRuleEvaluation();
+            RuleEngine.AutoCloseDecision decision = metricsService.timeStep(AlertMetricsService.STEP_EVALUATION,
+                () -> ruleEngine.evaluateAutoClose(alertToEvaluate, recentAlerts));
 
             if (decision.shouldClose()) {
                 log.info("Auto-close needed for alert {}: {}", 
@@ -216,7 +337,10 @@ public class RuleEvaluationService {
                         previousStatus,
                         decision.getReason()
                     );
+                history.setTimestamp(alertToEvaluate.getClosedAt());
                 alertHistoryRepository.save(history);
+                eventPublisher.publishEvent(AlertTransitionsEvent.of(new Transition(alertToEvaluate,
+                    previousStatus, alertToEvaluate.getSeverity(), alertToEvaluate.getSeverity(), history)));
 
                 log.info("Auto-closed alert: {} - Reason: {}", alertToEvaluate.getAlertId(), decision.getReason());
             } else {
@@ -234,34 +358,149 @@ public class RuleEvaluationService {
      * Used by background job
      * Idempotent: Safe to run multiple times
      * 
-     * @param alerts List of alerts to evaluate
-     * @return Number of alerts auto-closed
+     * Set-based: one grouped query for the latest repeat per (driverId, alertType), rule
+     * evaluation in memory, one bulk UPDATE per (closure reason, previous status) group (bounded
+     * by the group's timestamps, for partition pruning) and one JDBC-batched history insert
+     * 
+     * @param alerts List of alerts to evaluate (may be detached)
+     * @return Ids of the alerts auto-closed here
      */
-    public int batchEvaluateAutoClose(List<Alert> alerts) {
+    @Transactional
+    public Set<String> batchEvaluateAutoClose(List<Alert> alerts) {
         log.info("Batch evaluating auto-close for {} alerts", alerts.size());
-        
-        int closedCount = 0;
-        for (Alert alert : alerts) {
-            try {
-                com.movesync.alert.domain.enums.AlertStatus statusBefore = alert.getStatus();
-                evaluateAutoCloseIfNeeded(alert);
-                
-                // Refresh alert to check if status changed
-                Alert refreshed = alertRepository.findById(alert.getAlertId()).orElse(null);
-                if (refreshed != null && 
-                    statusBefore.isActive() && 
-                    refreshed.getStatus().isClosed()) {
-                    closedCount++;
-                }
-            } catch (Exception e) {
-                log.error("Error in batch auto-close for alert {}", alert.getAlertId(), e);
-                // Continue with next alert
+
+        List<Alert> activeAlerts = alerts.stream()
+            .filter(alert -> alert.getStatus().isActive())
+            .toList();
+        if (activeAlerts.isEmpty()) {
+            return Set.of();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, LocalDateTime> lastOccurrenceByKey = metricsService.timeStep(AlertMetricsService.STEP_RULE_QUERY,
+            () -> findLastOccurrences(activeAlerts, now));
+
+        // Group closable alerts so each group is closed by a single UPDATE
+        long evaluationStartedAt = System.nanoTime();
+        Map<AutoCloseGroup, ClosableAlerts> closable = new LinkedHashMap<>();
+        for (Alert alert : activeAlerts) {
+            LocalDateTime lastOccurrence = alert.getTimestamp();
+            LocalDateTime latestRepeat = lastOccurrenceByKey.get(alert.getAlertType() + "|" + alert.getDriverId());
+            if (latestRepeat != null && latestRepeat.isAfter(lastOccurrence)) {
+                lastOccurrence = latestRepeat;
+            }
+
+            RuleEngine.AutoCloseDecision decision = ruleEngine.evaluateAutoClose(alert, lastOccurrence);
+            if (decision.shouldClose()) {
+                closable.computeIfAbsent(new AutoCloseGroup(decision.getReason(), alert.getStatus()),
+                    k -> new ClosableAlerts()).add(alert);
+            } else {
+                log.debug("No auto-close needed for alert {}: {}", alert.getAlertId(), decision.getReason());
             }
         }
-        
+        metricsService.recordStep(AlertMetricsService.STEP_EVALUATION, System.nanoTime() - evaluationStartedAt);
+        metricsService.recordRuleEvaluations(activeAlerts.size());
+
+        Map<String, Alert> alertsById = new HashMap<>();
+        for (Alert alert : activeAlerts) {
+            alertsById.put(alert.getAlertId(), alert);
+        }
+
+        // Truncated so the closedAt lookup below matches the stored column precision
+        LocalDateTime closedAt = now.truncatedTo(ChronoUnit.MILLIS);
+        List<AlertHistory> histories = new ArrayList<>();
+        List<Transition> transitions = new ArrayList<>();
+        Set<String> closedAlertIds = new HashSet<>();
+        closable.forEach((group, members) -> {
+            List<String> alertIds = members.alertIds;
+            int updated = alertRepository.bulkAutoClose(alertIds, members.fromTimestamp, members.toTimestamp,
+                group.fromStatus(), AlertStatus.AUTO_CLOSED, group.reason(), closedAt);
+
+            // Another writer changed some of these alerts first: audit only the ones closed here
+            List<String> closedIds = updated == alertIds.size()
+                ? alertIds
+                : alertRepository.findIdsClosedAt(alertIds, members.fromTimestamp, members.toTimestamp,
+                    AlertStatus.AUTO_CLOSED, closedAt);
+            for (String alertId : closedIds) {
+                AlertHistory history = AlertHistory.forAutoClosure(alertId, group.fromStatus(), group.reason());
+                history.setTimestamp(closedAt);
+                Alert alert = alertsById.get(alertId);
+                histories.add(history);
+                transitions.add(new Transition(alert, group.fromStatus(), alert.getSeverity(), alert.getSeverity(), history));
+                closedAlertIds.add(alertId);
+            }
+        });
+        alertHistoryJdbcRepository.insertAll(histories);
+        if (!transitions.isEmpty()) {
+            eventPublisher.publishEvent(new AlertTransitionsEvent(transitions));
+        }
+
         log.info("Batch auto-close completed: {} alerts closed out of {} evaluated", 
-                closedCount, alerts.size());
-        return closedCount;
+                histories.size(), alerts.size());
+        return closedAlertIds;
     }
-}
 
+    /**
+     * Latest occurrence per "type|driver" key for the given alerts, in one grouped query
+     */
+    private Map<String, LocalDateTime> findLastOccurrences(List<Alert> alerts, LocalDateTime now) {
+        Set<AlertType> alertTypes = EnumSet.noneOf(AlertType.class);
+        Set<String> driverIds = new HashSet<>();
+        for (Alert alert : alerts) {
+            if (alert.getDriverId() != null) {
+                alertTypes.add(alert.getAlertType());
+                driverIds.add(alert.getDriverId());
+            }
+        }
+        if (driverIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, LocalDateTime> lastOccurrences = new HashMap<>();
+        for (Object[] row : alertRepository.findLatestOccurrencesByTypeAndDriver(alertTypes, driverIds, now)) {
+            lastOccurrences.put(row[0] + "|" + row[1], (LocalDateTime) row[2]);
+        }
+        return lastOccurrences;
+    }
+
+    private static LocalDateTime min(LocalDateTime current, LocalDateTime candidate) {
+        return current == null || candidate.isBefore(current) ? candidate : current;
+    }
+
+    private static LocalDateTime max(LocalDateTime current, LocalDateTime candidate) {
+        return current == null || candidate.isAfter(current) ? candidate : current;
+    }
+
+    /**
+     * Escalation to apply to the alerts of one (driverId, alertType) window
+     * windowStart bounds the timestamps of the alerts in it
+     */
+    public record EscalationPlan(AlertType alertType,
+                                 String driverId,
+                                 RuleEngine.EscalationDecision decision,
+                                 List<String> alertIds,
+                                 LocalDateTime windowStart) {
+    }
+
+    /**
+     * Alerts closed together by one bulk UPDATE
+     */
+    private record AutoCloseGroup(String reason, AlertStatus fromStatus) {
+    }
+
+    /**
+     * Ids of the alerts in an AutoCloseGroup, with the range of their timestamps
+     */
+    private static final class ClosableAlerts {
+
+        private final List<String> alertIds = new ArrayList<>();
+        private LocalDateTime fromTimestamp;
+        private LocalDateTime toTimestamp;
+
+        void add(Alert alert) {
+            alertIds.add(alert.getAlertId());
+            fromTimestamp = min(fromTimestamp, alert.getTimestamp());
+            toTimestamp = max(toTimestamp, alert.getTimestamp());
+        }
+    }
+}
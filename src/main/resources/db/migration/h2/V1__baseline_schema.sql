@@ -0,0 +1,68 @@
+-- Baseline: the schema Hibernate generated (ddl-auto: update) before migrations owned the DDL.
+-- Databases created that way are baselined at this version (spring.flyway.baseline-on-migrate)
+-- and start with V2.
+
+CREATE TABLE alerts (
+    alert_id          VARCHAR(255) NOT NULL,
+    alert_type        VARCHAR(50)  NOT NULL CHECK (alert_type IN ('OVERSPEEDING', 'HARSH_BRAKING', 'HARSH_ACCELERATION',
+                          'ROUTE_DEVIATION', 'COMPLIANCE_DOCUMENT_EXPIRY', 'COMPLIANCE_LICENSE_INVALID',
+                          'COMPLIANCE_INSURANCE_EXPIRY', 'FEEDBACK_NEGATIVE', 'FEEDBACK_COMPLAINT',
+                          'MAINTENANCE_OVERDUE', 'FUEL_THEFT')),
+    severity          VARCHAR(20)  NOT NULL CHECK (severity IN ('INFO', 'WARNING', 'CRITICAL')),
+    timestamp         TIMESTAMP(6) NOT NULL,
+    status            VARCHAR(20)  NOT NULL CHECK (status IN ('OPEN', 'ESCALATED', 'AUTO_CLOSED', 'RESOLVED')),
+    driver_id         VARCHAR(100),
+    vehicle_id        VARCHAR(100),
+    route_id          VARCHAR(100),
+    metadata          JSON,
+    escalated_at      TIMESTAMP(6),
+    escalation_reason VARCHAR(500),
+    closed_at         TIMESTAMP(6),
+    closure_reason    VARCHAR(500),
+    closed_by         VARCHAR(100),
+    created_at        TIMESTAMP(6) NOT NULL,
+    updated_at        TIMESTAMP(6),
+    version           BIGINT,
+    PRIMARY KEY (alert_id)
+);
+
+CREATE INDEX idx_alert_status ON alerts (status);
+CREATE INDEX idx_alert_type ON alerts (alert_type);
+CREATE INDEX idx_alert_driver ON alerts (driver_id);
+CREATE INDEX idx_alert_timestamp ON alerts (timestamp);
+CREATE INDEX idx_alert_severity ON alerts (severity);
+
+CREATE TABLE alert_history (
+    history_id  VARCHAR(255)  NOT NULL,
+    alert_id    VARCHAR(255)  NOT NULL,
+    from_status VARCHAR(20)   CHECK (from_status IN ('OPEN', 'ESCALATED', 'AUTO_CLOSED', 'RESOLVED')),
+    to_status   VARCHAR(20)   NOT NULL CHECK (to_status IN ('OPEN', 'ESCALATED', 'AUTO_CLOSED', 'RESOLVED')),
+    timestamp   TIMESTAMP(6)  NOT NULL,
+    reason      VARCHAR(1000),
+    changed_by  VARCHAR(100),
+    event_type  VARCHAR(50),
+    PRIMARY KEY (history_id)
+);
+
+CREATE INDEX idx_history_alert ON alert_history (alert_id);
+CREATE INDEX idx_history_timestamp ON alert_history (timestamp);
+
+CREATE TABLE users (
+    user_id        VARCHAR(255) NOT NULL,
+    username       VARCHAR(50)  NOT NULL UNIQUE,
+    email          VARCHAR(100) NOT NULL UNIQUE,
+    password       VARCHAR(255) NOT NULL,
+    full_name      VARCHAR(100),
+    enabled        BOOLEAN,
+    account_locked BOOLEAN,
+    created_at     TIMESTAMP(6) NOT NULL,
+    updated_at     TIMESTAMP(6),
+    last_login     TIMESTAMP(6),
+    PRIMARY KEY (user_id)
+);
+
+CREATE TABLE user_roles (
+    user_id VARCHAR(255) NOT NULL,
+    role    VARCHAR(255),
+    CONSTRAINT fk_user_roles_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+);
@@ -0,0 +1,36 @@
+-- Composite indexes matching the repository query shapes (see AlertRepository, AlertHistoryRepository).
+-- Each replaced single-column index is a prefix of a new one, so nothing loses index support.
+
+-- findRecentAlertsByTypeAndDriver (type = ? AND driver = ? AND timestamp >= ? ORDER BY timestamp DESC),
+-- findLatestOccurrencesByTypeAndDriver, findLatestOccurrencesSince (GROUP BY type, driver)
+CREATE INDEX idx_alert_type_driver_ts ON alerts (alert_type, driver_id, timestamp DESC);
+
+-- findAlertsEligibleForAutoClosure, findByStatus(In), findOccurrencesByStatusIn, countByStatus,
+-- findPageAfter / streamByStatus with a status (ORDER BY timestamp DESC, alert_id DESC)
+CREATE INDEX idx_alert_status_ts ON alerts (status, timestamp DESC, alert_id DESC);
+
+-- findPageAfter / streamByStatus without a status, findOccurrencesSince, retention (timestamp < ?)
+CREATE INDEX idx_alert_ts_id ON alerts (timestamp DESC, alert_id DESC);
+
+-- findByDriverIdAndStatusIn
+CREATE INDEX idx_alert_driver_status ON alerts (driver_id, status);
+
+-- countByStatusAndSeverity, findByStatusAndSeverity, countByDriverAndSeverity, findTopDriverSeverityCounts
+CREATE INDEX idx_alert_status_severity ON alerts (status, severity, driver_id);
+
+-- findRecentlyAutoClosedAlerts, findTop100ByStatusAndClosedAtNotNullOrderByClosedAtDesc, findClosedBefore (archive)
+CREATE INDEX idx_alert_status_closed ON alerts (status, closed_at);
+
+DROP INDEX IF EXISTS idx_alert_status;
+DROP INDEX IF EXISTS idx_alert_type;
+DROP INDEX IF EXISTS idx_alert_driver;
+DROP INDEX IF EXISTS idx_alert_timestamp;
+DROP INDEX IF EXISTS idx_alert_severity;
+
+-- findByAlertIdOrderByTimestampAsc (drill-down, history endpoint), findByAlertIdIn / deleteByAlertIdIn (archive)
+CREATE INDEX idx_history_alert_ts ON alert_history (alert_id, timestamp);
+
+-- findByEventTypeAndTimestampBetween
+CREATE INDEX idx_history_event_ts ON alert_history (event_type, timestamp);
+
+DROP INDEX IF EXISTS idx_history_alert;
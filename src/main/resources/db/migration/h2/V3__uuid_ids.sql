@@ -0,0 +1,7 @@
+-- Alert and history ids become native UUIDs (16 bytes per key and index entry instead of a
+-- 36-character varchar). Existing ids are random UUID strings and convert in place; new ids are
+-- time-ordered UUIDv7 (see UuidV7). The API keeps the canonical string form.
+
+ALTER TABLE alerts ALTER COLUMN alert_id SET DATA TYPE UUID;
+ALTER TABLE alert_history ALTER COLUMN history_id SET DATA TYPE UUID;
+ALTER TABLE alert_history ALTER COLUMN alert_id SET DATA TYPE UUID;
@@ -0,0 +1,8 @@
+-- Alert metadata becomes a tagged binary value (see MetadataCodec): one format byte, then the body.
+-- Existing JSON is kept as is under the JSON tag (1), so every row stays readable; MetadataReencodeJob
+-- then rewrites rows into the configured compact format (alert.metadata.format) in small batches.
+
+ALTER TABLE alerts ADD COLUMN metadata_encoded VARBINARY;
+UPDATE alerts SET metadata_encoded = X'01' || CAST(metadata AS VARBINARY) WHERE metadata IS NOT NULL;
+ALTER TABLE alerts DROP COLUMN metadata;
+ALTER TABLE alerts ALTER COLUMN metadata_encoded RENAME TO metadata;
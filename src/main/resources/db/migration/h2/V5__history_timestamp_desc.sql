@@ -0,0 +1,7 @@
+-- H2 only reads an index in its declared order: newest-first history reads (findTop100ByOrderByTimestampDesc,
+-- findRecentEvents) scanned the table and sorted. A descending index serves them and the range queries the
+-- ascending one served (countEventsByType, retention). PostgreSQL scans indexes backwards, so it has no V5.
+
+CREATE INDEX idx_history_ts_desc ON alert_history (timestamp DESC);
+
+DROP INDEX IF EXISTS idx_history_timestamp;
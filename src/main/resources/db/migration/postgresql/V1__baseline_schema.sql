@@ -0,0 +1,89 @@
+-- Baseline: time-partitioned alert storage (PostgreSQL 11+)
+--
+-- DataRetentionScheduler creates the dated partitions (alerts_pYYYYMMDD, alert_history_pYYYYMMDD)
+-- on startup and daily, and drops them once they fall outside alert.retention.days.
+--
+-- Databases created by Hibernate (ddl-auto: update) before migrations owned the DDL are baselined
+-- at this version (spring.flyway.baseline-on-migrate) and keep their unpartitioned tables, which
+-- retention then handles with chunked deletes. To convert one: rename the old tables and drop their
+-- idx_* indexes, run this script and V2 by hand, start the application once so the current
+-- partitions exist, copy the rows across
+-- (INSERT INTO alerts SELECT * FROM alerts_old; likewise for alert_history) and drop the old tables.
+-- Rows older than the created partitions land in the DEFAULT partition and are removed by the
+-- chunked retention delete.
+
+-- The partition key must be part of every unique constraint, so the primary keys include timestamp.
+-- Trade-offs, JPA still uses alert_id / history_id as the identifier:
+-- - Uniqueness: the database no longer enforces unique alert_id / history_id, only unique
+--   (id, timestamp). Ids are unique because the application generates them (UUIDv7, 74 random bits
+--   per millisecond); rows inserted with a chosen id are not checked against other partitions.
+-- - Lookup cost: a statement on alert_id alone (WHERE alert_id = ? / IN (...)) cannot prune and
+--   probes the id index of every partition, retention days + partitions ahead + DEFAULT (~98 with
+--   the defaults). The repositories bound the timestamp wherever it is known, and derive it from
+--   the time carried by the id otherwise (AlertPartitionKey); entity UPDATEs include it
+--   (@PartitionKey).
+CREATE TABLE alerts (
+    alert_id          VARCHAR(255) NOT NULL,
+    alert_type        VARCHAR(50)  NOT NULL,
+    severity          VARCHAR(20)  NOT NULL,
+    timestamp         TIMESTAMP(6) NOT NULL,
+    status            VARCHAR(20)  NOT NULL,
+    driver_id         VARCHAR(100),
+    vehicle_id        VARCHAR(100),
+    route_id          VARCHAR(100),
+    metadata          JSON,
+    escalated_at      TIMESTAMP(6),
+    escalation_reason VARCHAR(500),
+    closed_at         TIMESTAMP(6),
+    closure_reason    VARCHAR(500),
+    closed_by         VARCHAR(100),
+    created_at        TIMESTAMP(6) NOT NULL,
+    updated_at        TIMESTAMP(6),
+    version           BIGINT,
+    PRIMARY KEY (alert_id, timestamp)
+) PARTITION BY RANGE (timestamp);
+
+CREATE TABLE alerts_default PARTITION OF alerts DEFAULT;
+
+CREATE INDEX idx_alert_status ON alerts (status);
+CREATE INDEX idx_alert_type ON alerts (alert_type);
+CREATE INDEX idx_alert_driver ON alerts (driver_id);
+CREATE INDEX idx_alert_timestamp ON alerts (timestamp);
+CREATE INDEX idx_alert_severity ON alerts (severity);
+
+CREATE TABLE alert_history (
+    history_id  VARCHAR(255) NOT NULL,
+    alert_id    VARCHAR(255) NOT NULL,
+    from_status VARCHAR(20),
+    to_status   VARCHAR(20)  NOT NULL,
+    timestamp   TIMESTAMP(6) NOT NULL,
+    reason      VARCHAR(1000),
+    changed_by  VARCHAR(100),
+    event_type  VARCHAR(50),
+    PRIMARY KEY (history_id, timestamp)
+) PARTITION BY RANGE (timestamp);
+
+CREATE TABLE alert_history_default PARTITION OF alert_history DEFAULT;
+
+CREATE INDEX idx_history_alert ON alert_history (alert_id);
+CREATE INDEX idx_history_timestamp ON alert_history (timestamp);
+
+CREATE TABLE users (
+    user_id        VARCHAR(255) NOT NULL,
+    username       VARCHAR(50)  NOT NULL UNIQUE,
+    email          VARCHAR(100) NOT NULL UNIQUE,
+    password       VARCHAR(255) NOT NULL,
+    full_name      VARCHAR(100),
+    enabled        BOOLEAN,
+    account_locked BOOLEAN,
+    created_at     TIMESTAMP(6) NOT NULL,
+    updated_at     TIMESTAMP(6),
+    last_login     TIMESTAMP(6),
+    PRIMARY KEY (user_id)
+);
+
+CREATE TABLE user_roles (
+    user_id VARCHAR(255) NOT NULL,
+    role    VARCHAR(255),
+    CONSTRAINT fk_user_roles_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+);
@@ -0,0 +1,49 @@
+-- Composite, covering and partial indexes matching the repository query shapes
+-- (see AlertRepository, AlertHistoryRepository). Each replaced single-column index is a prefix
+-- of a new one. On partitioned tables every index is created on each partition.
+
+-- findRecentAlertsByTypeAndDriver (type = ? AND driver = ? AND timestamp >= ? ORDER BY timestamp DESC),
+-- findLatestOccurrencesByTypeAndDriver, findLatestOccurrencesSince (GROUP BY type, driver)
+CREATE INDEX idx_alert_type_driver_ts ON alerts (alert_type, driver_id, timestamp DESC);
+
+-- findByStatus(In), findOccurrencesByStatusIn, countByStatus,
+-- findPageAfter / streamByStatus with a status (ORDER BY timestamp DESC, alert_id DESC)
+CREATE INDEX idx_alert_status_ts ON alerts (status, timestamp DESC, alert_id DESC);
+
+-- findPageAfter / streamByStatus without a status, retention (timestamp < ?);
+-- covers findOccurrencesSince (alert_id, alert_type, driver_id, timestamp) as an index-only scan
+CREATE INDEX idx_alert_ts_id ON alerts (timestamp DESC, alert_id DESC) INCLUDE (alert_type, driver_id);
+
+-- findByDriverIdAndStatusIn
+CREATE INDEX idx_alert_driver_status ON alerts (driver_id, status);
+
+-- countByStatusAndSeverity, findByStatusAndSeverity
+CREATE INDEX idx_alert_status_severity ON alerts (status, severity, driver_id);
+
+-- findTop100ByStatusAndClosedAtNotNullOrderByClosedAtDesc, findClosedBefore (archive)
+CREATE INDEX idx_alert_status_closed ON alerts (status, closed_at);
+
+-- Active alerts are a small fraction of the table; partial indexes keep their lookups small.
+-- findAlertsEligibleForAutoClosure (status IN ('OPEN', 'ESCALATED') AND timestamp < ?)
+CREATE INDEX idx_alert_active_ts ON alerts (timestamp) WHERE status IN ('OPEN', 'ESCALATED');
+
+-- countByDriverAndSeverity, findTopDriverSeverityCounts (dashboard top offenders)
+CREATE INDEX idx_alert_active_driver ON alerts (driver_id, severity)
+    WHERE status IN ('OPEN', 'ESCALATED') AND driver_id IS NOT NULL;
+
+-- findRecentlyAutoClosedAlerts (status = 'AUTO_CLOSED' AND closed_at >= ? ORDER BY closed_at DESC)
+CREATE INDEX idx_alert_auto_closed ON alerts (closed_at) WHERE status = 'AUTO_CLOSED';
+
+DROP INDEX IF EXISTS idx_alert_status;
+DROP INDEX IF EXISTS idx_alert_type;
+DROP INDEX IF EXISTS idx_alert_driver;
+DROP INDEX IF EXISTS idx_alert_timestamp;
+DROP INDEX IF EXISTS idx_alert_severity;
+
+-- findByAlertIdOrderByTimestampAsc (drill-down, history endpoint), findByAlertIdIn / deleteByAlertIdIn (archive)
+CREATE INDEX idx_history_alert_ts ON alert_history (alert_id, timestamp);
+
+-- findByEventTypeAndTimestampBetween
+CREATE INDEX idx_history_event_ts ON alert_history (event_type, timestamp);
+
+DROP INDEX IF EXISTS idx_history_alert;
@@ -0,0 +1,9 @@
+-- Alert and history ids become native UUIDs (16 bytes per key and index entry instead of a
+-- 36-character varchar). Existing ids are random UUID strings and convert in place; new ids are
+-- time-ordered UUIDv7 (see UuidV7). The API keeps the canonical string form.
+-- Rewrites both tables (every partition) and their indexes; run during a quiet period on large databases.
+
+ALTER TABLE alerts ALTER COLUMN alert_id TYPE uuid USING alert_id::uuid;
+ALTER TABLE alert_history
+    ALTER COLUMN history_id TYPE uuid USING history_id::uuid,
+    ALTER COLUMN alert_id TYPE uuid USING alert_id::uuid;
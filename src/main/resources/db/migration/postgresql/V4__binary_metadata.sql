@@ -0,0 +1,7 @@
+-- Alert metadata becomes a tagged binary value (see MetadataCodec): one format byte, then the body.
+-- Existing JSON is kept as is under the JSON tag (1), so every row stays readable; MetadataReencodeJob
+-- then rewrites rows into the configured compact format (alert.metadata.format) in small batches.
+-- Rewrites the table (every partition); run during a quiet period on large databases.
+
+ALTER TABLE alerts ALTER COLUMN metadata TYPE bytea
+    USING CASE WHEN metadata IS NULL THEN NULL ELSE '\x01'::bytea || convert_to(metadata::text, 'UTF8') END;
@@ -4,6 +4,15 @@ const API_BASE = '/api/v1';
 // Store JWT token
 let authToken = null;
 
+// Last loaded snapshots, kept current by live alert events
+let dashboardState = null;
+let activeAlerts = null; // alertId -> alert while the active list is shown
+
+// Live event stream
+let eventStream = null; // AbortController of the open stream
+let streamConnected = false;
+let dashboardResyncTimer = null;
+
 // Initialize
 document.addEventListener('DOMContentLoaded', function() {
     // Check if already logged in
@@ -12,6 +21,7 @@ document.addEventListener('DOMContentLoaded', function() {
         authToken = token;
         showMainApp();
         loadDashboard();
+        startEventStream();
     }
 });
 
@@ -36,6 +46,7 @@ async function login() {
             localStorage.setItem('authToken', authToken);
             showMainApp();
             loadDashboard();
+            startEventStream();
             showMessage('loginMessage', 'Login successful!', 'success');
         } else {
             showMessage('loginMessage', 'Login failed: ' + data.message, 'error');
@@ -47,6 +58,7 @@ async function login() {
 
 // Logout
 function logout() {
+    stopEventStream();
     authToken = null;
     localStorage.removeItem('authToken');
     document.getElementById('loginSection').classList.remove('hidden');
@@ -103,7 +115,8 @@ async function loadDashboard() {
         const data = await response.json();
         
         if (data.success) {
-            displayDashboard(data.data);
+            dashboardState = data.data;
+            displayDashboard(dashboardState);
         }
     } catch (error) {
         console.error('Error loading dashboard:', error);
@@ -176,22 +189,12 @@ async function loadActiveAlerts() {
         
         const data = await response.json();
         
-        if (data.success && data.data.length > 0) {
-            let html = '';
-            data.data.forEach(alert => {
-                html += createAlertCard(alert, true);
-            });
-            document.getElementById('alertsList').innerHTML = html;
-        } else {
-            document.getElementById('alertsList').innerHTML = `
-                <div style="text-align: center; padding: 60px; background: #f8f9fa; border-radius: 8px; border: 1px solid #e1e8ed;">
-                    <div style="font-size: 3em; margin-bottom: 16px; opacity: 0.3;">📭</div>
-                    <p style="color: #7f8c8d; font-size: 1.1em;">No active alerts found</p>
-                    <p style="color: #95a5a6; font-size: 0.9em; margin-top: 8px;">All systems operating normally</p>
-                </div>
-            `;
+        if (data.success) {
+            activeAlerts = new Map(data.data.map(alert => [alert.alertId, alert]));
+            displayActiveAlerts();
         }
     } catch (error) {
+        activeAlerts = null;
         document.getElementById('alertsList').innerHTML = `
             <div style="background: #fee; padding: 20px; border-radius: 6px; border-left: 4px solid #e74c3c;">
                 <p style="color: #c0392b;">Error loading alerts. Please try again.</p>
@@ -200,13 +203,33 @@ async function loadActiveAlerts() {
     }
 }
 
+// Display Active Alerts
+function displayActiveAlerts() {
+    if (activeAlerts.size > 0) {
+        let html = '';
+        activeAlerts.forEach(alert => {
+            html += createAlertCard(alert, true);
+        });
+        document.getElementById('alertsList').innerHTML = html;
+    } else {
+            document.getElementById('alertsList').innerHTML = `
+                <div style="text-align: center; padding: 60px; background: #f8f9fa; border-radius: 8px; border: 1px solid #e1e8ed;">
+                    <div style="font-size: 3em; margin-bottom: 16px; opacity: 0.3;">📭</div>
+                    <p style="color: #7f8c8d; font-size: 1.1em;">No active alerts found</p>
+                    <p style="color: #95a5a6; font-size: 0.9em; margin-top: 8px;">All systems operating normally</p>
+                </div>
+            `;
+    }
+}
+
 // Create Alert Card
 function createAlertCard(alert, showActions = false) {
     const severityClass = alert.severity.toLowerCase();
     const statusBadge = `<span class="badge ${alert.status.toLowerCase().replace('_', '-')}">${alert.status.replace('_', ' ')}</span>`;
     const severityBadge = `<span class="badge ${severityClass}">${alert.severity}</span>`;
     
-    const metadata = alert.metadata ? JSON.stringify(alert.metadata, null, 2) : 'N/A';
+    // List endpoints and stream events omit metadata; it is loaded from GET /alerts/{id} when expanded
+    const metadata = alert.metadata ? JSON.stringify(alert.metadata, null, 2) : '';
     
     let actionsHtml = '';
     if (showActions && alert.status !== 'RESOLVED' && alert.status !== 'AUTO_CLOSED') {
@@ -264,13 +287,40 @@ function createAlertCard(alert, showActions = false) {
                 ${alert.escalationReason ? `<p><strong style="color: #2c3e50;">Escalation Reason:</strong> ${alert.escalationReason}</p>` : ''}
                 ${alert.closedAt ? `<p><strong style="color: #2c3e50;">Closed At:</strong> ${new Date(alert.closedAt).toLocaleString()}</p>` : ''}
                 ${alert.closureReason ? `<p><strong style="color: #2c3e50;">Closure Reason:</strong> ${alert.closureReason}</p>` : ''}
-                ${metadata !== 'N/A' ? `<details style="margin-top: 12px;"><summary style="cursor: pointer; color: #3498db; font-weight: 500;">View Additional Details</summary><pre style="background: #f8f9fa; padding: 16px; border-radius: 6px; margin-top: 12px; overflow-x: auto; border: 1px solid #e1e8ed; font-size: 0.85em;">${metadata}</pre></details>` : ''}
+                <details style="margin-top: 12px;" ${alert.metadata ? 'data-loaded="true"' : ''} ontoggle="loadAlertDetails(this, '${alert.alertId}')"><summary style="cursor: pointer; color: #3498db; font-weight: 500;">View Additional Details</summary><pre style="background: #f8f9fa; padding: 16px; border-radius: 6px; margin-top: 12px; overflow-x: auto; border: 1px solid #e1e8ed; font-size: 0.85em;">${metadata || 'Loading...'}</pre></details>
             </div>
             ${actionsHtml}
         </div>
     `;
 }
 
+// Load an alert's metadata into its card the first time the details are expanded
+async function loadAlertDetails(details, alertId) {
+    if (!details.open || details.dataset.loaded) return;
+    details.dataset.loaded = 'true';
+    const pre = details.querySelector('pre');
+    
+    try {
+        const response = await fetch(`${API_BASE}/alerts/${alertId}`, {
+            headers: {
+                'Authorization': `Bearer ${authToken}`
+            }
+        });
+        const data = await response.json();
+        if (!data.success) {
+            throw new Error(data.message || 'Failed to load alert');
+        }
+        const metadata = data.data.metadata;
+        pre.textContent = metadata && Object.keys(metadata).length > 0
+            ? JSON.stringify(metadata, null, 2)
+            : 'No additional details';
+    } catch (error) {
+        console.error('Error loading alert details:', error);
+        pre.textContent = 'Failed to load details';
+        delete details.dataset.loaded;
+    }
+}
+
 // Create Alert
 async function createAlert() {
     const alertType = document.getElementById('alertType').value;
@@ -370,8 +420,7 @@ async function escalateAlert(alertId, severity) {
         
         if (data.success) {
             alert(`Alert escalated to ${severity} successfully!`);
-            loadActiveAlerts();
-            loadDashboard();
+            refreshUnlessLive();
         } else {
             alert('Error: ' + data.message);
         }
@@ -418,8 +467,7 @@ async function resolveAlert(alertId) {
         
         if (data.success) {
             alert('Alert resolved successfully!');
-            loadActiveAlerts();
-            loadDashboard();
+            refreshUnlessLive();
         } else {
             alert('Error: ' + data.message);
         }
@@ -441,45 +489,22 @@ async function filterAlertsByStatus(status) {
     event?.target?.closest('.tab-button')?.classList.add('active') || 
     document.querySelector('.tab-button[onclick*="alerts"]')?.classList.add('active');
     
-    // Load all alerts and filter by status
+    // Load the first page of alerts with this status
+    activeAlerts = null;
     document.getElementById('alertsList').innerHTML = '<div class="loading">Loading alerts...</div>';
     
     try {
-        // Get all alerts (we'll need to add an endpoint or use existing one)
-        const response = await fetch(`${API_BASE}/alerts/all?status=${status}`, {
-            headers: {
-                'Authorization': `Bearer ${authToken}`
-            }
-        });
-        
-        let alerts = [];
-        if (response.ok) {
-            const data = await response.json();
-            if (data.success) {
-                alerts = data.data || [];
-            }
-        } else {
-            // Fallback: get active alerts and filter client-side
-            const activeResponse = await fetch(`${API_BASE}/alerts/active`, {
-                headers: {
-                    'Authorization': `Bearer ${authToken}`
-                }
-            });
-            const activeData = await activeResponse.json();
-            if (activeData.success) {
-                alerts = activeData.data.filter(alert => alert.status === status) || [];
-            }
-        }
+        const page = await fetchAlertsPage(status, null);
         
-        if (alerts.length > 0) {
+        if (page.items.length > 0) {
             let html = `<div style="margin-bottom: 16px; padding: 12px; background: #e8f4f8; border-radius: 6px; border-left: 4px solid #3498db;">
-                <strong>Showing ${alerts.length} alert(s) with status: ${status.replace('_', ' ')}</strong>
+                <strong>Showing alerts with status: ${status.replace('_', ' ')}</strong>
                 <button onclick="loadActiveAlerts()" style="float: right; padding: 4px 12px; background: #3498db; color: white; border: none; border-radius: 4px; cursor: pointer;">Show All Active</button>
-            </div>`;
-            alerts.forEach(alert => {
-                html += createAlertCard(alert, alert.status === 'OPEN' || alert.status === 'ESCALATED');
-            });
+            </div>
+            <div id="statusAlertsPage"></div>
+            <div id="statusAlertsMore"></div>`;
             document.getElementById('alertsList').innerHTML = html;
+            appendAlertsPage(status, page);
         } else {
             document.getElementById('alertsList').innerHTML = `
                 <div style="text-align: center; padding: 60px; background: #f8f9fa; border-radius: 8px; border: 1px solid #e1e8ed;">
@@ -500,6 +525,48 @@ async function filterAlertsByStatus(status) {
     }
 }
 
+// Fetch one cursor page of alerts with a status
+async function fetchAlertsPage(status, cursor) {
+    let url = `${API_BASE}/alerts/all?status=${status}`;
+    if (cursor) {
+        url += `&cursor=${encodeURIComponent(cursor)}`;
+    }
+    const response = await fetch(url, {
+        headers: {
+            'Authorization': `Bearer ${authToken}`
+        }
+    });
+    const data = await response.json();
+    if (!response.ok || !data.success) {
+        throw new Error(data.message || 'Failed to load alerts');
+    }
+    return data.data;
+}
+
+// Append a page of alerts and offer the next one
+function appendAlertsPage(status, page) {
+    let html = '';
+    page.items.forEach(alert => {
+        html += createAlertCard(alert, alert.status === 'OPEN' || alert.status === 'ESCALATED');
+    });
+    document.getElementById('statusAlertsPage').insertAdjacentHTML('beforeend', html);
+    
+    const more = document.getElementById('statusAlertsMore');
+    more.innerHTML = page.hasMore
+        ? `<button onclick="loadMoreAlerts('${status}', '${page.nextCursor}')" style="display: block; margin: 16px auto; padding: 8px 16px; background: #3498db; color: white; border: none; border-radius: 4px; cursor: pointer;">Load more</button>`
+        : '';
+}
+
+// Load the page after the given cursor
+async function loadMoreAlerts(status, cursor) {
+    try {
+        appendAlertsPage(status, await fetchAlertsPage(status, cursor));
+    } catch (error) {
+        console.error('Error loading more alerts:', error);
+        alert('Error: ' + error.message);
+    }
+}
+
 // Demo Scenarios
 async function runOverspeedingDemo() {
     const resultDiv = document.getElementById('demo1Result');
@@ -542,10 +609,8 @@ async function runOverspeedingDemo() {
             </div>
         `;
         
-        // Refresh dashboard to show updated data
-        setTimeout(() => {
-            loadDashboard();
-        }, 1000);
+        // Refresh dashboard unless live events already updated it
+        setTimeout(refreshUnlessLive, 1000);
         
     } catch (error) {
         console.error('Overspeeding demo error:', error);
@@ -617,10 +682,8 @@ async function runComplianceDemo() {
             </div>
         `;
         
-        // Refresh dashboard to show updated data
-        setTimeout(() => {
-            loadDashboard();
-        }, 1000);
+        // Refresh dashboard unless live events already updated it
+        setTimeout(refreshUnlessLive, 1000);
         
     } catch (error) {
         console.error('Compliance demo error:', error);
@@ -674,10 +737,8 @@ async function runFeedbackDemo() {
             </div>
         `;
         
-        // Refresh dashboard to show updated data
-        setTimeout(() => {
-            loadDashboard();
-        }, 1000);
+        // Refresh dashboard unless live events already updated it
+        setTimeout(refreshUnlessLive, 1000);
         
     } catch (error) {
         console.error('Feedback demo error:', error);
@@ -690,3 +751,185 @@ async function runFeedbackDemo() {
     }
 }
 
+// Reload snapshots when no live stream is applying changes
+function refreshUnlessLive() {
+    if (streamConnected) return;
+    loadDashboard();
+    if (activeAlerts) loadActiveAlerts();
+}
+
+// Open the live alert event stream, reconnecting with backoff
+// Uses fetch rather than EventSource so the JWT can be sent as a header
+async function startEventStream() {
+    stopEventStream();
+    const controller = new AbortController();
+    eventStream = controller;
+    let retryDelay = 1000;
+    let reconnecting = false;
+    
+    while (eventStream === controller) {
+        try {
+            const response = await fetch(`${API_BASE}/alerts/events`, {
+                headers: {
+                    'Authorization': `Bearer ${authToken}`,
+                    'Accept': 'text/event-stream'
+                },
+                signal: controller.signal
+            });
+            if (response.status === 401 || response.status === 403) {
+                stopEventStream();
+                return;
+            }
+            if (!response.ok) {
+                throw new Error(`HTTP ${response.status}`);
+            }
+            
+            streamConnected = true;
+            retryDelay = 1000;
+            // Events are not replayed, so anything missed while disconnected comes from a fresh snapshot
+            if (reconnecting) {
+                loadDashboard();
+                if (activeAlerts) loadActiveAlerts();
+            }
+            await readEventStream(response.body, applyAlertEvent);
+        } catch (error) {
+            if (controller.signal.aborted) return;
+            console.warn('Alert event stream disconnected:', error.message);
+        }
+        
+        streamConnected = false;
+        reconnecting = true;
+        if (eventStream !== controller) return;
+        await new Promise(resolve => setTimeout(resolve, retryDelay));
+        retryDelay = Math.min(retryDelay * 2, 30000);
+    }
+}
+
+function stopEventStream() {
+    if (eventStream) {
+        eventStream.abort();
+        eventStream = null;
+    }
+    streamConnected = false;
+}
+
+// Parse a text/event-stream body, calling onEvent(name, data) per event
+async function readEventStream(body, onEvent) {
+    const reader = body.pipeThrough(new TextDecoderStream()).getReader();
+    let buffer = '';
+    
+    while (true) {
+        const { value, done } = await reader.read();
+        if (done) return;
+        buffer += value;
+        
+        let boundary;
+        while ((boundary = buffer.indexOf('\n\n')) >= 0) {
+            const block = buffer.slice(0, boundary);
+            buffer = buffer.slice(boundary + 2);
+            
+            let name = 'message';
+            const data = [];
+            block.split('\n').forEach(line => {
+                if (line.startsWith('event:')) {
+                    name = line.slice(6).trim();
+                } else if (line.startsWith('data:')) {
+                    data.push(line.slice(5).replace(/^ /, ''));
+                }
+            });
+            // Comment-only blocks (heartbeats) carry no data
+            if (data.length > 0) {
+                onEvent(name, JSON.parse(data.join('\n')));
+            }
+        }
+    }
+}
+
+// Apply one alert lifecycle event to the dashboard and active alert list
+function applyAlertEvent(eventType, event) {
+    // Too many changes at once (e.g. batch ingestion) to send as deltas
+    if (eventType === 'RESYNC') {
+        loadDashboard();
+        if (activeAlerts) loadActiveAlerts();
+        return;
+    }
+    
+    const alert = event.alert;
+    const wasActive = isActiveStatus(event.fromStatus);
+    const isActive = isActiveStatus(alert.status);
+    
+    if (dashboardState) {
+        const totals = {
+            'OPEN': 'totalOpenAlerts',
+            'ESCALATED': 'totalEscalatedAlerts',
+            'AUTO_CLOSED': 'totalAutoClosedAlerts',
+            'RESOLVED': 'totalResolvedAlerts'
+        };
+        if (event.fromStatus) {
+            dashboardState[totals[event.fromStatus]] = (dashboardState[totals[event.fromStatus]] || 0) - 1;
+        }
+        dashboardState[totals[alert.status]] = (dashboardState[totals[alert.status]] || 0) + 1;
+        
+        const severityCounts = dashboardState.severityCounts || (dashboardState.severityCounts = {});
+        if (wasActive) severityCounts[event.fromSeverity] = (severityCounts[event.fromSeverity] || 0) - 1;
+        if (isActive) severityCounts[alert.severity] = (severityCounts[alert.severity] || 0) + 1;
+        
+        if (alert.driverId && (wasActive || isActive)) {
+            applyToTopDrivers(alert.driverId, wasActive ? event.fromSeverity : null, isActive ? alert.severity : null);
+        }
+        
+        if (eventType === 'AUTO_CLOSED') {
+            const recent = (dashboardState.recentlyAutoClosedAlerts || [])
+                .filter(existing => existing.alertId !== alert.alertId);
+            recent.unshift(alert);
+            dashboardState.recentlyAutoClosedAlerts = recent.slice(0, 100);
+        }
+        
+        displayDashboard(dashboardState);
+    }
+    
+    if (activeAlerts) {
+        if (isActive) {
+            activeAlerts.set(alert.alertId, alert);
+        } else {
+            activeAlerts.delete(alert.alertId);
+        }
+        displayActiveAlerts();
+    }
+}
+
+// Move one active alert of a driver between severities in the top drivers list
+// Ranking changes that involve drivers outside the list need their counts, so they resync instead
+function applyToTopDrivers(driverId, fromSeverity, toSeverity) {
+    const drivers = dashboardState.topDrivers || [];
+    const driver = drivers.find(d => d.driverId === driverId);
+    const delta = (toSeverity ? 1 : 0) - (fromSeverity ? 1 : 0);
+    
+    if (!driver) {
+        if (delta > 0) scheduleDashboardResync();
+        return;
+    }
+    
+    const breakdown = driver.severityBreakdown || (driver.severityBreakdown = {});
+    if (fromSeverity) breakdown[fromSeverity] = (breakdown[fromSeverity] || 0) - 1;
+    if (toSeverity) breakdown[toSeverity] = (breakdown[toSeverity] || 0) + 1;
+    driver.totalAlerts += delta;
+    
+    if (delta < 0) {
+        scheduleDashboardResync();
+    }
+    drivers.sort((a, b) => b.totalAlerts - a.totalAlerts || a.driverId.localeCompare(b.driverId));
+}
+
+// Reload the dashboard snapshot at most once per few seconds
+function scheduleDashboardResync() {
+    if (dashboardResyncTimer) return;
+    dashboardResyncTimer = setTimeout(() => {
+        dashboardResyncTimer = null;
+        loadDashboard();
+    }, 5000);
+}
+
+function isActiveStatus(status) {
+    return status === 'OPEN' || status === 'ESCALATED';
+}
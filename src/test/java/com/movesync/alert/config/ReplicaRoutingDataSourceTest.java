@@ -0,0 +1,145 @@
+package com.movesync.alert.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routing between two in-memory H2 databases standing in for the primary and the replica
+ *
+ * Each database holds a marker row naming it, and the primary holds one row the replica lacks
+ * (written within the replica's lag).
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private ReplicaRoutingDataSource routing;
+    private JdbcTemplate jdbc;
+    private ReplicaReads replicaReads;
+
+    @BeforeEach
+    void setUp() {
+        primary = pool("primary", false);
+        replica = pool("replica", true);
+        seed(primary, "primary", "recent");
+        seed(replica, "replica", null);
+
+        // Checks run only when the test calls checkReplica() (besides the initial one)
+        routing = new ReplicaRoutingDataSource(primary, replica, 5000, 3_600_000);
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbc = new JdbcTemplate(dataSource);
+        replicaReads = new ReplicaReads(new DataSourceTransactionManager(dataSource));
+    }
+
+    @AfterEach
+    void tearDown() {
+        routing.close();
+        primary.close();
+    }
+
+    @Test
+    void routesOptedInReadsToUsableReplica() {
+        routing.checkReplica();
+
+        assertThat(routing.isReplicaUsable()).isTrue();
+        assertThat(replicaReads.call(this::servedBy)).isEqualTo("replica");
+        assertThat(servedBy()).isEqualTo("primary");
+        assertThat(routing.getReplicaConnections()).isEqualTo(1);
+        assertThat(routing.getPrimaryFallbacks()).isZero();
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenReplicaDown() {
+        routing.checkReplica();
+        replica.close();
+        routing.checkReplica();
+
+        assertThat(routing.isReplicaUsable()).isFalse();
+        assertThat(routing.getReplicaError()).startsWith("Check failed");
+        assertThat(replicaReads.call(this::servedBy)).isEqualTo("primary");
+        assertThat(routing.getPrimaryFallbacks()).isEqualTo(1);
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenReplicaConnectionFails() {
+        routing.checkReplica();
+        replica.close();
+
+        assertThat(replicaReads.call(this::servedBy)).isEqualTo("primary");
+        assertThat(routing.isReplicaUsable()).isFalse();
+        assertThat(routing.getReplicaError()).startsWith("Connection failed");
+    }
+
+    @Test
+    void findRepeatsReplicaMissOnPrimary() {
+        routing.checkReplica();
+        AtomicInteger lookups = new AtomicInteger();
+
+        Optional<String> found = replicaReads.find(() -> {
+            lookups.incrementAndGet();
+            return name("recent");
+        });
+
+        assertThat(found).contains("recent");
+        assertThat(lookups).hasValue(2);
+    }
+
+    @Test
+    void findDoesNotRepeatPrimaryMiss() {
+        replica.close();
+        routing.checkReplica();
+        AtomicInteger lookups = new AtomicInteger();
+
+        Optional<String> found = replicaReads.find(() -> {
+            lookups.incrementAndGet();
+            return name("missing");
+        });
+
+        assertThat(found).isEmpty();
+        assertThat(lookups).hasValue(1);
+    }
+
+    private String servedBy() {
+        return jdbc.queryForObject("SELECT name FROM marker WHERE kind = 'database'", String.class);
+    }
+
+    private Optional<String> name(String name) {
+        List<String> names = jdbc.queryForList("SELECT name FROM marker WHERE name = ?", String.class, name);
+        return names.stream().findFirst();
+    }
+
+    private static HikariDataSource pool(String name, boolean readOnly) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName(name);
+        pool.setJdbcUrl("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        pool.setMaximumPoolSize(2);
+        pool.setConnectionTimeout(1000);
+        pool.setReadOnly(readOnly);
+        return pool;
+    }
+
+    private static void seed(HikariDataSource pool, String database, String extraRow) {
+        HikariDataSource writer = new HikariDataSource();
+        writer.setJdbcUrl(pool.getJdbcUrl());
+        try (writer) {
+            JdbcTemplate template = new JdbcTemplate(writer);
+            template.execute("CREATE TABLE marker (kind VARCHAR(20), name VARCHAR(20))");
+            template.update("INSERT INTO marker VALUES ('database', ?)", database);
+            if (extraRow != null) {
+                template.update("INSERT INTO marker VALUES ('row', ?)", extraRow);
+            }
+        }
+    }
+}
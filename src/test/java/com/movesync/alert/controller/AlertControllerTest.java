@@ -0,0 +1,102 @@
+package com.movesync.alert.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.movesync.alert.dto.BatchAlertResponse;
+import com.movesync.alert.exception.InvalidAlertException;
+import com.movesync.alert.pipeline.AlertIngestPipeline;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Batch ingest bodies: parsed one alert at a time and cut off past alert.ingest.batch.max-size
+ */
+class AlertControllerTest {
+
+    private static final int MAX_BATCH_SIZE = 3;
+    private static final String ALERT = "{\"alertType\":\"OVERSPEEDING\",\"severity\":\"WARNING\",\"driverId\":\"DRV-1\"}";
+
+    private AlertIngestPipeline ingestPipeline;
+    private AlertController controller;
+
+    @BeforeEach
+    void setUp() {
+        ingestPipeline = mock(AlertIngestPipeline.class);
+        when(ingestPipeline.submitBatch(anyList())).thenReturn(BatchAlertResponse.builder().results(List.of()).build());
+        controller = new AlertController(null, ingestPipeline, null, new ObjectMapper().findAndRegisterModules());
+        ReflectionTestUtils.setField(controller, "maxBatchSize", MAX_BATCH_SIZE);
+    }
+
+    @Test
+    void acceptsBatchUpToMaxSize() {
+        controller.createAlertsBatch(body("[" + String.join(",", ALERT, ALERT, ALERT) + "]"));
+        controller.createAlertsBatchNdjson(body(String.join("\n", ALERT, ALERT, ALERT) + "\n"));
+
+        verify(ingestPipeline, times(2)).submitBatch(argThat(requests -> requests.size() == MAX_BATCH_SIZE));
+    }
+
+    @Test
+    void stopsReadingOversizedNdjsonBatch() {
+        // Never ends: only the cap stops the read
+        assertThatThrownBy(() -> controller.createAlertsBatchNdjson(endless(ALERT + "\n")))
+            .isInstanceOf(InvalidAlertException.class)
+            .hasMessageContaining("maximum of " + MAX_BATCH_SIZE);
+        verify(ingestPipeline, never()).submitBatch(anyList());
+    }
+
+    @Test
+    void stopsReadingOversizedJsonBatch() {
+        InputStream array = new SequenceInputStream(body("[" + ALERT), endless("," + ALERT));
+        assertThatThrownBy(() -> controller.createAlertsBatch(array))
+            .isInstanceOf(InvalidAlertException.class)
+            .hasMessageContaining("maximum of " + MAX_BATCH_SIZE);
+        verify(ingestPipeline, never()).submitBatch(anyList());
+    }
+
+    @Test
+    void rejectsJsonBatchThatIsNotAnArray() {
+        assertThatThrownBy(() -> controller.createAlertsBatch(body(ALERT)))
+            .isInstanceOf(InvalidAlertException.class)
+            .hasMessageContaining("JSON array");
+    }
+
+    @Test
+    void reportsMalformedLine() {
+        assertThatThrownBy(() -> controller.createAlertsBatchNdjson(body(ALERT + "\n{oops}\n")))
+            .isInstanceOf(InvalidAlertException.class)
+            .hasMessage("Malformed NDJSON at line 2");
+    }
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static InputStream endless(String chunk) {
+        byte[] bytes = chunk.getBytes(StandardCharsets.UTF_8);
+        return new InputStream() {
+            private int position;
+
+            @Override
+            public int read() {
+                int b = bytes[position];
+                position = (position + 1) % bytes.length;
+                return b;
+            }
+        };
+    }
+}
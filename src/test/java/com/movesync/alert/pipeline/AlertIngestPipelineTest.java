@@ -0,0 +1,96 @@
+package com.movesync.alert.pipeline;
+
+import com.movesync.alert.domain.enums.AlertSeverity;
+import com.movesync.alert.domain.enums.AlertStatus;
+import com.movesync.alert.domain.enums.AlertType;
+import com.movesync.alert.dto.BatchAlertResponse;
+import com.movesync.alert.dto.CreateAlertRequest;
+import com.movesync.alert.repository.AlertRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pipeline under backpressure: with the evaluate and escalate stages busy and their queues full,
+ * the thread handing off after commit runs both stages itself and must still escalate
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+    "spring.datasource.url=jdbc:h2:mem:pipeline;DB_CLOSE_DELAY=-1",
+    "spring.h2.console.enabled=false",
+    "alert.archive.enabled=false",
+    "alert.ingest.pipeline.evaluate-threads=1",
+    "alert.ingest.pipeline.evaluate-queue-capacity=1",
+    "alert.ingest.pipeline.escalate-threads=1",
+    "alert.ingest.pipeline.escalate-queue-capacity=1",
+    "logging.level.com.movesync.alert=WARN"
+})
+class AlertIngestPipelineTest {
+
+    @Autowired
+    private AlertIngestPipeline pipeline;
+    @Autowired
+    private AlertRepository alertRepository;
+
+    @Test
+    void escalatesWhenStagesRunOnTheCommittingThread() {
+        CountDownLatch release = new CountDownLatch(1);
+        ThreadPoolExecutor evaluateExecutor = stage("evaluateExecutor");
+        ThreadPoolExecutor escalateExecutor = stage("escalateExecutor");
+        fill(evaluateExecutor, release);
+        fill(escalateExecutor, release);
+
+        try {
+            String driverId = "DRV-" + UUID.randomUUID();
+            // OVERSPEEDING escalates at 3 occurrences within 60 minutes (rules.json)
+            BatchAlertResponse response = pipeline.submitBatch(IntStream.range(0, 3)
+                .mapToObj(i -> CreateAlertRequest.builder()
+                    .alertType(AlertType.OVERSPEEDING)
+                    .severity(AlertSeverity.WARNING)
+                    .driverId(driverId)
+                    .build())
+                .toList());
+
+            // Both stages ran on the persist worker before submitBatch returned
+            assertThat(evaluateExecutor.getCompletedTaskCount()).isZero();
+            assertThat(escalateExecutor.getCompletedTaskCount()).isZero();
+            List<String> alertIds = response.getResults().stream()
+                .map(result -> result.getAlert().getAlertId())
+                .toList();
+            assertThat(alertIds).hasSize(3);
+            assertThat(alertIds).allSatisfy(alertId ->
+                assertThat(alertRepository.findByIdPruned(alertId).orElseThrow().getStatus())
+                    .isEqualTo(AlertStatus.ESCALATED));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private ThreadPoolExecutor stage(String field) {
+        return (ThreadPoolExecutor) ReflectionTestUtils.getField(pipeline, field);
+    }
+
+    /**
+     * Occupy the stage's only thread and its only queue slot until released
+     */
+    private static void fill(ThreadPoolExecutor executor, CountDownLatch release) {
+        Runnable blocked = () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        executor.execute(blocked);
+        executor.execute(blocked);
+        assertThat(executor.getQueue().remainingCapacity()).isZero();
+    }
+}
@@ -0,0 +1,272 @@
+package com.movesync.alert.repository;
+
+import com.movesync.alert.domain.enums.AlertSeverity;
+import com.movesync.alert.domain.enums.AlertStatus;
+import com.movesync.alert.domain.enums.AlertType;
+import com.movesync.alert.domain.metadata.MetadataFormat;
+import com.movesync.alert.domain.model.Alert;
+import com.movesync.alert.domain.model.AlertHistory;
+import com.movesync.alert.domain.model.UuidV7;
+import com.movesync.alert.monitoring.SqlStatementCounter;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query plan check on H2: seeds an alert population, runs every repository access path,
+ * captures the SQL it issues through SqlStatementCounter and fails on any plan that scans a
+ * table instead of using an index
+ *
+ * Complements the PostgreSQL run of the loadtest QueryPlanCheck; this one runs in the default build.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+    "spring.datasource.url=jdbc:h2:mem:queryplan;DB_CLOSE_DELAY=-1",
+    "spring.h2.console.enabled=false",
+    "alert.archive.enabled=false",
+    "logging.level.com.movesync.alert=WARN"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTest {
+
+    private static final int ALERTS = 20_000;
+    private static final int DRIVERS = 1_000;
+    private static final int SEED_BATCH = 1_000;
+    private static final Pattern TABLE_SCAN = Pattern.compile("PUBLIC\\.(\\w+)\\.tableScan");
+    // An index read without a condition walks the whole index
+    private static final Pattern FULL_INDEX_SCAN = Pattern.compile("/\\* PUBLIC\\.(\\w+) \\*/");
+    private static final Pattern ROW_LIMIT = Pattern.compile("(?i)\\b(fetch first|limit)\\b");
+    // Reads that return every alert, so they are expected to walk a whole index (in order, never the table)
+    private static final Set<String> WHOLE_TABLE_READS = Set.of("streamAll", "countByStatusAndSeverity");
+    private static final List<AlertStatus> ACTIVE = List.of(AlertStatus.OPEN, AlertStatus.ESCALATED);
+    private static final List<AlertStatus> CLOSED = List.of(AlertStatus.AUTO_CLOSED, AlertStatus.RESOLVED);
+
+    @Autowired
+    private AlertRepository alertRepository;
+    @Autowired
+    private AlertHistoryRepository alertHistoryRepository;
+    @Autowired
+    private AlertHistoryJdbcRepository alertHistoryJdbcRepository;
+    @Autowired
+    private AlertMetadataJdbcRepository alertMetadataJdbcRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final LocalDateTime now = LocalDateTime.now();
+    private final List<SeededAlert> sample = new ArrayList<>();
+
+    @BeforeAll
+    void seed() {
+        Random random = new Random(42);
+        AlertType[] types = AlertType.values();
+        AlertSeverity[] severities = AlertSeverity.values();
+        List<Object[]> alertRows = new ArrayList<>(SEED_BATCH);
+        List<Object[]> historyRows = new ArrayList<>(SEED_BATCH * 2);
+
+        for (int i = 0; i < ALERTS; i++) {
+            LocalDateTime timestamp = now.minusSeconds(random.nextInt(30 * 24 * 3600));
+            UUID alertId = UuidV7.at(Timestamp.valueOf(timestamp).getTime());
+            boolean recent = timestamp.isAfter(now.minusDays(2));
+            AlertStatus status = recent && random.nextInt(4) == 0
+                ? ACTIVE.get(random.nextInt(ACTIVE.size()))
+                : CLOSED.get(random.nextInt(3) == 0 ? 1 : 0);
+            boolean closed = status.isClosed();
+            LocalDateTime closedAt = closed ? timestamp.plusMinutes(random.nextInt(24 * 60)) : null;
+            String driverId = "DRV-" + random.nextInt(DRIVERS);
+            if (i % (ALERTS / 20) == 0) {
+                sample.add(new SeededAlert(alertId.toString(), timestamp, driverId));
+            }
+
+            alertRows.add(new Object[]{alertId, types[random.nextInt(types.length)].name(),
+                severities[random.nextInt(severities.length)].name(), Timestamp.valueOf(timestamp),
+                status.name(), driverId, closedAt == null ? null : Timestamp.valueOf(closedAt),
+                Timestamp.valueOf(timestamp), 0L});
+            historyRows.add(new Object[]{UuidV7.next(), alertId, null, AlertStatus.OPEN.name(),
+                Timestamp.valueOf(timestamp), "CREATED"});
+            if (status != AlertStatus.OPEN) {
+                historyRows.add(new Object[]{UuidV7.next(), alertId, AlertStatus.OPEN.name(), status.name(),
+                    Timestamp.valueOf(closedAt != null ? closedAt : timestamp.plusMinutes(5)), status.name()});
+            }
+
+            if (alertRows.size() == SEED_BATCH || i == ALERTS - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO alerts (alert_id, alert_type, severity, timestamp, status, "
+                    + "driver_id, closed_at, created_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", alertRows);
+                jdbcTemplate.batchUpdate("INSERT INTO alert_history (history_id, alert_id, from_status, to_status, "
+                    + "timestamp, event_type) VALUES (?, ?, ?, ?, ?, ?)", historyRows);
+                alertRows.clear();
+                historyRows.clear();
+            }
+        }
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @TestFactory
+    Stream<DynamicTest> repositoryQueriesUseIndexes() {
+        return probes().entrySet().stream()
+            .map(probe -> DynamicTest.dynamicTest(probe.getKey(),
+                () -> assertIndexed(probe.getValue(), WHOLE_TABLE_READS.contains(probe.getKey()))));
+    }
+
+    /**
+     * One call per repository access path, with representative arguments
+     */
+    private Map<String, Runnable> probes() {
+        SeededAlert alert = sample.get(0);
+        List<String> alertIds = sample.stream().map(SeededAlert::alertId).toList();
+        List<String> driverIds = sample.stream().map(SeededAlert::driverId).toList();
+        LocalDateTime from = sample.stream().map(SeededAlert::timestamp).min(LocalDateTime::compareTo).orElseThrow();
+        LocalDateTime to = sample.stream().map(SeededAlert::timestamp).max(LocalDateTime::compareTo).orElseThrow();
+        PageRequest chunk = PageRequest.of(0, 1000);
+        PageRequest page = PageRequest.of(0, 101);
+
+        Map<String, Runnable> probes = new LinkedHashMap<>();
+        // AlertRepository
+        probes.put("findByIdPruned", () -> alertRepository.findByIdPruned(alert.alertId()));
+        probes.put("findByIdPruned(random id)", () -> alertRepository.findByIdPruned(UUID.randomUUID().toString()));
+        probes.put("findAllByIdWithin", () -> alertRepository.findAllByIdWithin(alertIds, from, to));
+        probes.put("findAllByIdSince", () -> alertRepository.findAllByIdSince(alertIds, from));
+        probes.put("save and update", () -> {
+            Alert created = alertRepository.save(Alert.builder().alertType(AlertType.OVERSPEEDING)
+                .severity(AlertSeverity.INFO).driverId(alert.driverId()).build());
+            entityManager.flush();
+            created.setSeverity(AlertSeverity.WARNING);
+            entityManager.flush();
+        });
+        probes.put("findByStatusIn", () -> alertRepository.findByStatusIn(ACTIVE));
+        probes.put("findByStatus", () -> alertRepository.findByStatus(AlertStatus.OPEN));
+        probes.put("findByDriverIdAndStatusIn", () -> alertRepository.findByDriverIdAndStatusIn(alert.driverId(), ACTIVE));
+        probes.put("findRecentAlertsByTypeAndDriver", () -> alertRepository.findRecentAlertsByTypeAndDriver(
+            AlertType.OVERSPEEDING, alert.driverId(), now.minusHours(1)));
+        probes.put("findOccurrencesSince", () -> alertRepository.findOccurrencesSince(now.minusHours(1)));
+        probes.put("findOccurrencesByStatusIn", () -> alertRepository.findOccurrencesByStatusIn(ACTIVE));
+        probes.put("findLatestOccurrencesSince", () -> alertRepository.findLatestOccurrencesSince(now.minusHours(1)));
+        probes.put("findLatestOccurrencesByTypeAndDriver", () -> alertRepository.findLatestOccurrencesByTypeAndDriver(
+            List.of(AlertType.OVERSPEEDING, AlertType.HARSH_BRAKING), driverIds, now));
+        probes.put("bulkAutoClose", () -> alertRepository.bulkAutoClose(alertIds, from, to,
+            AlertStatus.OPEN, AlertStatus.AUTO_CLOSED, "test", now));
+        probes.put("findIdsClosedAt", () -> alertRepository.findIdsClosedAt(alertIds, from, to,
+            AlertStatus.AUTO_CLOSED, now));
+        probes.put("bulkEscalate", () -> alertRepository.bulkEscalate(alertIds, from, to,
+            AlertStatus.OPEN, AlertStatus.ESCALATED, AlertSeverity.CRITICAL, "test", now));
+        probes.put("findIdsEscalatedAt", () -> alertRepository.findIdsEscalatedAt(alertIds, from, to,
+            AlertStatus.ESCALATED, now));
+        probes.put("findFirstPage", () -> alertRepository.findPageAfter(null, null, null, page));
+        probes.put("findFirstPageByStatus", () -> alertRepository.findPageAfter(AlertStatus.OPEN, null, null, page));
+        probes.put("findPageAfterCursor", () -> alertRepository.findPageAfter(
+            null, alert.timestamp(), alert.alertId(), page));
+        probes.put("findPageAfterCursorByStatus", () -> alertRepository.findPageAfter(
+            AlertStatus.OPEN, alert.timestamp(), alert.alertId(), page));
+        probes.put("streamAll", () -> {
+            try (Stream<?> alerts = alertRepository.streamByStatus(null)) {
+                alerts.limit(1).count();
+            }
+        });
+        probes.put("streamWithStatus", () -> {
+            try (Stream<?> alerts = alertRepository.streamByStatus(AlertStatus.ESCALATED)) {
+                alerts.limit(1).count();
+            }
+        });
+        probes.put("countByStatusAndSeverity", () -> alertRepository.countByStatusAndSeverity());
+        probes.put("countByDriverAndSeverity", () -> alertRepository.countByDriverAndSeverity(ACTIVE));
+        probes.put("findTopDriverSeverityCounts", () -> alertRepository.findTopDriverSeverityCounts(ACTIVE, 10));
+        probes.put("findRecentlyAutoClosedAlerts", () -> alertRepository.findRecentlyAutoClosedAlerts(now.minusHours(24)));
+        probes.put("findLatestClosed", () -> alertRepository.findLatestClosed(AlertStatus.RESOLVED));
+        probes.put("findAlertsEligibleForAutoClosure", () -> alertRepository.findAlertsEligibleForAutoClosure(now.minusHours(24)));
+        probes.put("findByStatusAndSeverity", () -> alertRepository.findByStatusAndSeverity(
+            AlertStatus.ESCALATED, AlertSeverity.CRITICAL));
+        probes.put("countByStatus", () -> alertRepository.countByStatus(AlertStatus.OPEN));
+        probes.put("countByAlertTypeAndTimestampAfter", () -> alertRepository.countByAlertTypeAndTimestampAfter(
+            AlertType.OVERSPEEDING, now.minusHours(1)));
+        probes.put("findIdsOlderThan", () -> alertRepository.findIdsOlderThan(now.minusDays(29), chunk));
+        probes.put("findClosedBefore", () -> alertRepository.findClosedBefore(CLOSED, now.minusDays(29), chunk));
+        probes.put("deleteByAlertIdIn", () -> alertRepository.deleteByAlertIdIn(alertIds));
+        // AlertHistoryRepository
+        probes.put("findByAlertIdOrderByTimestampAsc", () -> alertHistoryRepository.findByAlertIdOrderByTimestampAsc(alert.alertId()));
+        probes.put("findByAlertIdPruned", () -> alertHistoryRepository.findByAlertIdPruned(alert.alertId()));
+        probes.put("findTop100ByOrderByTimestampDesc", () -> alertHistoryRepository.findTop100ByOrderByTimestampDesc());
+        probes.put("findByEventTypeAndTimestampBetween", () -> alertHistoryRepository.findByEventTypeAndTimestampBetween(
+            "ESCALATED", now.minusDays(1), now));
+        probes.put("countEventsByType", () -> alertHistoryRepository.countEventsByType(now.minusHours(24)));
+        probes.put("findRecentEvents", () -> alertHistoryRepository.findRecentEvents(now.minusHours(1)));
+        probes.put("findByAlertIdIn", () -> alertHistoryRepository.findByAlertIdIn(alertIds));
+        probes.put("history findIdsOlderThan", () -> alertHistoryRepository.findIdsOlderThan(now.minusDays(29), chunk));
+        probes.put("deleteByHistoryIdIn", () -> alertHistoryRepository.deleteByHistoryIdIn(List.of(UuidV7.nextString())));
+        probes.put("history deleteByAlertIdIn", () -> alertHistoryRepository.deleteByAlertIdIn(alertIds));
+        // JDBC repositories
+        probes.put("insertAll", () -> alertHistoryJdbcRepository.insertAll(
+            List.of(AlertHistory.forEscalation(alert.alertId(), AlertStatus.OPEN, "test"))));
+        probes.put("findNotInFormat", () -> alertMetadataJdbcRepository.findNotInFormat(
+            MetadataFormat.SMILE_DICTIONARY, UuidV7.at(0), 100));
+        probes.put("updateIfUnchanged", () -> alertMetadataJdbcRepository.updateIfUnchanged(
+            List.of(new AlertMetadataJdbcRepository.EncodedMetadata(UUID.fromString(alert.alertId()),
+                alert.timestamp(), new byte[]{0})), List.of(new byte[]{0})));
+        return probes;
+    }
+
+    /**
+     * Run one probe in a rolled back transaction and EXPLAIN every statement it issued
+     * Fails on any table scan, and on a whole-index read unless a row limit stops it early or the
+     * probe returns every alert
+     */
+    private void assertIndexed(Runnable probe, boolean readsWholeTable) {
+        List<String> statements;
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.record()) {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                probe.run();
+                status.setRollbackOnly();
+            });
+            statements = scope.sql();
+        }
+        assertThat(statements).as("statements issued").isNotEmpty();
+
+        for (String sql : statements) {
+            String plan = jdbcTemplate.query(connection -> connection.prepareStatement("EXPLAIN " + sql),
+                (ResultSet rs) -> rs.next() ? rs.getString(1) : "");
+            List<String> scannedTables = new ArrayList<>();
+            Matcher scan = TABLE_SCAN.matcher(plan);
+            while (scan.find()) {
+                scannedTables.add(scan.group(1));
+            }
+            assertThat(scannedTables).as("tables scanned by %s%nplan: %s", sql, plan).isEmpty();
+
+            if (!readsWholeTable && !ROW_LIMIT.matcher(sql).find()) {
+                List<String> fullIndexes = new ArrayList<>();
+                Matcher fullIndex = FULL_INDEX_SCAN.matcher(plan);
+                while (fullIndex.find()) {
+                    fullIndexes.add(fullIndex.group(1));
+                }
+                assertThat(fullIndexes).as("indexes read whole by %s%nplan: %s", sql, plan).isEmpty();
+            }
+        }
+    }
+
+    private record SeededAlert(String alertId, LocalDateTime timestamp, String driverId) {
+    }
+}